@@ -1,6 +1,8 @@
 package io.dropwizard.assets;
 
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.Bundle;
+import io.dropwizard.servlets.assets.AssetCache;
 import io.dropwizard.servlets.assets.AssetServlet;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
@@ -25,6 +27,9 @@ public class AssetsBundle implements Bundle {
     private final String uriPath;
     private final String indexFile;
     private final String assetsName;
+    private final long maxCacheSizeInBytes;
+    private final boolean revalidateCache;
+    private final boolean precompressed;
 
     /**
      * Creates a new AssetsBundle which serves up static assets from
@@ -91,12 +96,57 @@ public class AssetsBundle implements Bundle {
      * @param assetsName          the name of servlet mapping used for this assets bundle
      */
     public AssetsBundle(String resourcePath, String uriPath, String indexFile, String assetsName) {
+        this(resourcePath, uriPath, indexFile, assetsName, 0, false);
+    }
+
+    /**
+     * Creates a new AssetsBundle which will configure the application to serve the static files
+     * located in {@code src/main/resources/${resourcePath}} as {@code /${uriPath}} and keep up to
+     * {@code maxCacheSizeInBytes} of them in memory. Cached assets are served without reading or
+     * hashing the resource again; the hits, misses and evictions of the cache are reported to the
+     * application's {@link MetricRegistry}.
+     *
+     * @param resourcePath        the resource path (in the classpath) of the static asset files
+     * @param uriPath             the uri path for the static asset files
+     * @param indexFile           the name of the index file to use
+     * @param assetsName          the name of servlet mapping used for this assets bundle
+     * @param maxCacheSizeInBytes the maximum total size of the cached assets, or 0 to disable caching
+     * @param revalidateCache     whether cached assets should be reloaded when their resource changes
+     * @see AssetsBundle#AssetsBundle(String, String, String, String)
+     */
+    public AssetsBundle(String resourcePath, String uriPath, String indexFile, String assetsName,
+                        long maxCacheSizeInBytes, boolean revalidateCache) {
+        this(resourcePath, uriPath, indexFile, assetsName, maxCacheSizeInBytes, revalidateCache, false);
+    }
+
+    /**
+     * Creates a new AssetsBundle which will configure the application to serve the static files
+     * located in {@code src/main/resources/${resourcePath}} as {@code /${uriPath}}. If
+     * {@code precompressed} is set, the {@code .br} or {@code .gz} sibling of an asset, e.g.
+     * {@code src/main/resources/assets/example.js.gz}, is served to clients which accept that
+     * content coding.
+     *
+     * @param resourcePath        the resource path (in the classpath) of the static asset files
+     * @param uriPath             the uri path for the static asset files
+     * @param indexFile           the name of the index file to use
+     * @param assetsName          the name of servlet mapping used for this assets bundle
+     * @param maxCacheSizeInBytes the maximum total size of the cached assets, or 0 to disable caching
+     * @param revalidateCache     whether cached assets should be reloaded when their resource changes
+     * @param precompressed       whether precompressed siblings of the static asset files should be served
+     * @see AssetsBundle#AssetsBundle(String, String, String, String, long, boolean)
+     */
+    public AssetsBundle(String resourcePath, String uriPath, String indexFile, String assetsName,
+                        long maxCacheSizeInBytes, boolean revalidateCache, boolean precompressed) {
+        checkArgument(maxCacheSizeInBytes >= 0, "%s is not a valid cache size", maxCacheSizeInBytes);
         checkArgument(resourcePath.startsWith("/"), "%s is not an absolute path", resourcePath);
         checkArgument(!"/".equals(resourcePath), "%s is the classpath root", resourcePath);
         this.resourcePath = resourcePath.endsWith("/") ? resourcePath : (resourcePath + '/');
         this.uriPath = uriPath.endsWith("/") ? uriPath : (uriPath + '/');
         this.indexFile = indexFile;
         this.assetsName = assetsName;
+        this.maxCacheSizeInBytes = maxCacheSizeInBytes;
+        this.revalidateCache = revalidateCache;
+        this.precompressed = precompressed;
     }
 
     @Override
@@ -107,7 +157,7 @@ public class AssetsBundle implements Bundle {
     @Override
     public void run(Environment environment) {
         LOGGER.info("Registering AssetBundle with name: {} for path {}", assetsName, uriPath + '*');
-        environment.servlets().addServlet(assetsName, createServlet()).addMapping(uriPath + '*');
+        environment.servlets().addServlet(assetsName, createServlet(environment.metrics())).addMapping(uriPath + '*');
     }
 
     public String getResourcePath() {
@@ -122,7 +172,28 @@ public class AssetsBundle implements Bundle {
         return indexFile;
     }
 
+    public long getMaxCacheSizeInBytes() {
+        return maxCacheSizeInBytes;
+    }
+
+    public boolean isRevalidateCache() {
+        return revalidateCache;
+    }
+
+    public boolean isPrecompressed() {
+        return precompressed;
+    }
+
     protected AssetServlet createServlet() {
         return new AssetServlet(resourcePath, uriPath, indexFile, StandardCharsets.UTF_8);
     }
+
+    protected AssetServlet createServlet(MetricRegistry metricRegistry) {
+        if (maxCacheSizeInBytes == 0 && !precompressed) {
+            return createServlet();
+        }
+        final AssetCache cache = maxCacheSizeInBytes == 0 ? null :
+                new AssetCache(metricRegistry, assetsName, maxCacheSizeInBytes, revalidateCache);
+        return new AssetServlet(resourcePath, uriPath, indexFile, StandardCharsets.UTF_8, cache, precompressed);
+    }
 }
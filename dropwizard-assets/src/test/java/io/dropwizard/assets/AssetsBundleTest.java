@@ -1,7 +1,9 @@
 package io.dropwizard.assets;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.io.Resources;
 import io.dropwizard.jetty.setup.ServletEnvironment;
+import io.dropwizard.servlets.assets.AssetCache;
 import io.dropwizard.servlets.assets.AssetServlet;
 import io.dropwizard.servlets.assets.ResourceURL;
 import io.dropwizard.setup.Environment;
@@ -23,6 +25,7 @@ import static org.mockito.Mockito.when;
 public class AssetsBundleTest {
     private final ServletEnvironment servletEnvironment = mock(ServletEnvironment.class);
     private final Environment environment = mock(Environment.class);
+    private final MetricRegistry metricRegistry = new MetricRegistry();
 
     private AssetServlet servlet = new AssetServlet("/", "/", null, null);
     private String servletPath = "";
@@ -30,6 +33,7 @@ public class AssetsBundleTest {
     @Before
     public void setUp() throws Exception {
         when(environment.servlets()).thenReturn(servletEnvironment);
+        when(environment.metrics()).thenReturn(metricRegistry);
     }
 
     @Test
@@ -130,6 +134,31 @@ public class AssetsBundleTest {
                 .isEqualTo("/what");
     }
 
+    @Test
+    public void doesNotCacheAssetsByDefault() throws Exception {
+        runBundle(new AssetsBundle());
+
+        assertThat(servlet.getCache())
+                .isNull();
+    }
+
+    @Test
+    public void canCacheAssets() throws Exception {
+        runBundle(new AssetsBundle("/json", "/what", "index.txt", "cached", 1024, true), "cached");
+
+        final AssetCache cache = servlet.getCache();
+        assertThat(cache)
+                .isNotNull();
+
+        assertThat(cache != null && cache.isRevalidating())
+                .isTrue();
+
+        assertThat(metricRegistry.getMeters())
+                .containsKeys("io.dropwizard.servlets.assets.AssetServlet.cached.cache-hits",
+                        "io.dropwizard.servlets.assets.AssetServlet.cached.cache-misses",
+                        "io.dropwizard.servlets.assets.AssetServlet.cached.cache-evictions");
+    }
+
     private URL normalize(String path) {
         return ResourceURL.appendTrailingSlash(Resources.getResource(path));
     }
@@ -1,16 +1,19 @@
 package io.dropwizard.client;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
 import org.apache.http.StatusLine;
 import org.apache.http.client.config.RequestConfig;
-import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.util.VersionInfo;
 import org.glassfish.jersey.apache.connector.LocalizationMessages;
 import org.glassfish.jersey.client.ClientProperties;
@@ -30,9 +33,12 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Dropwizard Apache Connector.
@@ -50,6 +56,12 @@ import static com.google.common.base.MoreObjects.firstNonNull;
  * the Apache HttpClient in Dropwizard with a fluent interface
  * of JerseyClient.
  * </p>
+ * <p>
+ * If it's provided with a {@link CloseableHttpAsyncClient}, asynchronous requests
+ * are executed without blocking a thread until the response arrives. The response is
+ * then handed off to the callback executor, so that the response filters and the
+ * callbacks of the application don't run on the I/O dispatcher threads of the client.
+ * </p>
  */
 public class DropwizardApacheConnector implements Connector {
 
@@ -61,6 +73,15 @@ public class DropwizardApacheConnector implements Connector {
      * Actual HTTP client
      */
     private final CloseableHttpClient client;
+    /**
+     * Non-blocking HTTP client for asynchronous requests
+     */
+    @Nullable
+    private final CloseableHttpAsyncClient asyncClient;
+    /**
+     * Executor of the callbacks of asynchronous requests
+     */
+    private final Executor callbackExecutor;
     /**
      * Default HttpUriRequestConfig
      */
@@ -74,7 +95,26 @@ public class DropwizardApacheConnector implements Connector {
 
     public DropwizardApacheConnector(CloseableHttpClient client, @Nullable RequestConfig defaultRequestConfig,
                                      boolean chunkedEncodingEnabled) {
+        this(client, null, MoreExecutors.directExecutor(), defaultRequestConfig, chunkedEncodingEnabled);
+    }
+
+    /**
+     * Creates a connector which executes asynchronous requests with a non-blocking client.
+     *
+     * @param client                 the client for synchronous requests
+     * @param asyncClient            the started client for asynchronous requests, or {@code null}
+     *                               to execute them with {@code client}
+     * @param callbackExecutor       the executor which processes the responses of {@code asyncClient},
+     *                               instead of its I/O dispatcher threads
+     * @param defaultRequestConfig   the default request configuration of the clients
+     * @param chunkedEncodingEnabled whether a chunked encoding should be used in synchronous requests
+     */
+    public DropwizardApacheConnector(CloseableHttpClient client, @Nullable CloseableHttpAsyncClient asyncClient,
+                                     Executor callbackExecutor, @Nullable RequestConfig defaultRequestConfig,
+                                     boolean chunkedEncodingEnabled) {
         this.client = client;
+        this.asyncClient = asyncClient;
+        this.callbackExecutor = requireNonNull(callbackExecutor);
         this.defaultRequestConfig = defaultRequestConfig;
         this.chunkedEncodingEnabled = chunkedEncodingEnabled;
     }
@@ -85,33 +125,44 @@ public class DropwizardApacheConnector implements Connector {
     @Override
     public ClientResponse apply(ClientRequest jerseyRequest) {
         try {
-            final HttpUriRequest apacheRequest = buildApacheRequest(jerseyRequest);
-            final CloseableHttpResponse apacheResponse = client.execute(apacheRequest);
-
-            final StatusLine statusLine = apacheResponse.getStatusLine();
-            final Response.StatusType status = Statuses.from(statusLine.getStatusCode(),
-                    firstNonNull(statusLine.getReasonPhrase(), ""));
-
-            final ClientResponse jerseyResponse = new ClientResponse(status, jerseyRequest);
-            for (Header header : apacheResponse.getAllHeaders()) {
-                final List<String> headerValues = jerseyResponse.getHeaders().get(header.getName());
-                if (headerValues == null) {
-                    jerseyResponse.getHeaders().put(header.getName(), Lists.newArrayList(header.getValue()));
-                } else {
-                    headerValues.add(header.getValue());
-                }
-            }
-
-            final HttpEntity httpEntity = apacheResponse.getEntity();
-            jerseyResponse.setEntityStream(httpEntity != null ? httpEntity.getContent() :
-                    new ByteArrayInputStream(new byte[0]));
-
-            return jerseyResponse;
+            final HttpUriRequest apacheRequest = buildApacheRequest(jerseyRequest, getHttpEntity(jerseyRequest));
+            return buildJerseyResponse(jerseyRequest, client.execute(apacheRequest));
         } catch (Exception e) {
             throw new ProcessingException(e);
         }
     }
 
+    /**
+     * Build a new Jersey's {@link org.glassfish.jersey.client.ClientResponse}
+     * from Apache's {@link org.apache.http.HttpResponse}
+     *
+     * @param jerseyRequest  representation of the HTTP request in Jersey
+     * @param apacheResponse the HTTP response received by Apache's client
+     * @return a new {@link org.glassfish.jersey.client.ClientResponse}
+     */
+    private ClientResponse buildJerseyResponse(ClientRequest jerseyRequest, HttpResponse apacheResponse)
+            throws IOException {
+        final StatusLine statusLine = apacheResponse.getStatusLine();
+        final Response.StatusType status = Statuses.from(statusLine.getStatusCode(),
+                firstNonNull(statusLine.getReasonPhrase(), ""));
+
+        final ClientResponse jerseyResponse = new ClientResponse(status, jerseyRequest);
+        for (Header header : apacheResponse.getAllHeaders()) {
+            final List<String> headerValues = jerseyResponse.getHeaders().get(header.getName());
+            if (headerValues == null) {
+                jerseyResponse.getHeaders().put(header.getName(), Lists.newArrayList(header.getValue()));
+            } else {
+                headerValues.add(header.getValue());
+            }
+        }
+
+        final HttpEntity httpEntity = apacheResponse.getEntity();
+        jerseyResponse.setEntityStream(httpEntity != null ? httpEntity.getContent() :
+                new ByteArrayInputStream(new byte[0]));
+
+        return jerseyResponse;
+    }
+
     /**
      * Build a new Apache's {@link org.apache.http.client.methods.HttpUriRequest}
      * from Jersey's {@link org.glassfish.jersey.client.ClientRequest}
@@ -120,13 +171,14 @@ public class DropwizardApacheConnector implements Connector {
      * </p>
      *
      * @param jerseyRequest representation of an HTTP request in Jersey
+     * @param entity        the body of the request
      * @return a new {@link org.apache.http.client.methods.HttpUriRequest}
      */
-    private HttpUriRequest buildApacheRequest(ClientRequest jerseyRequest) {
+    private HttpUriRequest buildApacheRequest(ClientRequest jerseyRequest, @Nullable HttpEntity entity) {
         final RequestBuilder builder = RequestBuilder
                 .create(jerseyRequest.getMethod())
                 .setUri(jerseyRequest.getUri())
-                .setEntity(getHttpEntity(jerseyRequest));
+                .setEntity(entity);
         for (String headerName : jerseyRequest.getHeaders().keySet()) {
             builder.addHeader(headerName, jerseyRequest.getHeaderString(headerName));
         }
@@ -189,16 +241,63 @@ public class DropwizardApacheConnector implements Connector {
      */
     @Override
     public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
-        // Simulate an asynchronous execution
-        return MoreExecutors.newDirectExecutorService().submit(() -> {
-            try {
-                callback.response(apply(request));
-            } catch (Exception e) {
-                callback.failure(e);
+        if (asyncClient == null) {
+            // Simulate an asynchronous execution
+            return MoreExecutors.newDirectExecutorService().submit(() -> {
+                try {
+                    callback.response(apply(request));
+                } catch (Exception e) {
+                    callback.failure(e);
+                }
+            });
+        }
+
+        final HttpUriRequest apacheRequest;
+        try {
+            // The non-blocking client reads the body from the entity, so it must be buffered
+            apacheRequest = buildApacheRequest(request, request.getEntity() == null ? null :
+                    new BufferedJerseyRequestHttpEntity(request));
+        } catch (Exception e) {
+            callback.failure(e);
+            return Futures.immediateFailedFuture(e);
+        }
+
+        return asyncClient.execute(apacheRequest, new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(HttpResponse apacheResponse) {
+                // the entity has been read into memory by the client, so it can be read on another thread
+                handOff(callback, () -> {
+                    final ClientResponse jerseyResponse;
+                    try {
+                        jerseyResponse = buildJerseyResponse(request, apacheResponse);
+                    } catch (Exception e) {
+                        callback.failure(new ProcessingException(e));
+                        return;
+                    }
+                    callback.response(jerseyResponse);
+                });
+            }
+
+            @Override
+            public void failed(Exception e) {
+                handOff(callback, () -> callback.failure(new ProcessingException(e)));
+            }
+
+            @Override
+            public void cancelled() {
+                handOff(callback, () -> callback.failure(new ProcessingException("The request has been cancelled")));
             }
         });
     }
 
+    private void handOff(AsyncConnectorCallback callback, Runnable task) {
+        try {
+            callbackExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            callback.failure(new ProcessingException("The response can't be processed", e));
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -212,7 +311,7 @@ public class DropwizardApacheConnector implements Connector {
      */
     @Override
     public void close() {
-        // Should not close the client here, because it's managed by the Dropwizard environment
+        // Should not close the clients here, because they're managed by the Dropwizard environment
     }
 
     /**
@@ -320,15 +419,10 @@ public class DropwizardApacheConnector implements Connector {
 
         /**
          * {@inheritDoc}
-         * <p>
-         * This method isn't supported at will throw an {@link java.lang.UnsupportedOperationException}
-         * if invoked.
-         * </p>
          */
         @Override
         public InputStream getContent() throws IOException {
-            // Shouldn't be called
-            throw new UnsupportedOperationException("Reading from the entity is not supported");
+            return new ByteArrayInputStream(buffer);
         }
 
         /**
@@ -5,6 +5,7 @@ import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.ssl.PrivateKeyStrategy;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.TrustStrategy;
@@ -41,6 +42,11 @@ public class DropwizardSSLConnectionSocketFactory {
                 chooseHostnameVerifier());
     }
 
+    public SSLIOSessionStrategy getSessionStrategy() throws SSLInitializationException {
+        return new SSLIOSessionStrategy(buildSslContext(), getSupportedProtocols(), getSupportedCiphers(),
+                chooseHostnameVerifier());
+    }
+
     @Nullable
     private String[] getSupportedCiphers() {
         final List<String> supportedCiphers = configuration.getSupportedCiphers();
@@ -1,11 +1,13 @@
 package io.dropwizard.client;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.httpclient.HttpClientMetricNameStrategies;
 import com.codahale.metrics.httpclient.HttpClientMetricNameStrategy;
 import com.codahale.metrics.httpclient.InstrumentedHttpClientConnectionManager;
 import com.codahale.metrics.httpclient.InstrumentedHttpRequestExecutor;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.dropwizard.client.proxy.AuthConfiguration;
 import io.dropwizard.client.proxy.NonProxyListProxyRoutePlanner;
 import io.dropwizard.client.proxy.ProxyConfiguration;
@@ -16,7 +18,9 @@ import io.dropwizard.util.Duration;
 import org.apache.http.ConnectionReuseStrategy;
 import org.apache.http.Header;
 import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.Credentials;
 import org.apache.http.auth.NTCredentials;
@@ -43,6 +47,16 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.protocol.HttpProcessor;
 
@@ -63,7 +77,6 @@ import java.util.List;
  */
 public class HttpClientBuilder {
     private static final HttpRequestRetryHandler NO_RETRIES = (exception, executionCount, context) -> false;
-
     private final MetricRegistry metricRegistry;
 
     @Nullable
@@ -304,6 +317,193 @@ public class HttpClientBuilder {
                 createConnectionManager(createConfiguredRegistry(), name), name);
     }
 
+    /**
+     * Builds a non-blocking {@link CloseableHttpAsyncClient}, which executes requests on a small number of
+     * I/O dispatcher threads instead of blocking a thread per request.
+     * <p>
+     * The client is configured from the same {@link HttpClientConfiguration} as the blocking client and
+     * reports the same request timers. Its connection pool gauges are registered under
+     * {@link NHttpClientConnectionManager}. Retries, the {@link HttpProcessor}, the
+     * {@link ServiceUnavailableRetryStrategy} and the socket factory {@link Registry} only apply to
+     * blocking clients.
+     * </p>
+     * <p>
+     * The callbacks of the requests are called on the I/O dispatcher threads, so they must hand any blocking
+     * or lengthy work off to another thread, or they hold up the other requests of the client.
+     * </p>
+     *
+     * @param name the name of the client, used in the metric names
+     * @return a started {@link CloseableHttpAsyncClient}
+     */
+    public CloseableHttpAsyncClient buildAsync(String name) {
+        final CloseableHttpAsyncClient client = buildAsyncWithDefaultRequestConfiguration(name);
+        client.start();
+        // If the environment is present, we tie the client with the server lifecycle
+        if (environment != null) {
+            environment.lifecycle().manage(new Managed() {
+                @Override
+                public void start() throws Exception {
+                }
+
+                @Override
+                public void stop() throws Exception {
+                    client.close();
+                }
+            });
+        }
+        return client;
+    }
+
+    /**
+     * For internal use only, used in {@link io.dropwizard.client.JerseyClientBuilder}
+     * to create an instance of {@link io.dropwizard.client.DropwizardApacheConnector}
+     *
+     * @param name
+     * @return a {@link CloseableHttpAsyncClient}, which hasn't been started yet
+     */
+    CloseableHttpAsyncClient buildAsyncWithDefaultRequestConfiguration(String name) {
+        return createAsyncClient(HttpAsyncClientBuilder.create(), createAsyncConnectionManager(name), name);
+    }
+
+    /**
+     * Map the parameters in {@link HttpClientConfiguration} to configuration on a
+     * {@link HttpAsyncClientBuilder} instance
+     *
+     * @param builder
+     * @param manager
+     * @param name
+     * @return the configured {@link CloseableHttpAsyncClient}
+     */
+    protected CloseableHttpAsyncClient createAsyncClient(final HttpAsyncClientBuilder builder,
+                                                         final PoolingNHttpClientConnectionManager manager,
+                                                         final String name) {
+        final String cookiePolicy = configuration.isCookiesEnabled() ? CookieSpecs.DEFAULT : CookieSpecs.IGNORE_COOKIES;
+        final RequestConfig requestConfig = RequestConfig.custom().setCookieSpec(cookiePolicy)
+                .setSocketTimeout((int) configuration.getTimeout().toMilliseconds())
+                .setConnectTimeout((int) configuration.getConnectionTimeout().toMilliseconds())
+                .setConnectionRequestTimeout((int) configuration.getConnectionRequestTimeout().toMilliseconds())
+                .build();
+        final long keepAlive = configuration.getKeepAlive().toMilliseconds();
+
+        builder.setConnectionManager(manager)
+                .setThreadFactory(new ThreadFactoryBuilder().setDaemon(true).setNameFormat(name + "-reactor").build())
+                .setDefaultRequestConfig(requestConfig)
+                .setConnectionReuseStrategy(keepAlive == 0
+                        ? new NoConnectionReuseStrategy()
+                        : new DefaultConnectionReuseStrategy())
+                .setUserAgent(createUserAgent(name))
+                // time requests like the InstrumentedHttpRequestExecutor of the blocking client
+                .addInterceptorFirst((HttpRequestInterceptor) (request, context) ->
+                        context.setAttribute(InstrumentedHttpAsyncClient.TIMER_CONTEXT_ATTRIBUTE,
+                                metricRegistry.timer(metricNameStrategy.getNameFor(name, request)).time()))
+                .addInterceptorLast((HttpResponseInterceptor) (response, context) ->
+                        InstrumentedHttpAsyncClient.stopTimer(context));
+
+        if (keepAlive != 0) {
+            builder.setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy() {
+                @Override
+                public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                    final long duration = super.getKeepAliveDuration(response, context);
+                    return (duration == -1) ? keepAlive : duration;
+                }
+            });
+        }
+
+        final ProxyConfiguration proxy = configuration.getProxyConfiguration();
+        if (proxy != null) {
+            final HttpHost httpHost = new HttpHost(proxy.getHost(), proxy.getPort(), proxy.getScheme());
+            builder.setRoutePlanner(new NonProxyListProxyRoutePlanner(httpHost, proxy.getNonProxyHosts()));
+            final AuthConfiguration auth = proxy.getAuth();
+            if (auth != null) {
+                if (credentialsProvider == null) {
+                    credentialsProvider = new BasicCredentialsProvider();
+                }
+                credentialsProvider.setCredentials(new AuthScope(httpHost, auth.getRealm(), auth.getAuthScheme()),
+                        configureCredentials(auth));
+            }
+        }
+
+        if (credentialsProvider != null) {
+            builder.setDefaultCredentialsProvider(credentialsProvider);
+        }
+
+        if (routePlanner != null) {
+            builder.setRoutePlanner(routePlanner);
+        }
+
+        if (redirectStrategy != null) {
+            builder.setRedirectStrategy(redirectStrategy);
+        }
+
+        if (defaultHeaders != null) {
+            builder.setDefaultHeaders(defaultHeaders);
+        }
+
+        // the interceptors only stop the timers of the requests which get a response
+        return new InstrumentedHttpAsyncClient(builder.build());
+    }
+
+    /**
+     * Create a PoolingNHttpClientConnectionManager based on the HttpClientConfiguration
+     * and register gauges of its pool statistics.
+     *
+     * @param name
+     * @return a PoolingNHttpClientConnectionManager instance
+     */
+    protected PoolingNHttpClientConnectionManager createAsyncConnectionManager(String name) {
+        final int timeout = (int) configuration.getTimeout().toMilliseconds();
+        final IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setConnectTimeout((int) configuration.getConnectionTimeout().toMilliseconds())
+                .setSoTimeout(timeout)
+                .setTcpNoDelay(true)
+                .build();
+
+        final DefaultConnectingIOReactor ioReactor;
+        try {
+            ioReactor = new DefaultConnectingIOReactor(ioReactorConfig,
+                    new ThreadFactoryBuilder().setDaemon(true).setNameFormat(name + "-io-dispatcher-%d").build());
+        } catch (IOReactorException e) {
+            throw new IllegalStateException("Unable to create an I/O reactor for the client '" + name + "'", e);
+        }
+
+        final Duration ttl = configuration.getTimeToLive();
+        final PoolingNHttpClientConnectionManager manager = new PoolingNHttpClientConnectionManager(ioReactor, null,
+                createConfiguredSessionStrategyRegistry(), null, resolver, ttl.getQuantity(), ttl.getUnit());
+        manager.setDefaultMaxPerRoute(configuration.getMaxConnectionsPerRoute());
+        manager.setMaxTotal(configuration.getMaxConnections());
+
+        metricRegistry.register(MetricRegistry.name(NHttpClientConnectionManager.class, name, "available-connections"),
+                (Gauge<Integer>) () -> manager.getTotalStats().getAvailable());
+        metricRegistry.register(MetricRegistry.name(NHttpClientConnectionManager.class, name, "leased-connections"),
+                (Gauge<Integer>) () -> manager.getTotalStats().getLeased());
+        metricRegistry.register(MetricRegistry.name(NHttpClientConnectionManager.class, name, "max-connections"),
+                (Gauge<Integer>) () -> manager.getTotalStats().getMax());
+        metricRegistry.register(MetricRegistry.name(NHttpClientConnectionManager.class, name, "pending-connections"),
+                (Gauge<Integer>) () -> manager.getTotalStats().getPending());
+        return manager;
+    }
+
+    @VisibleForTesting
+    Registry<SchemeIOSessionStrategy> createConfiguredSessionStrategyRegistry() {
+        TlsConfiguration tlsConfiguration = configuration.getTlsConfiguration();
+        if (tlsConfiguration == null && verifier != null) {
+            tlsConfiguration = new TlsConfiguration();
+        }
+
+        final SSLIOSessionStrategy sslSessionStrategy;
+        if (tlsConfiguration == null) {
+            sslSessionStrategy = SSLIOSessionStrategy.getDefaultStrategy();
+        } else {
+            sslSessionStrategy = new DropwizardSSLConnectionSocketFactory(tlsConfiguration, verifier)
+                    .getSessionStrategy();
+        }
+
+        return RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", sslSessionStrategy)
+                .build();
+    }
+
     /**
      * Configures an Apache {@link org.apache.http.impl.client.HttpClientBuilder HttpClientBuilder}.
      *
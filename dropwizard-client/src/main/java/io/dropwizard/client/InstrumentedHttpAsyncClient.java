@@ -0,0 +1,93 @@
+package io.dropwizard.client;
+
+import com.codahale.metrics.Timer;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.concurrent.Future;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link CloseableHttpAsyncClient} which stops the timer of a request when it fails or is cancelled.
+ * <p>
+ * The timer is started by a request interceptor, and stopped by a response interceptor once the response
+ * arrives. Since no interceptor is called for a request which fails or is cancelled before, the client
+ * stops its timer in the callback of the request instead.
+ */
+class InstrumentedHttpAsyncClient extends CloseableHttpAsyncClient {
+    static final String TIMER_CONTEXT_ATTRIBUTE = InstrumentedHttpAsyncClient.class.getName() + ".timerContext";
+
+    private final CloseableHttpAsyncClient delegate;
+
+    InstrumentedHttpAsyncClient(CloseableHttpAsyncClient delegate) {
+        this.delegate = requireNonNull(delegate);
+    }
+
+    /**
+     * Stops the timer of the request of the given context, if it's still running.
+     *
+     * @param context the context of the request
+     */
+    static void stopTimer(HttpContext context) {
+        final Object timerContext = context.removeAttribute(TIMER_CONTEXT_ATTRIBUTE);
+        if (timerContext instanceof Timer.Context) {
+            ((Timer.Context) timerContext).stop();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return delegate.isRunning();
+    }
+
+    @Override
+    public void start() {
+        delegate.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    @Override
+    public <T> Future<T> execute(HttpAsyncRequestProducer requestProducer,
+                                 HttpAsyncResponseConsumer<T> responseConsumer,
+                                 @Nullable HttpContext context,
+                                 @Nullable FutureCallback<T> callback) {
+        // the timer is only reachable through the context, so the client mustn't create its own
+        final HttpContext requestContext = context == null ? HttpClientContext.create() : context;
+        return delegate.execute(requestProducer, responseConsumer, requestContext, new FutureCallback<T>() {
+            @Override
+            public void completed(T result) {
+                stopTimer(requestContext);
+                if (callback != null) {
+                    callback.completed(result);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                stopTimer(requestContext);
+                if (callback != null) {
+                    callback.failed(e);
+                }
+            }
+
+            @Override
+            public void cancelled() {
+                stopTimer(requestContext);
+                if (callback != null) {
+                    callback.cancelled();
+                }
+            }
+        });
+    }
+}
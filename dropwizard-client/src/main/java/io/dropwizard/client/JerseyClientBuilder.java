@@ -18,6 +18,7 @@ import org.apache.http.config.Registry;
 import org.apache.http.conn.DnsResolver;
 import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.rx.Rx;
 import org.glassfish.jersey.client.rx.RxClient;
@@ -408,7 +409,8 @@ public class JerseyClientBuilder {
             config.register(provider);
         }
 
-        config.register(new JacksonBinder(objectMapper));
+        // the client always states the media types of its entities, so the binary formats can't be negotiated by accident
+        config.register(new JacksonBinder(objectMapper, null, true));
         config.register(new HibernateValidationFeature(validator));
 
         for (Map.Entry<String, Object> property : this.properties.entrySet()) {
@@ -419,7 +421,29 @@ public class JerseyClientBuilder {
         if (connectorProvider == null) {
             final ConfiguredCloseableHttpClient apacheHttpClient =
                     apacheHttpClientBuilder.buildWithDefaultRequestConfiguration(name);
-            connectorProvider = (client, runtimeConfig) -> createDropwizardApacheConnector(apacheHttpClient);
+            if (configuration.isNonBlockingAsyncEnabled()) {
+                final CloseableHttpAsyncClient apacheHttpAsyncClient =
+                        apacheHttpClientBuilder.buildAsyncWithDefaultRequestConfiguration(name);
+                if (environment != null) {
+                    environment.lifecycle().manage(new Managed() {
+                        @Override
+                        public void start() throws Exception {
+                        }
+
+                        @Override
+                        public void stop() throws Exception {
+                            apacheHttpAsyncClient.close();
+                        }
+                    });
+                }
+                // The I/O threads of the client are only started once a connector is needed
+                connectorProvider = (client, runtimeConfig) -> {
+                    apacheHttpAsyncClient.start();
+                    return createDropwizardApacheConnector(apacheHttpClient, apacheHttpAsyncClient, threadPool);
+                };
+            } else {
+                connectorProvider = (client, runtimeConfig) -> createDropwizardApacheConnector(apacheHttpClient);
+            }
         }
         config.connectorProvider(connectorProvider);
 
@@ -434,4 +458,16 @@ public class JerseyClientBuilder {
         return new DropwizardApacheConnector(configuredClient.getClient(), configuredClient.getDefaultRequestConfig(),
                 configuration.isChunkedEncodingEnabled());
     }
+
+    /**
+     * Builds {@link DropwizardApacheConnector} based on the configured Apache HTTP client
+     * as {@link ConfiguredCloseableHttpClient}, which executes asynchronous requests with
+     * the provided non-blocking client, and processes their responses on the thread pool of the client.
+     */
+    protected DropwizardApacheConnector createDropwizardApacheConnector(ConfiguredCloseableHttpClient configuredClient,
+                                                                        CloseableHttpAsyncClient asyncClient,
+                                                                        ExecutorService threadPool) {
+        return new DropwizardApacheConnector(configuredClient.getClient(), asyncClient, threadPool,
+                configuredClient.getDefaultRequestConfig(), configuration.isChunkedEncodingEnabled());
+    }
 }
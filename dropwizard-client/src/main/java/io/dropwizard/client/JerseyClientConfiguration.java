@@ -33,6 +33,8 @@ public class JerseyClientConfiguration extends HttpClientConfiguration {
 
     private boolean chunkedEncodingEnabled = true;
 
+    private boolean nonBlockingAsyncEnabled = false;
+
     @JsonProperty
     public int getMinThreads() {
         return minThreads;
@@ -83,6 +85,16 @@ public class JerseyClientConfiguration extends HttpClientConfiguration {
         this.chunkedEncodingEnabled = chunkedEncodingEnabled;
     }
 
+    @JsonProperty
+    public boolean isNonBlockingAsyncEnabled() {
+        return nonBlockingAsyncEnabled;
+    }
+
+    @JsonProperty
+    public void setNonBlockingAsyncEnabled(boolean nonBlockingAsyncEnabled) {
+        this.nonBlockingAsyncEnabled = nonBlockingAsyncEnabled;
+    }
+
     @JsonProperty
     public int getWorkQueueSize() {
         return workQueueSize;
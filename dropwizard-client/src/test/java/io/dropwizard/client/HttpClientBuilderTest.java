@@ -1,6 +1,7 @@
 package io.dropwizard.client;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.httpclient.HttpClientMetricNameStrategies;
 import com.codahale.metrics.httpclient.InstrumentedHttpClientConnectionManager;
 import com.codahale.metrics.httpclient.InstrumentedHttpRequestExecutor;
@@ -30,6 +31,7 @@ import org.apache.http.client.RedirectStrategy;
 import org.apache.http.client.ServiceUnavailableRetryStrategy;
 import org.apache.http.client.config.CookieSpecs;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.config.Registry;
@@ -49,6 +51,7 @@ import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.impl.conn.SystemDefaultDnsResolver;
 import org.apache.http.impl.conn.SystemDefaultRoutePlanner;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.message.BasicListHeaderIterator;
 import org.apache.http.protocol.BasicHttpContext;
@@ -67,10 +70,14 @@ import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.ProxySelector;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.net.SocketAddress;
 import java.net.URI;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -624,6 +631,81 @@ public class HttpClientBuilderTest {
         verify(httpClient).close();
     }
 
+    @Test
+    public void buildsAStartedAsyncClientWithConnectionPoolMetrics() throws Exception {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        configuration.setMaxConnections(412);
+
+        try (CloseableHttpAsyncClient client = new HttpClientBuilder(metricRegistry)
+                .using(configuration)
+                .buildAsync("test")) {
+            assertThat(client.isRunning()).isTrue();
+            assertThat(metricRegistry.getGauges().keySet())
+                    .contains("org.apache.http.nio.conn.NHttpClientConnectionManager.test.available-connections",
+                            "org.apache.http.nio.conn.NHttpClientConnectionManager.test.leased-connections",
+                            "org.apache.http.nio.conn.NHttpClientConnectionManager.test.max-connections",
+                            "org.apache.http.nio.conn.NHttpClientConnectionManager.test.pending-connections");
+            assertThat(metricRegistry.getGauges())
+                    .hasEntrySatisfying("org.apache.http.nio.conn.NHttpClientConnectionManager.test.max-connections",
+                        gauge -> assertThat(gauge.getValue()).isEqualTo(412));
+        }
+    }
+
+    @Test
+    public void asyncClientStopsTheTimersOfFailedRequests() throws Exception {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        final CountDownLatch failed = new CountDownLatch(1);
+
+        try (ServerSocket server = new ServerSocket(0);
+             CloseableHttpAsyncClient client = new HttpClientBuilder(metricRegistry)
+                     .using(configuration)
+                     .buildAsync("test")) {
+            client.execute(new HttpGet("http://127.0.0.1:" + server.getLocalPort() + "/"),
+                    new FutureCallback<HttpResponse>() {
+                        @Override
+                        public void completed(HttpResponse result) {
+                        }
+
+                        @Override
+                        public void failed(Exception ex) {
+                            failed.countDown();
+                        }
+
+                        @Override
+                        public void cancelled() {
+                        }
+                    });
+            // closes the connection without a response
+            try (Socket socket = server.accept()) {
+                socket.getInputStream().read();
+            }
+
+            assertThat(failed.await(5, TimeUnit.SECONDS))
+                    .isTrue();
+            assertThat(metricRegistry.getTimers().values())
+                    .extracting(Timer::getCount)
+                    .containsExactly(1L);
+        }
+    }
+
+    @Test
+    public void asyncClientIsManagedByEnvironment() throws Exception {
+        final Environment environment = mock(Environment.class);
+        when(environment.getName()).thenReturn("test-env");
+        when(environment.metrics()).thenReturn(new MetricRegistry());
+
+        final LifecycleEnvironment lifecycle = mock(LifecycleEnvironment.class);
+        when(environment.lifecycle()).thenReturn(lifecycle);
+
+        final CloseableHttpAsyncClient client = new HttpClientBuilder(environment).buildAsync("test-async-client");
+
+        final ArgumentCaptor<Managed> argumentCaptor = ArgumentCaptor.forClass(Managed.class);
+        verify(lifecycle).manage(argumentCaptor.capture());
+
+        argumentCaptor.getValue().stop();
+        assertThat(client.isRunning()).isFalse();
+    }
+
     @Test
     public void usesACustomRedirectStrategy() throws Exception {
         RedirectStrategy neverFollowRedirectStrategy = new RedirectStrategy() {
@@ -3,6 +3,7 @@ package io.dropwizard.client;
 import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
@@ -32,9 +33,11 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+import static io.dropwizard.jersey.jackson.JacksonSmileMessageBodyProvider.APPLICATION_SMILE;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -399,6 +402,166 @@ public class JerseyClientIntegrationTest {
         jersey.close();
     }
 
+    @Test
+    public void testNonBlockingAsync() throws Exception {
+        httpServer.createContext("/test", httpExchange -> {
+            try {
+                httpExchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, TEXT_PLAIN);
+                byte[] body = "Hello World!".getBytes(StandardCharsets.UTF_8);
+                httpExchange.sendResponseHeaders(200, body.length);
+                httpExchange.getResponseBody().write(body);
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.start();
+
+        JerseyClientConfiguration configuration = new JerseyClientConfiguration();
+        configuration.setNonBlockingAsyncEnabled(true);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Client jersey = new JerseyClientBuilder(new MetricRegistry())
+            .using(executor, JSON_MAPPER)
+            .using(configuration)
+            .build("test-jersey-client");
+        String uri = "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/test";
+        CountDownLatch countDownLatch = new CountDownLatch(25);
+        for (int i = 0; i < 25; i++) {
+            jersey.target(uri)
+                .request()
+                .async()
+                .get(new InvocationCallback<String>() {
+                    @Override
+                    public void completed(String s) {
+                        assertThat(s).isEqualTo("Hello World!");
+                        countDownLatch.countDown();
+                    }
+
+                    @Override
+                    public void failed(Throwable t) {
+                        t.printStackTrace();
+                    }
+                });
+        }
+        countDownLatch.await(5, TimeUnit.SECONDS);
+        assertThat(countDownLatch.getCount()).isEqualTo(0);
+
+        executor.shutdown();
+        jersey.close();
+    }
+
+    @Test
+    public void testNonBlockingAsyncCallbacksRunOnTheThreadPool() throws Exception {
+        httpServer.createContext("/test", httpExchange -> {
+            try {
+                httpExchange.sendResponseHeaders(204, -1);
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.start();
+
+        JerseyClientConfiguration configuration = new JerseyClientConfiguration();
+        configuration.setNonBlockingAsyncEnabled(true);
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "callbacks"));
+        Client jersey = new JerseyClientBuilder(new MetricRegistry())
+            .using(executor, JSON_MAPPER)
+            .using(configuration)
+            .build("test-jersey-client");
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        jersey.target("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/test")
+            .request()
+            .async()
+            .get(new InvocationCallback<Response>() {
+                @Override
+                public void completed(Response response) {
+                    threadName.set(Thread.currentThread().getName());
+                    countDownLatch.countDown();
+                }
+
+                @Override
+                public void failed(Throwable t) {
+                    t.printStackTrace();
+                }
+            });
+        assertThat(countDownLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).isEqualTo("callbacks");
+
+        executor.shutdown();
+        jersey.close();
+    }
+
+    @Test
+    public void testNonBlockingAsyncPost() throws Exception {
+        httpServer.createContext("/register", httpExchange -> {
+            try {
+                assertThat(httpExchange.getRequestMethod()).isEqualTo("POST");
+                checkBody(httpExchange, false);
+                postResponse(httpExchange);
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.start();
+
+        JerseyClientConfiguration configuration = new JerseyClientConfiguration();
+        configuration.setNonBlockingAsyncEnabled(true);
+        configuration.setGzipEnabledForRequests(false);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Client jersey = new JerseyClientBuilder(new MetricRegistry())
+            .using(executor, JSON_MAPPER)
+            .using(configuration)
+            .build("jersey-test");
+        Response response = jersey.target("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/register")
+            .request()
+            .async()
+            .post(Entity.entity(new Person("john@doe.me", "John Doe"), APPLICATION_JSON))
+            .get(5, TimeUnit.SECONDS);
+
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_TYPE)).isEqualTo(APPLICATION_JSON);
+        assertThat(response.readEntity(String.class)).isEqualTo(JSON_TOKEN);
+
+        executor.shutdown();
+        jersey.close();
+    }
+
+    @Test
+    public void testSmile() throws Exception {
+        httpServer.createContext("/echo", httpExchange -> {
+            try {
+                assertThat(httpExchange.getRequestHeaders().getFirst(HttpHeaders.CONTENT_TYPE))
+                        .isEqualTo(APPLICATION_SMILE);
+                final byte[] body = ByteStreams.toByteArray(httpExchange.getRequestBody());
+                // every Smile document starts with the ":)\n" header
+                assertThat(new String(body, 0, 3, StandardCharsets.US_ASCII)).isEqualTo(":)\n");
+
+                httpExchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, APPLICATION_SMILE);
+                httpExchange.sendResponseHeaders(200, 0);
+                httpExchange.getResponseBody().write(body);
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.start();
+
+        JerseyClientConfiguration configuration = new JerseyClientConfiguration();
+        configuration.setGzipEnabledForRequests(false);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Client jersey = new JerseyClientBuilder(new MetricRegistry())
+                .using(executor, JSON_MAPPER)
+                .using(configuration)
+                .build("jersey-test");
+        Person person = jersey.target("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/echo")
+                .request(APPLICATION_SMILE)
+                .post(Entity.entity(new Person("john@doe.me", "John Doe"), APPLICATION_SMILE), Person.class);
+
+        assertThat(person.email).isEqualTo("john@doe.me");
+        assertThat(person.name).isEqualTo("John Doe");
+
+        executor.shutdown();
+        jersey.close();
+    }
+
     static class Person {
 
         @JsonProperty("email")
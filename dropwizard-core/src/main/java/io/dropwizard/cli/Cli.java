@@ -1,6 +1,7 @@
 package io.dropwizard.cli;
 
 import io.dropwizard.setup.Bootstrap;
+import io.dropwizard.setup.StartupTimeline;
 import io.dropwizard.util.JarLocation;
 import net.sourceforge.argparse4j.ArgumentParsers;
 import net.sourceforge.argparse4j.impl.Arguments;
@@ -71,7 +72,10 @@ public class Cli {
             } else if (isFlag(VERSION, arguments)) {
                 parser.printVersion(stdOut);
             } else {
-                final Namespace namespace = parser.parseArgs(arguments);
+                final Namespace namespace;
+                try (StartupTimeline.Phase ignored = bootstrap.getStartupTimeline().start("cli")) {
+                    namespace = parser.parseArgs(arguments);
+                }
                 final Command command = requireNonNull(commands.get(namespace.getString(COMMAND_NAME_ATTR)),
                     "Command is not found");
                 try {
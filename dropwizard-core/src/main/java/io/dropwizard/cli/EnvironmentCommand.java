@@ -2,9 +2,17 @@ package io.dropwizard.cli;
 
 import io.dropwizard.Application;
 import io.dropwizard.Configuration;
+import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.setup.StartupTimeline;
 import net.sourceforge.argparse4j.inf.Namespace;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
 
 /**
  * A command which executes with a configured {@link Environment}.
@@ -13,6 +21,8 @@ import net.sourceforge.argparse4j.inf.Namespace;
  * @see Configuration
  */
 public abstract class EnvironmentCommand<T extends Configuration> extends ConfiguredCommand<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnvironmentCommand.class);
+
     private final Application<T> application;
 
     /**
@@ -29,19 +39,78 @@ public abstract class EnvironmentCommand<T extends Configuration> extends Config
 
     @Override
     protected void run(Bootstrap<T> bootstrap, Namespace namespace, T configuration) throws Exception {
-        final Environment environment = new Environment(bootstrap.getApplication().getName(),
-                                                        bootstrap.getObjectMapper(),
-                                                        bootstrap.getValidatorFactory().getValidator(),
-                                                        bootstrap.getMetricRegistry(),
-                                                        bootstrap.getClassLoader(),
-                                                        bootstrap.getHealthCheckRegistry());
-        configuration.getMetricsFactory().configure(environment.lifecycle(),
-                                                    bootstrap.getMetricRegistry());
-        configuration.getServerFactory().configure(environment);
+        final StartupTimeline startupTimeline = bootstrap.getStartupTimeline();
+        final Environment environment;
+        try (StartupTimeline.Phase ignored = startupTimeline.start("environment")) {
+            environment = new Environment(bootstrap.getApplication().getName(),
+                                          bootstrap.getObjectMapper(),
+                                          bootstrap.getValidatorFactory().getValidator(),
+                                          bootstrap.getMetricRegistry(),
+                                          bootstrap.getClassLoader(),
+                                          bootstrap.getHealthCheckRegistry());
+            configuration.getMetricsFactory().configure(environment.lifecycle(),
+                                                        bootstrap.getMetricRegistry());
+            configuration.getServerFactory().configure(environment);
+        }
 
         bootstrap.run(configuration, environment);
-        application.run(configuration, environment);
-        run(environment, namespace, configuration);
+        try (StartupTimeline.Phase ignored = startupTimeline.start("application")) {
+            application.run(configuration, environment);
+        }
+
+        addStartupPhases(startupTimeline, environment);
+        try (StartupTimeline.Phase ignored = startupTimeline.start(getName())) {
+            run(environment, namespace, configuration);
+        }
+        LOGGER.info("Startup timeline: {}", environment.getObjectMapper().writeValueAsString(startupTimeline));
+    }
+
+    private void addStartupPhases(StartupTimeline startupTimeline, Environment environment) {
+        for (LifeCycle managed : environment.lifecycle().getManagedObjects()) {
+            final Object object = managed instanceof JettyManaged ? ((JettyManaged) managed).getManaged() : managed;
+            managed.addLifeCycleListener(new StartupPhaseListener(startupTimeline, object.getClass().getName()));
+        }
+        // Jersey is initialized when the application context starts
+        environment.getApplicationContext()
+                   .addLifeCycleListener(new StartupPhaseListener(startupTimeline, "application context"));
+        environment.getAdminContext()
+                   .addLifeCycleListener(new StartupPhaseListener(startupTimeline, "admin context"));
+    }
+
+    private static class StartupPhaseListener extends AbstractLifeCycle.AbstractLifeCycleListener {
+        private final StartupTimeline startupTimeline;
+        private final String name;
+
+        @Nullable
+        private StartupTimeline.Phase phase;
+
+        private StartupPhaseListener(StartupTimeline startupTimeline, String name) {
+            this.startupTimeline = startupTimeline;
+            this.name = name;
+        }
+
+        @Override
+        public void lifeCycleStarting(LifeCycle event) {
+            phase = startupTimeline.start(name);
+        }
+
+        @Override
+        public void lifeCycleStarted(LifeCycle event) {
+            endPhase();
+        }
+
+        @Override
+        public void lifeCycleFailure(LifeCycle event, Throwable cause) {
+            endPhase();
+        }
+
+        private void endPhase() {
+            final StartupTimeline.Phase started = phase;
+            if (started != null) {
+                started.close();
+                phase = null;
+            }
+        }
     }
 
     /**
@@ -3,7 +3,6 @@ package io.dropwizard.server;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.health.HealthCheckRegistry;
 import com.codahale.metrics.jetty9.InstrumentedHandler;
-import com.codahale.metrics.jetty9.InstrumentedQueuedThreadPool;
 import com.codahale.metrics.servlets.AdminServlet;
 import com.codahale.metrics.servlets.HealthCheckServlet;
 import com.codahale.metrics.servlets.MetricsServlet;
@@ -35,7 +34,6 @@ import org.eclipse.jetty.server.handler.RequestLogHandler;
 import org.eclipse.jetty.server.handler.StatisticsHandler;
 import org.eclipse.jetty.setuid.RLimit;
 import org.eclipse.jetty.setuid.SetUIDListener;
-import org.eclipse.jetty.util.BlockingArrayQueue;
 import org.eclipse.jetty.util.thread.ThreadPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,7 +50,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 import java.util.regex.Pattern;
 
 /**
@@ -81,6 +78,21 @@ import java.util.regex.Pattern;
  *         <td>The {@link ServerPushFilterFactory} configuration.</td>
  *     </tr>
  *     <tr>
+ *         <td>{@code concurrencyLimit}</td>
+ *         <td></td>
+ *         <td>The {@link ConcurrencyLimitFilterFactory concurrency limit} of the application requests.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code healthChecks}</td>
+ *         <td></td>
+ *         <td>The {@link HealthCheckRunnerFactory health check runner} configuration.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code threadPool}</td>
+ *         <td>queued</td>
+ *         <td>The {@link ThreadPoolFactory thread pool} handling the requests.</td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code maxThreads}</td>
  *         <td>1024</td>
  *         <td>The maximum number of threads to use for requests.</td>
@@ -203,6 +215,14 @@ import java.util.regex.Pattern;
  *           method and request URI.
  *         </td>
  *     </tr>
+ *     <tr>
+ *         <td>{@code enableBinaryRepresentations}</td>
+ *         <td>false</td>
+ *         <td>
+ *           Whether or not to register the Smile and CBOR providers. Once they are registered, the resources which
+ *           don't declare what they produce may respond in these formats to requests which accept any media type.
+ *         </td>
+ *     </tr>
  * </table>
  *
  * @see DefaultServerFactory
@@ -224,6 +244,18 @@ public abstract class AbstractServerFactory implements ServerFactory {
     @NotNull
     private ServerPushFilterFactory serverPush = new ServerPushFilterFactory();
 
+    @Valid
+    @NotNull
+    private ConcurrencyLimitFilterFactory concurrencyLimit = new ConcurrencyLimitFilterFactory();
+
+    @Valid
+    @NotNull
+    private HealthCheckRunnerFactory healthChecks = new HealthCheckRunnerFactory();
+
+    @Valid
+    @NotNull
+    private ThreadPoolFactory threadPool = new QueuedThreadPoolFactory();
+
     @Min(2)
     private int maxThreads = 1024;
 
@@ -274,6 +306,8 @@ public abstract class AbstractServerFactory implements ServerFactory {
 
     private boolean enableThreadNameFilter = true;
 
+    private boolean enableBinaryRepresentations = false;
+
     @JsonIgnore
     @ValidationMethod(message = "must have a smaller minThreads than maxThreads")
     public boolean isThreadPoolSizedCorrectly() {
@@ -314,6 +348,36 @@ public abstract class AbstractServerFactory implements ServerFactory {
         this.serverPush = serverPush;
     }
 
+    @JsonProperty("concurrencyLimit")
+    public ConcurrencyLimitFilterFactory getConcurrencyLimitFilterFactory() {
+        return concurrencyLimit;
+    }
+
+    @JsonProperty("concurrencyLimit")
+    public void setConcurrencyLimitFilterFactory(ConcurrencyLimitFilterFactory concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    @JsonProperty("healthChecks")
+    public HealthCheckRunnerFactory getHealthCheckRunnerFactory() {
+        return healthChecks;
+    }
+
+    @JsonProperty("healthChecks")
+    public void setHealthCheckRunnerFactory(HealthCheckRunnerFactory healthChecks) {
+        this.healthChecks = healthChecks;
+    }
+
+    @JsonProperty("threadPool")
+    public ThreadPoolFactory getThreadPoolFactory() {
+        return threadPool;
+    }
+
+    @JsonProperty("threadPool")
+    public void setThreadPoolFactory(ThreadPoolFactory threadPool) {
+        this.threadPool = threadPool;
+    }
+
     @JsonProperty
     public int getMaxThreads() {
         return maxThreads;
@@ -498,6 +562,16 @@ public abstract class AbstractServerFactory implements ServerFactory {
         this.enableThreadNameFilter = enableThreadNameFilter;
     }
 
+    @JsonProperty
+    public boolean getEnableBinaryRepresentations() {
+        return enableBinaryRepresentations;
+    }
+
+    @JsonProperty
+    public void setEnableBinaryRepresentations(boolean enableBinaryRepresentations) {
+        this.enableBinaryRepresentations = enableBinaryRepresentations;
+    }
+
     protected Handler createAdminServlet(Server server,
                                          MutableServletContextHandler handler,
                                          MetricRegistry metrics,
@@ -530,6 +604,8 @@ public abstract class AbstractServerFactory implements ServerFactory {
                                        @Nullable Servlet jerseyContainer,
                                        MetricRegistry metricRegistry) {
         configureSessionsAndSecurity(handler, server);
+        // rejects excess requests before any other filter does some work
+        concurrencyLimit.addFilter(handler, metricRegistry);
         handler.addFilter(AllowedMethodsFilter.class, "/*", EnumSet.of(DispatcherType.REQUEST))
                 .setInitParameter(AllowedMethodsFilter.ALLOWED_METHODS_PARAM, Joiner.on(',').join(allowedMethods));
         if (enableThreadNameFilter) {
@@ -538,7 +614,7 @@ public abstract class AbstractServerFactory implements ServerFactory {
         serverPush.addFilter(handler);
         if (jerseyContainer != null) {
             jerseyRootPath.ifPresent(jersey::setUrlPattern);
-            jersey.register(new JacksonBinder(objectMapper));
+            jersey.register(new JacksonBinder(objectMapper, validator, enableBinaryRepresentations));
             jersey.register(new HibernateValidationFeature(validator));
             if (registerDefaultExceptionMappers == null || registerDefaultExceptionMappers) {
                 jersey.register(new ExceptionMapperBinder(detailedJsonProcessingExceptionMapper));
@@ -552,12 +628,7 @@ public abstract class AbstractServerFactory implements ServerFactory {
     }
 
     protected ThreadPool createThreadPool(MetricRegistry metricRegistry) {
-        final BlockingQueue<Runnable> queue = new BlockingArrayQueue<>(minThreads, maxThreads, maxQueuedRequests);
-        final InstrumentedQueuedThreadPool threadPool =
-                new InstrumentedQueuedThreadPool(metricRegistry, maxThreads, minThreads,
-                                                 (int) idleThreadTimeout.toMilliseconds(), queue);
-        threadPool.setName("dw");
-        return threadPool;
+        return threadPool.build(metricRegistry, minThreads, maxThreads, maxQueuedRequests, idleThreadTimeout);
     }
 
     protected Server buildServer(LifecycleEnvironment lifecycle,
@@ -0,0 +1,182 @@
+package io.dropwizard.server;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.servlets.ConcurrencyLimitFilter;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import io.dropwizard.validation.ValidationMethod;
+import org.eclipse.jetty.servlet.FilterHolder;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+
+import javax.servlet.DispatcherType;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A factory for building a {@link ConcurrencyLimitFilter}, which rejects the application requests
+ * over an adaptive concurrency limit with a {@code 503 Service Unavailable}.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code enabled}</td>
+ *         <td>false</td>
+ *         <td>Whether the number of concurrent application requests is limited.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code initialLimit}</td>
+ *         <td>20</td>
+ *         <td>The initial number of concurrent requests.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code minLimit}</td>
+ *         <td>1</td>
+ *         <td>The minimum number of concurrent requests.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxLimit}</td>
+ *         <td>1000</td>
+ *         <td>The maximum number of concurrent requests.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code backoffRatio}</td>
+ *         <td>0.9</td>
+ *         <td>The ratio the limit is multiplied by after a request exceeding the latency threshold.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code latencyThreshold}</td>
+ *         <td>1 second</td>
+ *         <td>The latency above which the limit is decreased.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code excludedPaths}</td>
+ *         <td>(none)</td>
+ *         <td>
+ *             The path prefixes of the requests which are slow by design, such as long polls, and are
+ *             neither limited nor measured.
+ *         </td>
+ *     </tr>
+ * </table>
+ */
+public class ConcurrencyLimitFilterFactory {
+    private boolean enabled = false;
+
+    @Min(1)
+    private int initialLimit = 20;
+
+    @Min(1)
+    private int minLimit = 1;
+
+    @Min(1)
+    private int maxLimit = 1000;
+
+    @DecimalMin(value = "0", inclusive = false)
+    @DecimalMax(value = "1", inclusive = false)
+    private double backoffRatio = 0.9;
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration latencyThreshold = Duration.seconds(1);
+
+    @NotNull
+    private Set<String> excludedPaths = new HashSet<>();
+
+    @JsonIgnore
+    @ValidationMethod(message = "must have an initialLimit between minLimit and maxLimit")
+    public boolean isLimitRangeValid() {
+        return minLimit <= initialLimit && initialLimit <= maxLimit;
+    }
+
+    @JsonProperty
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @JsonProperty
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @JsonProperty
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    @JsonProperty
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    @JsonProperty
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    @JsonProperty
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    @JsonProperty
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    @JsonProperty
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    @JsonProperty
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    @JsonProperty
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    @JsonProperty
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    @JsonProperty
+    public void setLatencyThreshold(Duration latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+    }
+
+    @JsonProperty
+    public Set<String> getExcludedPaths() {
+        return excludedPaths;
+    }
+
+    @JsonProperty
+    public void setExcludedPaths(Set<String> excludedPaths) {
+        this.excludedPaths = excludedPaths;
+    }
+
+    public void addFilter(ServletContextHandler handler, MetricRegistry metricRegistry) {
+        if (!enabled) {
+            return;
+        }
+
+        final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(metricRegistry, "application",
+                initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold, excludedPaths);
+        handler.addFilter(new FilterHolder(filter), "/*", EnumSet.of(DispatcherType.REQUEST));
+    }
+}
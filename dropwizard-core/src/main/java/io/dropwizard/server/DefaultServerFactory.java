@@ -168,7 +168,8 @@ public class DefaultServerFactory extends AbstractServerFactory {
         final Handler adminHandler = createAdminServlet(server,
                                                         environment.getAdminContext(),
                                                         environment.metrics(),
-                                                        environment.healthChecks());
+                                                        getHealthCheckRunnerFactory().build(environment.healthChecks(),
+                                                                                            environment.lifecycle()));
         final RoutingHandler routingHandler = buildRoutingHandler(environment.metrics(),
                                                                   server,
                                                                   applicationHandler,
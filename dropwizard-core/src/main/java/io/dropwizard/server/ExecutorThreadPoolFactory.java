@@ -0,0 +1,102 @@
+package io.dropwizard.server;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.util.Duration;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a Jetty thread pool backed by an {@link ExecutorService}, which reports the same metrics as
+ * the default {@link QueuedThreadPoolFactory queued} thread pool.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code virtualThreads}</td>
+ *         <td>false</td>
+ *         <td>
+ *             Whether to start a virtual thread for every job instead of using a bounded pool of
+ *             platform threads. Requires a Java runtime with virtual threads; on older runtimes a
+ *             warning is logged and a pool of platform threads is used.
+ *         </td>
+ *     </tr>
+ * </table>
+ */
+@JsonTypeName("executor")
+public class ExecutorThreadPoolFactory implements ThreadPoolFactory {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorThreadPoolFactory.class);
+    private static final String NAME = "dw";
+
+    private boolean virtualThreads = false;
+
+    @JsonProperty
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @JsonProperty
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public ThreadPool build(MetricRegistry metricRegistry,
+                            int minThreads,
+                            int maxThreads,
+                            int maxQueuedRequests,
+                            Duration idleThreadTimeout) {
+        ExecutorService executorService = null;
+        if (virtualThreads) {
+            executorService = newVirtualThreadPerTaskExecutor();
+            if (executorService == null) {
+                LOGGER.warn("Virtual threads are not supported by this Java runtime, using platform threads instead");
+            }
+        }
+        if (executorService == null) {
+            // a ThreadPoolExecutor only grows past its core size once its queue is full, so all threads
+            // are core threads which are stopped once they're idle, and minThreads isn't used
+            final ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat(NAME + "-%d").build();
+            final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maxThreads, maxThreads,
+                    idleThreadTimeout.toMilliseconds(), TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(maxQueuedRequests), threadFactory);
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            executorService = threadPoolExecutor;
+        }
+        return new InstrumentedExecutorThreadPool(metricRegistry, executorService, maxThreads, NAME);
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task, if the runtime supports it. The
+     * executor is looked up reflectively, so that Dropwizard can still be built and run on Java 8.
+     */
+    @Nullable
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, NAME + "-", 0L);
+            final ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
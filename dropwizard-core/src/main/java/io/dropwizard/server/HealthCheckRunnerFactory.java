@@ -0,0 +1,128 @@
+package io.dropwizard.server;
+
+import com.codahale.metrics.health.HealthCheckRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import io.dropwizard.setup.ParallelHealthCheckRegistry;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * A factory for the runner of the health checks served by the admin servlet.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code parallel}</td>
+ *         <td>false</td>
+ *         <td>
+ *             If true, the health checks are run in parallel and each one is bounded by a timeout. A
+ *             health check which doesn't complete in time is reported as unhealthy. Otherwise, the
+ *             health checks are run one after another on the request thread.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxThreads}</td>
+ *         <td>4</td>
+ *         <td>
+ *             The number of threads running the health checks in parallel. A health check which times
+ *             out keeps its thread until it completes, and isn't run again in the meantime.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code timeout}</td>
+ *         <td>10 seconds</td>
+ *         <td>The maximum time to wait for a health check without a specific timeout.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code timeouts}</td>
+ *         <td>(none)</td>
+ *         <td>The maximum time to wait for specific health checks, by name.</td>
+ *     </tr>
+ * </table>
+ */
+public class HealthCheckRunnerFactory {
+    private boolean parallel = false;
+
+    @Min(1)
+    private int maxThreads = 4;
+
+    @NotNull
+    @MinDuration(1)
+    private Duration timeout = Duration.seconds(10);
+
+    @NotNull
+    private Map<String, Duration> timeouts = Collections.emptyMap();
+
+    @JsonProperty
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    @JsonProperty
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @JsonProperty
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    @JsonProperty
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    @JsonProperty
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @JsonProperty
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @JsonProperty
+    public Map<String, Duration> getTimeouts() {
+        return timeouts;
+    }
+
+    @JsonProperty
+    public void setTimeouts(Map<String, Duration> timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    /**
+     * Builds the registry the admin servlet runs the health checks with.
+     *
+     * @param healthChecks the application's registry of health checks
+     * @param lifecycle    the lifecycle managing the threads running the health checks
+     * @return the given registry, or a registry running its health checks in parallel
+     */
+    public HealthCheckRegistry build(HealthCheckRegistry healthChecks, LifecycleEnvironment lifecycle) {
+        if (!parallel) {
+            return healthChecks;
+        }
+        final ScheduledExecutorService executorService =
+                lifecycle.scheduledExecutorService("health-check-runner-%d", true)
+                        .threads(maxThreads)
+                        .build();
+        final ParallelHealthCheckRegistry registry =
+                new ParallelHealthCheckRegistry(healthChecks, executorService, timeout);
+        timeouts.forEach(registry::setTimeout);
+        return registry;
+    }
+}
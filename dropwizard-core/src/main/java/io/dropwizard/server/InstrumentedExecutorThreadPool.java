@@ -0,0 +1,121 @@
+package io.dropwizard.server;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.RatioGauge;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A Jetty thread pool backed by an {@link ExecutorService}, which reports the same metrics as
+ * {@link com.codahale.metrics.jetty9.InstrumentedQueuedThreadPool}. Executors which aren't a
+ * {@link ThreadPoolExecutor}, e.g. executors starting a new thread for every task, report one thread
+ * per running job.
+ * <p/>
+ * Jetty's own {@code ExecutorThreadPool} is deprecated, so the pool implements {@link ThreadPool} itself.
+ */
+public class InstrumentedExecutorThreadPool extends AbstractLifeCycle implements ThreadPool {
+    private final MetricRegistry metricRegistry;
+    private final ExecutorService executorService;
+    private final int maxThreads;
+    private final String name;
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    public InstrumentedExecutorThreadPool(MetricRegistry metricRegistry,
+                                          ExecutorService executorService,
+                                          int maxThreads,
+                                          String name) {
+        this.metricRegistry = metricRegistry;
+        this.executorService = executorService;
+        this.maxThreads = maxThreads;
+        this.name = name;
+    }
+
+    @Override
+    public void execute(Runnable job) {
+        executorService.execute(instrument(job));
+    }
+
+    @Override
+    public int getThreads() {
+        return getPoolSize();
+    }
+
+    @Override
+    public int getIdleThreads() {
+        if (executorService instanceof ThreadPoolExecutor) {
+            final ThreadPoolExecutor executor = (ThreadPoolExecutor) executorService;
+            return executor.getPoolSize() - executor.getActiveCount();
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean isLowOnThreads() {
+        if (executorService instanceof ThreadPoolExecutor) {
+            final ThreadPoolExecutor executor = (ThreadPoolExecutor) executorService;
+            return executor.getPoolSize() == executor.getMaximumPoolSize()
+                    && executor.getQueue().size() >= executor.getPoolSize() - executor.getActiveCount();
+        }
+        return false;
+    }
+
+    @Override
+    public void join() throws InterruptedException {
+        executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    private Runnable instrument(Runnable job) {
+        return () -> {
+            runningJobs.incrementAndGet();
+            try {
+                job.run();
+            } finally {
+                runningJobs.decrementAndGet();
+            }
+        };
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        final String prefix = name(QueuedThreadPool.class, name);
+        metricRegistry.register(name(prefix, "utilization"), new RatioGauge() {
+            @Override
+            protected Ratio getRatio() {
+                return Ratio.of(runningJobs.get(), getPoolSize());
+            }
+        });
+        metricRegistry.register(name(prefix, "utilization-max"), new RatioGauge() {
+            @Override
+            protected Ratio getRatio() {
+                return Ratio.of(runningJobs.get(), maxThreads);
+            }
+        });
+        metricRegistry.register(name(prefix, "size"), (Gauge<Integer>) this::getPoolSize);
+        metricRegistry.register(name(prefix, "jobs"), (Gauge<Integer>) () -> executorService instanceof ThreadPoolExecutor
+                ? ((ThreadPoolExecutor) executorService).getQueue().size() : 0);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        executorService.shutdownNow();
+    }
+
+    private int getPoolSize() {
+        if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getPoolSize();
+        }
+        return runningJobs.get();
+    }
+}
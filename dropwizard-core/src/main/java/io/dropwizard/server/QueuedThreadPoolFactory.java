@@ -0,0 +1,31 @@
+package io.dropwizard.server;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.jetty9.InstrumentedQueuedThreadPool;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.dropwizard.util.Duration;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Builds an instrumented Jetty {@link QueuedThreadPool}. This is the default thread pool.
+ */
+@JsonTypeName("queued")
+public class QueuedThreadPoolFactory implements ThreadPoolFactory {
+    @Override
+    public ThreadPool build(MetricRegistry metricRegistry,
+                            int minThreads,
+                            int maxThreads,
+                            int maxQueuedRequests,
+                            Duration idleThreadTimeout) {
+        final BlockingQueue<Runnable> queue = new BlockingArrayQueue<>(minThreads, maxThreads, maxQueuedRequests);
+        final InstrumentedQueuedThreadPool threadPool =
+                new InstrumentedQueuedThreadPool(metricRegistry, maxThreads, minThreads,
+                                                 (int) idleThreadTimeout.toMilliseconds(), queue);
+        threadPool.setName("dw");
+        return threadPool;
+    }
+}
@@ -117,7 +117,8 @@ public class SimpleServerFactory extends AbstractServerFactory {
         final Handler adminHandler = createAdminServlet(server,
                                                         environment.getAdminContext(),
                                                         environment.metrics(),
-                                                        environment.healthChecks());
+                                                        getHealthCheckRunnerFactory().build(environment.healthChecks(),
+                                                                                            environment.lifecycle()));
 
         final Connector conn = connector.build(server,
                                                environment.metrics(),
@@ -0,0 +1,34 @@
+package io.dropwizard.server;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.dropwizard.jackson.Discoverable;
+import io.dropwizard.util.Duration;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+/**
+ * A factory for building the {@link ThreadPool} handling the requests of a Dropwizard application.
+ * The pool is sized by the {@code minThreads}, {@code maxThreads}, {@code maxQueuedRequests} and
+ * {@code idleThreadTimeout} settings of the {@link AbstractServerFactory server}.
+ *
+ * @see QueuedThreadPoolFactory
+ * @see ExecutorThreadPoolFactory
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type", defaultImpl = QueuedThreadPoolFactory.class)
+public interface ThreadPoolFactory extends Discoverable {
+    /**
+     * Build a thread pool for the requests of a Dropwizard application.
+     *
+     * @param metricRegistry    the application's metrics
+     * @param minThreads        the minimum number of threads to keep alive
+     * @param maxThreads        the maximum number of threads
+     * @param maxQueuedRequests the maximum number of requests to queue before blocking the acceptors
+     * @param idleThreadTimeout the amount of time a thread can be idle before being stopped
+     * @return a {@link ThreadPool} for the application's server
+     */
+    ThreadPool build(MetricRegistry metricRegistry,
+                     int minThreads,
+                     int maxThreads,
+                     int maxQueuedRequests,
+                     Duration idleThreadTimeout);
+}
@@ -3,18 +3,23 @@ package io.dropwizard.setup;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.health.HealthCheckRegistry;
 import com.codahale.metrics.health.jvm.ThreadDeadlockHealthCheck;
+import com.codahale.metrics.servlets.HealthCheckServlet;
 import io.dropwizard.jetty.MutableServletContextHandler;
 import io.dropwizard.jetty.setup.ServletEnvironment;
 import io.dropwizard.servlets.tasks.GarbageCollectionTask;
 import io.dropwizard.servlets.tasks.LogConfigurationTask;
 import io.dropwizard.servlets.tasks.Task;
 import io.dropwizard.servlets.tasks.TaskServlet;
+import io.dropwizard.util.Duration;
 import org.eclipse.jetty.util.component.AbstractLifeCycle;
 import org.eclipse.jetty.util.component.LifeCycle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import static com.google.common.base.MoreObjects.firstNonNull;
+import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -23,9 +28,14 @@ import static java.util.Objects.requireNonNull;
 public class AdminEnvironment extends ServletEnvironment {
     private static final Logger LOGGER = LoggerFactory.getLogger(AdminEnvironment.class);
 
+    private final MutableServletContextHandler handler;
     private final HealthCheckRegistry healthChecks;
+    private final MetricRegistry metricRegistry;
     private final TaskServlet tasks;
 
+    @Nullable
+    private ScheduledHealthCheckRegistry scheduledHealthChecks;
+
     /**
      * Creates a new {@link AdminEnvironment}.
      *
@@ -35,7 +45,9 @@ public class AdminEnvironment extends ServletEnvironment {
     public AdminEnvironment(MutableServletContextHandler handler,
                             HealthCheckRegistry healthChecks, MetricRegistry metricRegistry) {
         super(handler);
+        this.handler = handler;
         this.healthChecks = healthChecks;
+        this.metricRegistry = metricRegistry;
         this.healthChecks.register("deadlocks", new ThreadDeadlockHealthCheck());
         this.tasks = new TaskServlet(metricRegistry);
         tasks.add(new GarbageCollectionTask());
@@ -59,6 +71,55 @@ public class AdminEnvironment extends ServletEnvironment {
         tasks.add(requireNonNull(task));
     }
 
+    /**
+     * Runs the health checks periodically in the background, using a single thread, and makes the
+     * admin servlet serve their latest results instead of running them on every request.
+     *
+     * @param defaultInterval the interval between two runs of a health check
+     * @return the registry holding the latest health check results, which allows to override the
+     * interval of specific health checks
+     * @see #scheduleHealthChecks(Duration, int)
+     */
+    public ScheduledHealthCheckRegistry scheduleHealthChecks(Duration defaultInterval) {
+        return scheduleHealthChecks(defaultInterval, 1);
+    }
+
+    /**
+     * Runs the health checks periodically in the background and makes the admin servlet serve their
+     * latest results instead of running them on every request. The health checks are scheduled when
+     * the admin context starts and stop running when it stops.
+     * <p>
+     * The scheduled health checks replace the runner configured by {@code server.healthChecks}: they
+     * run in parallel on the given number of threads, and are bounded by the timeouts of the returned
+     * registry.
+     *
+     * @param defaultInterval the interval between two runs of a health check
+     * @param threads         the number of threads running the health checks
+     * @return the registry holding the latest health check results, which allows to override the
+     * interval of specific health checks
+     */
+    public ScheduledHealthCheckRegistry scheduleHealthChecks(Duration defaultInterval, int threads) {
+        checkState(scheduledHealthChecks == null, "Health checks are already scheduled");
+        final ScheduledHealthCheckRegistry registry =
+                new ScheduledHealthCheckRegistry(healthChecks, metricRegistry, defaultInterval, threads);
+        handler.addLifeCycleListener(new AbstractLifeCycle.AbstractLifeCycleListener() {
+            @Override
+            public void lifeCycleStarting(LifeCycle event) {
+                // the admin servlet reads the registry when it's initialized, after it has been set by
+                // the server factory
+                handler.getServletContext().setAttribute(HealthCheckServlet.HEALTH_CHECK_REGISTRY, registry);
+                registry.start();
+            }
+
+            @Override
+            public void lifeCycleStopped(LifeCycle event) {
+                registry.stop();
+            }
+        });
+        this.scheduledHealthChecks = registry;
+        return registry;
+    }
+
     private void logTasks() {
         final StringBuilder stringBuilder = new StringBuilder(1024).append(String.format("%n%n"));
 
@@ -43,6 +43,7 @@ public class Bootstrap<T extends Configuration> {
     private final List<Bundle> bundles;
     private final List<ConfiguredBundle<? super T>> configuredBundles;
     private final List<Command> commands;
+    private final StartupTimeline startupTimeline;
 
     private ObjectMapper objectMapper;
     private MetricRegistry metricRegistry;
@@ -60,17 +61,20 @@ public class Bootstrap<T extends Configuration> {
      * @param application a Dropwizard {@link Application}
      */
     public Bootstrap(Application<T> application) {
-        this.application = application;
-        this.objectMapper = Jackson.newObjectMapper();
-        this.bundles = new ArrayList<>();
-        this.configuredBundles = new ArrayList<>();
-        this.commands = new ArrayList<>();
-        this.validatorFactory = Validators.newValidatorFactory();
-        this.metricRegistry = new MetricRegistry();
-        this.configurationSourceProvider = new FileConfigurationSourceProvider();
-        this.classLoader = Thread.currentThread().getContextClassLoader();
-        this.configurationFactoryFactory = new DefaultConfigurationFactoryFactory<>();
-        this.healthCheckRegistry = new HealthCheckRegistry();
+        this.startupTimeline = new StartupTimeline();
+        try (StartupTimeline.Phase ignored = startupTimeline.start("bootstrap")) {
+            this.application = application;
+            this.objectMapper = Jackson.newObjectMapper();
+            this.bundles = new ArrayList<>();
+            this.configuredBundles = new ArrayList<>();
+            this.commands = new ArrayList<>();
+            this.validatorFactory = Validators.newValidatorFactory();
+            this.metricRegistry = new MetricRegistry();
+            this.configurationSourceProvider = new FileConfigurationSourceProvider();
+            this.classLoader = Thread.currentThread().getContextClassLoader();
+            this.configurationFactoryFactory = new DefaultConfigurationFactoryFactory<>();
+            this.healthCheckRegistry = new HealthCheckRegistry();
+        }
     }
 
     /**
@@ -193,11 +197,17 @@ public class Bootstrap<T extends Configuration> {
      * @throws Exception if a bundle throws an exception
      */
     public void run(T configuration, Environment environment) throws Exception {
-        for (Bundle bundle : bundles) {
-            bundle.run(environment);
-        }
-        for (ConfiguredBundle<? super T> bundle : configuredBundles) {
-            bundle.run(configuration, environment);
+        try (StartupTimeline.Phase ignored = startupTimeline.start("bundles")) {
+            for (Bundle bundle : bundles) {
+                try (StartupTimeline.Phase bundlePhase = startupTimeline.start(bundle.getClass().getName())) {
+                    bundle.run(environment);
+                }
+            }
+            for (ConfiguredBundle<? super T> bundle : configuredBundles) {
+                try (StartupTimeline.Phase bundlePhase = startupTimeline.start(bundle.getClass().getName())) {
+                    bundle.run(configuration, environment);
+                }
+            }
         }
     }
 
@@ -250,6 +260,13 @@ public class Bootstrap<T extends Configuration> {
         return healthCheckRegistry;
     }
 
+    /**
+     * Returns the timeline of the application's startup.
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
     public void setHealthCheckRegistry(HealthCheckRegistry healthCheckRegistry) {
         this.healthCheckRegistry = healthCheckRegistry;
     }
@@ -0,0 +1,61 @@
+package io.dropwizard.setup;
+
+import com.codahale.metrics.health.HealthCheck;
+import com.codahale.metrics.health.HealthCheckRegistry;
+import com.codahale.metrics.health.HealthCheckRegistryListener;
+
+import java.util.SortedSet;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link HealthCheckRegistry} which registers its health checks with another registry, and only
+ * changes how they are run.
+ * <p>
+ * Every constructor of {@link HealthCheckRegistry} but one creates an executor, which would never be
+ * shut down, so subclasses pass the executor running their health checks instead.
+ */
+public abstract class ForwardingHealthCheckRegistry extends HealthCheckRegistry {
+    private final HealthCheckRegistry healthChecks;
+
+    protected ForwardingHealthCheckRegistry(HealthCheckRegistry healthChecks,
+                                            ScheduledExecutorService asyncExecutorService) {
+        super(asyncExecutorService);
+        this.healthChecks = requireNonNull(healthChecks);
+    }
+
+    /**
+     * Returns the registry the health checks are registered with.
+     *
+     * @return the underlying health check registry
+     */
+    protected HealthCheckRegistry delegate() {
+        return healthChecks;
+    }
+
+    @Override
+    public void addListener(HealthCheckRegistryListener listener) {
+        healthChecks.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(HealthCheckRegistryListener listener) {
+        healthChecks.removeListener(listener);
+    }
+
+    @Override
+    public void register(String name, HealthCheck healthCheck) {
+        healthChecks.register(name, healthCheck);
+    }
+
+    @Override
+    public void unregister(String name) {
+        healthChecks.unregister(name);
+    }
+
+    @Override
+    public SortedSet<String> getNames() {
+        return healthChecks.getNames();
+    }
+}
@@ -0,0 +1,157 @@
+package io.dropwizard.setup;
+
+import com.codahale.metrics.health.HealthCheck;
+import com.codahale.metrics.health.HealthCheckRegistry;
+import io.dropwizard.util.Duration;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link HealthCheckRegistry} which runs the health checks of another registry in parallel, each one
+ * bounded by its own timeout. A health check which doesn't complete in time is reported as unhealthy,
+ * so running all health checks takes at most as long as the largest timeout.
+ * <p>
+ * A health check is never run twice at the same time: a run which is still in progress, because of
+ * concurrent requests or because it timed out, is awaited again rather than queueing another one. The
+ * queue of the executor holds at most one run per health check.
+ */
+public class ParallelHealthCheckRegistry extends ForwardingHealthCheckRegistry {
+    private final ExecutorService executorService;
+    private final Duration defaultTimeout;
+    private final ConcurrentMap<String, Duration> timeouts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Future<HealthCheck.Result>> runs = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link ParallelHealthCheckRegistry}.
+     *
+     * @param healthChecks    the registry of the health checks to run
+     * @param executorService the executor running the health checks
+     * @param defaultTimeout  the timeout of a health check without a specific timeout
+     */
+    public ParallelHealthCheckRegistry(HealthCheckRegistry healthChecks,
+                                       ScheduledExecutorService executorService,
+                                       Duration defaultTimeout) {
+        super(healthChecks, executorService);
+        checkArgument(defaultTimeout.getQuantity() > 0, "defaultTimeout must be positive");
+        this.executorService = requireNonNull(executorService);
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Overrides the timeout of the given health check.
+     *
+     * @param name    the name of the health check
+     * @param timeout the maximum time to wait for the health check
+     */
+    public void setTimeout(String name, Duration timeout) {
+        checkArgument(timeout.getQuantity() > 0, "timeout must be positive");
+        timeouts.put(requireNonNull(name), timeout);
+    }
+
+    /**
+     * Returns the timeout of the given health check.
+     *
+     * @param name the name of the health check
+     * @return the maximum time to wait for the health check
+     */
+    public Duration getTimeout(String name) {
+        return timeouts.getOrDefault(name, defaultTimeout);
+    }
+
+    @Override
+    public void unregister(String name) {
+        super.unregister(name);
+        runs.remove(name);
+    }
+
+    @Override
+    public HealthCheck.Result runHealthCheck(String name) throws NoSuchElementException {
+        final long start = System.nanoTime();
+        final HealthCheck.Result result = await(name, submit(name), start);
+        if (result == null) {
+            throw new NoSuchElementException("No health check named " + name + " exists");
+        }
+        return result;
+    }
+
+    @Override
+    public SortedMap<String, HealthCheck.Result> runHealthChecks() {
+        final long start = System.nanoTime();
+        final Map<String, Future<HealthCheck.Result>> futures = new TreeMap<>();
+        for (String name : getNames()) {
+            futures.put(name, submit(name));
+        }
+
+        final SortedMap<String, HealthCheck.Result> results = new TreeMap<>();
+        for (Map.Entry<String, Future<HealthCheck.Result>> entry : futures.entrySet()) {
+            final String name = entry.getKey();
+            final HealthCheck.Result result = await(name, entry.getValue(), start);
+            if (result != null) {
+                results.put(name, result);
+            }
+        }
+        return Collections.unmodifiableSortedMap(results);
+    }
+
+    /**
+     * Runs the health checks with the executor of this registry, ignoring the given one.
+     */
+    @Override
+    public SortedMap<String, HealthCheck.Result> runHealthChecks(ExecutorService executor) {
+        return runHealthChecks();
+    }
+
+    private Future<HealthCheck.Result> submit(String name) {
+        return runs.compute(name, (key, run) -> run != null && !run.isDone() ? run : start(key));
+    }
+
+    private Future<HealthCheck.Result> start(String name) {
+        try {
+            return executorService.submit(() -> delegate().runHealthCheck(name));
+        } catch (RejectedExecutionException e) {
+            return immediateFailedFuture(e);
+        }
+    }
+
+    @Nullable
+    private HealthCheck.Result await(String name, Future<HealthCheck.Result> future, long start) {
+        final Duration timeout = getTimeout(name);
+        final long remaining = timeout.toNanoseconds() - (System.nanoTime() - start);
+        try {
+            return future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // the run goes on, and is awaited by the next requests instead of starting another one
+            return HealthCheck.Result.unhealthy("Timed out after %s", timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return HealthCheck.Result.unhealthy(e);
+        } catch (CancellationException e) {
+            return HealthCheck.Result.unhealthy(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof NoSuchElementException) {
+                // the health check has been unregistered in the meantime
+                return null;
+            }
+            return HealthCheck.Result.unhealthy(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package io.dropwizard.setup;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.health.HealthCheck;
+import com.codahale.metrics.health.HealthCheckRegistry;
+import com.codahale.metrics.health.HealthCheckRegistryListener;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link HealthCheckRegistry} which runs the health checks of another registry periodically in the
+ * background and answers {@link #runHealthChecks()} with their latest results, instead of running every
+ * check on each request. Each result keeps the timestamp of the run which produced it.
+ * <p>
+ * Health checks are registered with and removed from the underlying registry. The checks are only run
+ * in the background once the registry has been started, and a health check which hasn't produced a
+ * result yet is run on demand. The latency of every run is tracked by a
+ * {@code com.codahale.metrics.health.HealthCheck.<name>.latency} timer.
+ * <p>
+ * A health check whose run takes longer than its timeout is reported as unhealthy until the run
+ * completes, and a result older than {@value #STALE_INTERVALS} intervals, because the runs are stuck or
+ * starved of threads, is reported as unhealthy too. The runs themselves are not interrupted.
+ */
+public class ScheduledHealthCheckRegistry extends ForwardingHealthCheckRegistry implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScheduledHealthCheckRegistry.class);
+    private static final Duration DEFAULT_TIMEOUT = Duration.seconds(10);
+
+    /**
+     * The number of intervals after which the latest result of a health check is stale.
+     */
+    public static final int STALE_INTERVALS = 3;
+
+    private final MetricRegistry metrics;
+    private final ScheduledExecutorService scheduler;
+    private final Duration defaultInterval;
+    private final ConcurrentMap<String, Duration> intervals = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Duration> timeouts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ScheduledFuture<?>> scheduledChecks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> runningSince = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, StampedResult> results = new ConcurrentSkipListMap<>();
+    private final HealthCheckRegistryListener listener = new HealthCheckRegistryListener() {
+        @Override
+        public void onHealthCheckAdded(String name, HealthCheck healthCheck) {
+            schedule(name);
+        }
+
+        @Override
+        public void onHealthCheckRemoved(String name, HealthCheck healthCheck) {
+            cancel(name);
+            runningSince.remove(name);
+            results.remove(name);
+        }
+    };
+
+    /**
+     * Creates a new {@link ScheduledHealthCheckRegistry}.
+     *
+     * @param healthChecks    the registry of the health checks to run
+     * @param metrics         the registry of the health check latency timers
+     * @param defaultInterval the interval between two runs of a health check without a specific interval
+     * @param threads         the number of threads running the health checks
+     */
+    public ScheduledHealthCheckRegistry(HealthCheckRegistry healthChecks,
+                                        MetricRegistry metrics,
+                                        Duration defaultInterval,
+                                        int threads) {
+        this(healthChecks, metrics, defaultInterval, new ScheduledThreadPoolExecutor(threads,
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("health-check-%d").build()));
+    }
+
+    private ScheduledHealthCheckRegistry(HealthCheckRegistry healthChecks,
+                                         MetricRegistry metrics,
+                                         Duration defaultInterval,
+                                         ScheduledExecutorService scheduler) {
+        super(healthChecks, scheduler);
+        checkArgument(defaultInterval.getQuantity() > 0, "defaultInterval must be positive");
+        this.metrics = requireNonNull(metrics);
+        this.defaultInterval = defaultInterval;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Overrides the interval between two runs of the given health check.
+     *
+     * @param name     the name of the health check
+     * @param interval the interval between two runs of the health check
+     */
+    public void setInterval(String name, Duration interval) {
+        checkArgument(interval.getQuantity() > 0, "interval must be positive");
+        intervals.put(requireNonNull(name), interval);
+        if (cancel(name)) {
+            schedule(name);
+        }
+    }
+
+    /**
+     * Returns the interval between two runs of the given health check.
+     *
+     * @param name the name of the health check
+     * @return the interval between two runs of the health check
+     */
+    public Duration getInterval(String name) {
+        return intervals.getOrDefault(name, defaultInterval);
+    }
+
+    /**
+     * Overrides the timeout of the given health check.
+     *
+     * @param name    the name of the health check
+     * @param timeout the time after which a run of the health check is reported as unhealthy
+     */
+    public void setTimeout(String name, Duration timeout) {
+        checkArgument(timeout.getQuantity() > 0, "timeout must be positive");
+        timeouts.put(requireNonNull(name), timeout);
+    }
+
+    /**
+     * Returns the timeout of the given health check, which is 10 seconds unless overridden.
+     *
+     * @param name the name of the health check
+     * @return the time after which a run of the health check is reported as unhealthy
+     */
+    public Duration getTimeout(String name) {
+        return timeouts.getOrDefault(name, DEFAULT_TIMEOUT);
+    }
+
+    @Override
+    public void start() {
+        delegate().addListener(listener);
+    }
+
+    @Override
+    public void stop() {
+        delegate().removeListener(listener);
+        shutdown();
+    }
+
+    /**
+     * Returns the latest result of the given health check, running it if it hasn't produced one yet.
+     */
+    @Override
+    public HealthCheck.Result runHealthCheck(String name) throws NoSuchElementException {
+        final long now = System.nanoTime();
+        final StampedResult result = results.get(name);
+        if (result != null || runningSince.containsKey(name)) {
+            return check(name, result, now);
+        }
+        return run(name);
+    }
+
+    /**
+     * Returns the latest results of all health checks, running those which haven't produced one yet.
+     */
+    @Override
+    public SortedMap<String, HealthCheck.Result> runHealthChecks() {
+        final long now = System.nanoTime();
+        final SortedMap<String, HealthCheck.Result> latest = new TreeMap<>();
+        for (String name : delegate().getNames()) {
+            final StampedResult result = results.get(name);
+            try {
+                if (result != null || runningSince.containsKey(name)) {
+                    latest.put(name, check(name, result, now));
+                } else {
+                    latest.put(name, run(name));
+                }
+            } catch (NoSuchElementException ignored) {
+                // the health check has been unregistered in the meantime
+            }
+        }
+        return Collections.unmodifiableSortedMap(latest);
+    }
+
+    /**
+     * Returns the latest results of all health checks. The results are read from memory, so the
+     * executor is not used.
+     */
+    @Override
+    public SortedMap<String, HealthCheck.Result> runHealthChecks(ExecutorService executor) {
+        return runHealthChecks();
+    }
+
+    private void schedule(String name) {
+        final long interval = getInterval(name).toMilliseconds();
+        scheduledChecks.computeIfAbsent(name, key ->
+                scheduler.scheduleWithFixedDelay(() -> runScheduled(key), 0, interval, TimeUnit.MILLISECONDS));
+    }
+
+    private boolean cancel(String name) {
+        final ScheduledFuture<?> future = scheduledChecks.remove(name);
+        if (future == null) {
+            return false;
+        }
+        future.cancel(false);
+        return true;
+    }
+
+    private void runScheduled(String name) {
+        try {
+            run(name);
+        } catch (NoSuchElementException ignored) {
+            // the health check has been unregistered in the meantime
+        } catch (Exception e) {
+            // never let an exception cancel the next runs of the health check
+            LOGGER.warn("Unable to run health check {}", name, e);
+            results.put(name, new StampedResult(HealthCheck.Result.unhealthy(e), System.nanoTime()));
+        }
+    }
+
+    /**
+     * Checks that the latest result of a health check is still relevant.
+     */
+    private HealthCheck.Result check(String name, @Nullable StampedResult result, long now) {
+        @Nullable
+        final Long start = runningSince.get(name);
+        final Duration timeout = getTimeout(name);
+        if (start != null && now - start > timeout.toNanoseconds()) {
+            return HealthCheck.Result.unhealthy("Timed out after %s", timeout);
+        }
+        if (result == null) {
+            return HealthCheck.Result.unhealthy("Not completed yet");
+        }
+        final long staleAfter = getInterval(name).toNanoseconds() * STALE_INTERVALS;
+        if (now - result.completedAt > staleAfter) {
+            return HealthCheck.Result.unhealthy("Stale since %s: %s", result.result.getTimestamp(),
+                    result.result.getMessage());
+        }
+        return result.result;
+    }
+
+    private HealthCheck.Result run(String name) {
+        final HealthCheck.Result result;
+        final Timer.Context context = metrics.timer(name(HealthCheck.class, name, "latency")).time();
+        runningSince.put(name, System.nanoTime());
+        try {
+            result = delegate().runHealthCheck(name);
+        } finally {
+            runningSince.remove(name);
+            context.stop();
+        }
+        results.put(name, new StampedResult(result, System.nanoTime()));
+        return result;
+    }
+
+    private static class StampedResult {
+        private final HealthCheck.Result result;
+        private final long completedAt;
+
+        StampedResult(HealthCheck.Result result, long completedAt) {
+            this.result = result;
+            this.completedAt = completedAt;
+        }
+    }
+}
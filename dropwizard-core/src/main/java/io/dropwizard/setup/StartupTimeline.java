@@ -0,0 +1,136 @@
+package io.dropwizard.setup;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * The timeline of the startup of an application: the phases of the boot, from the start of the JVM
+ * until the server is started, with the time they started at and their duration in milliseconds.
+ * <p>
+ * The phases are listed in the order they started; a phase started while another one is running,
+ * such as the run of a bundle while the bundles are run, is part of it. The timeline is serialized
+ * by Jackson as:
+ * <pre>
+ * {
+ *   "jvmStartTime": 1514764800000,
+ *   "phases": [
+ *     {"name": "jvm", "start": 0, "duration": 412},
+ *     {"name": "bootstrap", "start": 412, "duration": 380},
+ *     ...
+ *   ]
+ * }
+ * </pre>
+ */
+public class StartupTimeline {
+    private final long jvmStartTime;
+    private final Supplier<Long> currentTimeProvider;
+    private final List<Phase> phases = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new timeline, starting with the start of the JVM.
+     */
+    public StartupTimeline() {
+        this(ManagementFactory.getRuntimeMXBean().getStartTime(), System::currentTimeMillis);
+    }
+
+    StartupTimeline(long jvmStartTime, Supplier<Long> currentTimeProvider) {
+        this.jvmStartTime = jvmStartTime;
+        this.currentTimeProvider = currentTimeProvider;
+        start("jvm", 0).close();
+    }
+
+    /**
+     * Returns the time the JVM started at.
+     *
+     * @return the start time of the JVM in milliseconds since the epoch
+     */
+    @JsonProperty
+    public long getJvmStartTime() {
+        return jvmStartTime;
+    }
+
+    /**
+     * Returns the phases of the startup, in the order they started.
+     *
+     * @return the started phases
+     */
+    @JsonProperty
+    public ImmutableList<Phase> getPhases() {
+        return ImmutableList.copyOf(phases);
+    }
+
+    /**
+     * Starts a new phase, which lasts until it is closed.
+     *
+     * @param name the name of the phase
+     * @return the started phase
+     */
+    public Phase start(String name) {
+        return start(name, currentTimeProvider.get() - jvmStartTime);
+    }
+
+    private Phase start(String name, long start) {
+        final Phase phase = new Phase(name, start);
+        phases.add(phase);
+        return phase;
+    }
+
+    /**
+     * A phase of the startup.
+     */
+    public class Phase implements AutoCloseable {
+        private final String name;
+        private final long start;
+        private volatile long duration = -1;
+
+        private Phase(String name, long start) {
+            this.name = name;
+            this.start = start;
+        }
+
+        @JsonProperty
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the time the phase started at.
+         *
+         * @return the time since the start of the JVM in milliseconds
+         */
+        @JsonProperty
+        public long getStart() {
+            return start;
+        }
+
+        /**
+         * Returns the duration of the phase.
+         *
+         * @return the duration in milliseconds, or {@code -1} if the phase is still running
+         */
+        @JsonProperty
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * Ends the phase.
+         */
+        @Override
+        public void close() {
+            if (duration < 0) {
+                duration = currentTimeProvider.get() - jvmStartTime - start;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name + '@' + start + '+' + duration;
+        }
+    }
+}
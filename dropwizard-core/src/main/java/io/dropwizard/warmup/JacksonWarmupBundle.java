@@ -0,0 +1,31 @@
+package io.dropwizard.warmup;
+
+import io.dropwizard.Bundle;
+import io.dropwizard.jersey.jackson.JacksonWarmup;
+import io.dropwizard.setup.Bootstrap;
+import io.dropwizard.setup.Environment;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
+
+/**
+ * Bundle that builds the Jackson serializers and deserializers of the entities of the Jersey resources while
+ * the application starts, before the connectors accept any request, instead of on the first requests.
+ *
+ * @see JacksonWarmup
+ */
+public class JacksonWarmupBundle implements Bundle {
+    @Override
+    public void initialize(Bootstrap<?> bootstrap) {
+    }
+
+    @Override
+    public void run(Environment environment) {
+        // the application context is started before the connectors, once all the resources are registered
+        environment.getApplicationContext().addLifeCycleListener(new AbstractLifeCycle.AbstractLifeCycleListener() {
+            @Override
+            public void lifeCycleStarting(LifeCycle event) {
+                new JacksonWarmup(environment.getObjectMapper()).warmup(environment.jersey().getResourceConfig());
+            }
+        });
+    }
+}
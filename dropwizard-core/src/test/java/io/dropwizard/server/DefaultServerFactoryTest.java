@@ -15,6 +15,7 @@ import io.dropwizard.logging.FileAppenderFactory;
 import io.dropwizard.logging.SyslogAppenderFactory;
 import io.dropwizard.setup.Environment;
 import io.dropwizard.setup.ExceptionMapperBinder;
+import io.dropwizard.util.Duration;
 import io.dropwizard.validation.BaseValidator;
 import org.eclipse.jetty.server.AbstractNetworkConnector;
 import org.eclipse.jetty.server.Connector;
@@ -39,6 +40,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.Assert.assertEquals;
 
 public class DefaultServerFactoryTest {
@@ -76,6 +78,15 @@ public class DefaultServerFactoryTest {
         assertThat(serverPush.getRefererPorts()).contains(8445);
     }
 
+    @Test
+    public void loadsHealthCheckRunnerConfig() throws Exception {
+        final HealthCheckRunnerFactory healthChecks = http.getHealthCheckRunnerFactory();
+        assertThat(healthChecks.isParallel()).isTrue();
+        assertThat(healthChecks.getMaxThreads()).isEqualTo(2);
+        assertThat(healthChecks.getTimeout()).isEqualTo(Duration.seconds(5));
+        assertThat(healthChecks.getTimeouts()).containsOnly(entry("database", Duration.seconds(1)));
+    }
+
     @Test
     public void hasAMaximumNumberOfThreads() throws Exception {
         assertThat(http.getMaxThreads())
@@ -0,0 +1,67 @@
+package io.dropwizard.server;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dropwizard.jackson.DiscoverableSubtypeResolver;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.util.Duration;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExecutorThreadPoolFactoryTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final ExecutorThreadPoolFactory factory = new ExecutorThreadPoolFactory();
+
+    @Test
+    public void isDiscoverable() throws Exception {
+        assertThat(new DiscoverableSubtypeResolver().getDiscoveredSubtypes())
+                .contains(QueuedThreadPoolFactory.class, ExecutorThreadPoolFactory.class);
+    }
+
+    @Test
+    public void isDeserializedByType() throws Exception {
+        final ObjectMapper objectMapper = Jackson.newObjectMapper();
+
+        assertThat(objectMapper.readValue("{\"type\": \"executor\", \"virtualThreads\": true}",
+                ThreadPoolFactory.class))
+                .isInstanceOfSatisfying(ExecutorThreadPoolFactory.class,
+                    executor -> assertThat(executor.isVirtualThreads()).isTrue());
+        assertThat(objectMapper.readValue("{}", ThreadPoolFactory.class))
+                .isInstanceOf(QueuedThreadPoolFactory.class);
+    }
+
+    @Test
+    public void runsJobsAndReportsTheQueuedThreadPoolMetrics() throws Exception {
+        assertRunsJobs(factory.build(metricRegistry, 1, 4, 16, Duration.minutes(1)));
+    }
+
+    @Test
+    public void fallsBackToPlatformThreadsWithoutVirtualThreadSupport() throws Exception {
+        factory.setVirtualThreads(true);
+
+        assertRunsJobs(factory.build(metricRegistry, 1, 4, 16, Duration.minutes(1)));
+    }
+
+    private void assertRunsJobs(ThreadPool threadPool) throws Exception {
+        ((LifeCycle) threadPool).start();
+        try {
+            final CountDownLatch latch = new CountDownLatch(1);
+            threadPool.execute(latch::countDown);
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(metricRegistry.getGauges().keySet())
+                    .containsOnly("org.eclipse.jetty.util.thread.QueuedThreadPool.dw.utilization",
+                            "org.eclipse.jetty.util.thread.QueuedThreadPool.dw.utilization-max",
+                            "org.eclipse.jetty.util.thread.QueuedThreadPool.dw.size",
+                            "org.eclipse.jetty.util.thread.QueuedThreadPool.dw.jobs");
+        } finally {
+            ((LifeCycle) threadPool).stop();
+        }
+    }
+}
@@ -2,10 +2,12 @@ package io.dropwizard.setup;
 
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.health.HealthCheckRegistry;
+import com.codahale.metrics.servlets.HealthCheckServlet;
 import com.google.common.collect.ImmutableMultimap;
 import io.dropwizard.jetty.MutableServletContextHandler;
 import io.dropwizard.logging.BootstrapLogging;
 import io.dropwizard.servlets.tasks.Task;
+import io.dropwizard.util.Duration;
 import org.eclipse.jetty.server.Server;
 import org.junit.Test;
 
@@ -42,4 +44,27 @@ public class AdminEnvironmentTest {
         assertThat(registration.getMappings())
                 .containsOnly("/tasks/*");
     }
+
+    @Test
+    public void servesScheduledHealthChecks() throws Exception {
+        handler.getServletContext().setAttribute(HealthCheckServlet.HEALTH_CHECK_REGISTRY, healthCheckRegistry);
+        final ScheduledHealthCheckRegistry scheduled = env.scheduleHealthChecks(Duration.minutes(1));
+
+        handler.setServer(new Server());
+        handler.start();
+        try {
+            assertThat(handler.getServletContext().getAttribute(HealthCheckServlet.HEALTH_CHECK_REGISTRY))
+                    .isSameAs(scheduled);
+            assertThat(scheduled.runHealthChecks())
+                    .containsOnlyKeys("deadlocks");
+        } finally {
+            handler.stop();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void schedulesHealthChecksOnlyOnce() throws Exception {
+        env.scheduleHealthChecks(Duration.minutes(1));
+        env.scheduleHealthChecks(Duration.minutes(1));
+    }
 }
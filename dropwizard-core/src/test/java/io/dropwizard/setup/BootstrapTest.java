@@ -6,6 +6,7 @@ import com.codahale.metrics.UniformReservoir;
 import com.codahale.metrics.health.HealthCheckRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.Application;
+import io.dropwizard.Bundle;
 import io.dropwizard.Configuration;
 import io.dropwizard.configuration.DefaultConfigurationFactoryFactory;
 import io.dropwizard.configuration.FileConfigurationSourceProvider;
@@ -25,6 +26,7 @@ import javax.validation.Validation;
 import javax.validation.ValidatorFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 public class BootstrapTest {
     private final Application<Configuration> application = new Application<Configuration>() {
@@ -51,6 +53,18 @@ public class BootstrapTest {
                 .isNotNull();
     }
 
+    @Test
+    public void recordsTheRunOfEachBundleInTheStartupTimeline() throws Exception {
+        final Bundle bundle = mock(Bundle.class);
+        bootstrap.addBundle(bundle);
+
+        bootstrap.run(new Configuration(), mock(Environment.class));
+
+        assertThat(bootstrap.getStartupTimeline().getPhases())
+                .extracting(StartupTimeline.Phase::getName)
+                .containsExactly("jvm", "bootstrap", "bundles", bundle.getClass().getName());
+    }
+
     @Test
     public void hasHealthCheckRegistry() {
         assertThat(bootstrap.getHealthCheckRegistry())
@@ -0,0 +1,140 @@
+package io.dropwizard.setup;
+
+import com.codahale.metrics.health.HealthCheck;
+import com.codahale.metrics.health.HealthCheckRegistry;
+import io.dropwizard.util.Duration;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelHealthCheckRegistryTest {
+    private final HealthCheckRegistry healthChecks = new HealthCheckRegistry();
+    private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(4);
+    private final ParallelHealthCheckRegistry registry =
+            new ParallelHealthCheckRegistry(healthChecks, executorService, Duration.seconds(5));
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void runsHealthChecksInParallel() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(3);
+        for (String name : new String[]{"a", "b", "c"}) {
+            registry.register(name, new HealthCheck() {
+                @Override
+                protected Result check() throws Exception {
+                    latch.countDown();
+                    // only completes if all health checks are running at the same time
+                    return latch.await(5, TimeUnit.SECONDS) ? Result.healthy() : Result.unhealthy("serial");
+                }
+            });
+        }
+
+        final SortedMap<String, HealthCheck.Result> results = registry.runHealthChecks();
+
+        assertThat(results)
+                .containsOnlyKeys("a", "b", "c");
+        assertThat(results.values())
+                .allMatch(HealthCheck.Result::isHealthy);
+    }
+
+    @Test
+    public void reportsTimedOutHealthChecksAsUnhealthy() throws Exception {
+        registry.register("fast", new HealthCheck() {
+            @Override
+            protected Result check() throws Exception {
+                return Result.healthy();
+            }
+        });
+        registry.register("slow", new HealthCheck() {
+            @Override
+            protected Result check() throws Exception {
+                Thread.sleep(10_000);
+                return Result.healthy();
+            }
+        });
+        registry.setTimeout("slow", Duration.milliseconds(100));
+
+        final long start = System.nanoTime();
+        final SortedMap<String, HealthCheck.Result> results = registry.runHealthChecks();
+
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start))
+                .isLessThan(5);
+        assertThat(results)
+                .hasEntrySatisfying("fast", result -> assertThat(result.isHealthy()).isTrue())
+                .hasEntrySatisfying("slow", result -> {
+                    assertThat(result.isHealthy()).isFalse();
+                    assertThat(result.getMessage()).isEqualTo("Timed out after 100 milliseconds");
+                });
+    }
+
+    @Test
+    public void awaitsATimedOutHealthCheckInsteadOfRunningItAgain() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch released = new CountDownLatch(1);
+        registry.register("stuck", new HealthCheck() {
+            @Override
+            protected Result check() throws Exception {
+                runs.incrementAndGet();
+                released.await(5, TimeUnit.SECONDS);
+                return Result.healthy();
+            }
+        });
+        registry.setTimeout("stuck", Duration.milliseconds(100));
+
+        try {
+            assertThat(registry.runHealthCheck("stuck").isHealthy())
+                    .isFalse();
+            assertThat(registry.runHealthCheck("stuck").isHealthy())
+                    .isFalse();
+            assertThat(runs.get())
+                    .isEqualTo(1);
+        } finally {
+            released.countDown();
+        }
+    }
+
+    @Test
+    public void runsASingleHealthCheck() throws Exception {
+        registry.register("fast", new HealthCheck() {
+            @Override
+            protected Result check() throws Exception {
+                return Result.healthy("ok");
+            }
+        });
+
+        assertThat(registry.runHealthCheck("fast").getMessage())
+                .isEqualTo("ok");
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void rejectsUnknownHealthChecks() throws Exception {
+        registry.runHealthCheck("unknown");
+    }
+
+    @Test
+    public void registersWithTheUnderlyingRegistry() throws Exception {
+        registry.register("fast", new HealthCheck() {
+            @Override
+            protected Result check() throws Exception {
+                return Result.healthy();
+            }
+        });
+
+        assertThat(healthChecks.getNames())
+                .containsOnly("fast");
+        assertThat(registry.getTimeout("fast"))
+                .isEqualTo(Duration.seconds(5));
+    }
+}
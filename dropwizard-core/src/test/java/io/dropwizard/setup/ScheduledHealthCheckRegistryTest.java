@@ -0,0 +1,151 @@
+package io.dropwizard.setup;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.health.HealthCheck;
+import com.codahale.metrics.health.HealthCheckRegistry;
+import io.dropwizard.util.Duration;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScheduledHealthCheckRegistryTest {
+    private final HealthCheckRegistry healthChecks = new HealthCheckRegistry();
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final CountingHealthCheck healthCheck = new CountingHealthCheck();
+    private final ScheduledHealthCheckRegistry registry =
+            new ScheduledHealthCheckRegistry(healthChecks, metricRegistry, Duration.hours(1), 1);
+
+    @After
+    public void tearDown() throws Exception {
+        registry.stop();
+    }
+
+    @Test
+    public void servesTheLatestResults() throws Exception {
+        registry.register("counting", healthCheck);
+
+        assertThat(registry.runHealthChecks())
+                .containsOnlyKeys("counting");
+        assertThat(registry.runHealthCheck("counting").getMessage())
+                .isEqualTo("1");
+        assertThat(registry.runHealthChecks())
+                .containsEntry("counting", registry.runHealthCheck("counting"));
+        assertThat(healthCheck.runs.get())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void registersWithTheUnderlyingRegistry() throws Exception {
+        registry.register("counting", healthCheck);
+        assertThat(healthChecks.getNames())
+                .containsOnly("counting");
+
+        registry.unregister("counting");
+        assertThat(registry.getNames())
+                .isEmpty();
+    }
+
+    @Test
+    public void runsHealthChecksPeriodically() throws Exception {
+        registry.setInterval("counting", Duration.milliseconds(10));
+        registry.register("counting", healthCheck);
+        registry.start();
+
+        waitForRuns(3);
+
+        assertThat(Integer.parseInt(registry.runHealthCheck("counting").getMessage()))
+                .isGreaterThanOrEqualTo(3);
+        assertThat(metricRegistry.timer("com.codahale.metrics.health.HealthCheck.counting.latency").getCount())
+                .isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    public void dropsTheResultsOfUnregisteredHealthChecks() throws Exception {
+        registry.register("counting", healthCheck);
+        registry.start();
+        registry.runHealthChecks();
+
+        registry.unregister("counting");
+
+        assertThat(registry.runHealthChecks())
+                .isEmpty();
+    }
+
+    @Test
+    public void reportsStaleResultsAsUnhealthy() throws Exception {
+        registry.setInterval("counting", Duration.milliseconds(10));
+        registry.register("counting", healthCheck);
+        assertThat(registry.runHealthCheck("counting").isHealthy())
+                .isTrue();
+
+        // the registry isn't started, so the health check isn't run again
+        Thread.sleep(100);
+
+        final HealthCheck.Result result = registry.runHealthCheck("counting");
+        assertThat(result.isHealthy())
+                .isFalse();
+        assertThat(result.getMessage())
+                .startsWith("Stale since ")
+                .endsWith(": 1");
+        assertThat(registry.runHealthChecks())
+                .hasEntrySatisfying("counting", stale -> assertThat(stale.isHealthy()).isFalse());
+    }
+
+    @Test
+    public void reportsRunsExceedingTheirTimeoutAsUnhealthy() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        registry.register("stuck", new HealthCheck() {
+            @Override
+            protected Result check() throws Exception {
+                started.countDown();
+                released.await(5, TimeUnit.SECONDS);
+                return Result.healthy();
+            }
+        });
+        registry.setTimeout("stuck", Duration.milliseconds(50));
+        registry.start();
+
+        try {
+            assertThat(started.await(5, TimeUnit.SECONDS))
+                    .isTrue();
+            Thread.sleep(100);
+
+            assertThat(registry.runHealthCheck("stuck").getMessage())
+                    .isEqualTo("Timed out after 50 milliseconds");
+        } finally {
+            released.countDown();
+        }
+    }
+
+    @Test
+    public void overridesTheIntervalOfAHealthCheck() throws Exception {
+        registry.setInterval("counting", Duration.seconds(5));
+
+        assertThat(registry.getInterval("counting"))
+                .isEqualTo(Duration.seconds(5));
+        assertThat(registry.getInterval("other"))
+                .isEqualTo(Duration.hours(1));
+    }
+
+    private void waitForRuns(int runs) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (healthCheck.runs.get() < runs && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class CountingHealthCheck extends HealthCheck {
+        private final AtomicInteger runs = new AtomicInteger();
+
+        @Override
+        protected Result check() throws Exception {
+            return Result.healthy(String.valueOf(runs.incrementAndGet()));
+        }
+    }
+}
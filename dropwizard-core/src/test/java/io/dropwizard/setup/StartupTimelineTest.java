@@ -0,0 +1,62 @@
+package io.dropwizard.setup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.dropwizard.jackson.Jackson;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class StartupTimelineTest {
+    private final AtomicLong currentTime = new AtomicLong(1_000);
+    private final StartupTimeline timeline = new StartupTimeline(100, currentTime::get);
+
+    @Test
+    public void startsWithTheStartOfTheJvm() throws Exception {
+        assertThat(timeline.getPhases())
+                .extracting(StartupTimeline.Phase::getName, StartupTimeline.Phase::getStart,
+                        StartupTimeline.Phase::getDuration)
+                .containsExactly(tuple("jvm", 0L, 900L));
+    }
+
+    @Test
+    public void recordsThePhasesInTheOrderTheyStarted() throws Exception {
+        try (StartupTimeline.Phase bundles = timeline.start("bundles")) {
+            currentTime.addAndGet(10);
+            try (StartupTimeline.Phase bundle = timeline.start("com.example.DatabaseBundle")) {
+                currentTime.addAndGet(20);
+            }
+        }
+        final StartupTimeline.Phase running = timeline.start("server");
+
+        assertThat(timeline.getPhases())
+                .extracting(StartupTimeline.Phase::getName, StartupTimeline.Phase::getStart,
+                        StartupTimeline.Phase::getDuration)
+                .containsExactly(tuple("jvm", 0L, 900L),
+                        tuple("bundles", 900L, 30L),
+                        tuple("com.example.DatabaseBundle", 910L, 20L),
+                        tuple("server", 930L, -1L));
+
+        currentTime.addAndGet(5);
+        running.close();
+        currentTime.addAndGet(5);
+        running.close();
+
+        assertThat(running.getDuration())
+                .isEqualTo(5);
+    }
+
+    @Test
+    public void isSerializedAsJson() throws Exception {
+        timeline.start("bootstrap").close();
+
+        final JsonNode json = Jackson.newObjectMapper().valueToTree(timeline);
+
+        assertThat(json.get("jvmStartTime").asLong())
+                .isEqualTo(100);
+        assertThat(json.get("phases").get(1).toString())
+                .isEqualTo("{\"name\":\"bootstrap\",\"start\":900,\"duration\":0}");
+    }
+}
@@ -0,0 +1,74 @@
+package io.dropwizard.hibernate;
+
+import org.hibernate.SessionFactory;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A {@link SessionFactory} being built on a background thread: every call waits for the build to
+ * complete, then is delegated to the built factory. It is equal to the built factory, so that it can
+ * be used as the key of the sessions bound by {@link org.hibernate.context.internal.ManagedSessionContext}.
+ */
+class BackgroundSessionFactory implements InvocationHandler {
+    private final CompletableFuture<SessionFactory> future;
+
+    private BackgroundSessionFactory(CompletableFuture<SessionFactory> future) {
+        this.future = future;
+    }
+
+    static SessionFactory of(CompletableFuture<SessionFactory> future) {
+        return (SessionFactory) Proxy.newProxyInstance(SessionFactory.class.getClassLoader(),
+                new Class<?>[]{SessionFactory.class}, new BackgroundSessionFactory(future));
+    }
+
+    /**
+     * Waits for the build of the given factory, if it is built in the background.
+     *
+     * @param sessionFactory a session factory
+     * @return the built factory
+     */
+    static SessionFactory await(SessionFactory sessionFactory) {
+        if (Proxy.isProxyClass(sessionFactory.getClass())
+                && Proxy.getInvocationHandler(sessionFactory) instanceof BackgroundSessionFactory) {
+            return ((BackgroundSessionFactory) Proxy.getInvocationHandler(sessionFactory)).get();
+        }
+        return sessionFactory;
+    }
+
+    private SessionFactory get() {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building the session factory", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Unable to build the session factory", e.getCause());
+        }
+    }
+
+    @Override
+    @Nullable
+    public Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+        if ("toString".equals(method.getName()) && method.getParameterCount() == 0 && !future.isDone()) {
+            return "SessionFactory (building)";
+        }
+        if ("equals".equals(method.getName()) && method.getParameterCount() == 1 && args != null) {
+            final Object other = args[0];
+            return get().equals(other instanceof SessionFactory ? await((SessionFactory) other) : other);
+        }
+        try {
+            return method.invoke(get(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
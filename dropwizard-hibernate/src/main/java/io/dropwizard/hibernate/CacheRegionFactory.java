@@ -0,0 +1,77 @@
+package io.dropwizard.hibernate;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.expiry.Expirations;
+import org.ehcache.jsr107.Eh107Configuration;
+
+import javax.annotation.Nullable;
+import javax.cache.configuration.Configuration;
+import javax.validation.constraints.Min;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A factory for the configuration of a region of the Hibernate second-level cache, kept on the heap.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxEntries}</td>
+ *         <td>10000</td>
+ *         <td>The maximum number of entries in the region. The least recently used entries are evicted.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code timeToLive}</td>
+ *         <td>none</td>
+ *         <td>The time after which an entry expires once it is cached. Entries never expire by default.</td>
+ *     </tr>
+ * </table>
+ */
+public class CacheRegionFactory {
+    @Min(1)
+    private long maxEntries = 10_000;
+
+    @Nullable
+    private Duration timeToLive;
+
+    @JsonProperty
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    @JsonProperty
+    public void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @JsonProperty
+    public Optional<Duration> getTimeToLive() {
+        return Optional.ofNullable(timeToLive);
+    }
+
+    @JsonProperty
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Builds the JCache configuration of the region.
+     *
+     * @return the configuration of an Ehcache cache
+     */
+    public Configuration<Object, Object> build() {
+        final CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(timeToLive == null ? Expirations.noExpiration() : Expirations.timeToLiveExpiration(
+                        org.ehcache.expiry.Duration.of(timeToLive.toMilliseconds(), TimeUnit.MILLISECONDS)));
+        return Eh107Configuration.fromEhcacheCacheConfiguration(builder);
+    }
+}
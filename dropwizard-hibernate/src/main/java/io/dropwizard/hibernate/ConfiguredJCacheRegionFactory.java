@@ -0,0 +1,45 @@
+package io.dropwizard.hibernate;
+
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.JCacheRegionFactory;
+import org.hibernate.cache.spi.CacheDataDescription;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * A {@link JCacheRegionFactory} which keeps the regions of a session factory in an Ehcache cache manager of
+ * its own, configured by a {@link SecondLevelCacheFactory}.
+ */
+class ConfiguredJCacheRegionFactory extends JCacheRegionFactory {
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final SecondLevelCacheFactory cacheFactory;
+
+    ConfiguredJCacheRegionFactory(String name, SecondLevelCacheFactory cacheFactory) {
+        this.name = name;
+        this.cacheFactory = cacheFactory;
+    }
+
+    @Override
+    protected CacheManager getCacheManager(Properties properties) {
+        final EhcacheCachingProvider provider =
+                (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        // the cache manager is closed with the session factory, so it must not be shared with another one
+        final URI uri = URI.create("urn:dropwizard:hibernate:" + name + ':' + UUID.randomUUID());
+        return provider.getCacheManager(uri, new DefaultConfiguration(provider.getDefaultClassLoader()));
+    }
+
+    @Override
+    protected Cache<Object, Object> createCache(String regionName,
+                                                Properties properties,
+                                                CacheDataDescription metadata) {
+        return getCacheManager().createCache(regionName, cacheFactory.getRegion(regionName).build());
+    }
+}
@@ -22,6 +22,8 @@ public abstract class HibernateBundle<T extends Configuration> implements Config
     @Nullable
     private SessionFactory sessionFactory;
     private boolean lazyLoadingEnabled = true;
+    private boolean backgroundBuildEnabled = false;
+    private SecondLevelCacheFactory secondLevelCacheFactory = new SecondLevelCacheFactory();
 
     private final ImmutableList<Class<?>> entities;
     private final SessionFactoryFactory sessionFactoryFactory;
@@ -53,6 +55,14 @@ public abstract class HibernateBundle<T extends Configuration> implements Config
         return module;
     }
 
+    /**
+     * Override to enable and configure the second-level cache, e.g. from a {@link SecondLevelCacheFactory}
+     * of the configuration. The cache is disabled by default.
+     */
+    public SecondLevelCacheFactory getSecondLevelCacheFactory(T configuration) {
+        return new SecondLevelCacheFactory();
+    }
+
     /**
      * Override to configure the name of the bundle
      * (It's used for the bundle health check and database pool metrics)
@@ -64,8 +74,11 @@ public abstract class HibernateBundle<T extends Configuration> implements Config
     @Override
     public final void run(T configuration, Environment environment) throws Exception {
         final PooledDataSourceFactory dbConfig = getDataSourceFactory(configuration);
-        this.sessionFactory = requireNonNull(sessionFactoryFactory.build(this, environment, dbConfig,
-            entities, name()));
+        this.secondLevelCacheFactory = getSecondLevelCacheFactory(configuration);
+        this.sessionFactory = requireNonNull(backgroundBuildEnabled
+            ? sessionFactoryFactory.buildInBackground(this, environment, dbConfig, entities, name())
+            : sessionFactoryFactory.build(this, environment, dbConfig, entities, name()));
+        secondLevelCacheFactory.registerMetrics(environment.metrics(), name(), sessionFactory);
         registerUnitOfWorkListenerIfAbsent(environment).registerSessionFactory(name(), sessionFactory);
         environment.healthChecks().register(name(),
                                             new SessionFactoryHealthCheck(
@@ -94,10 +107,28 @@ public abstract class HibernateBundle<T extends Configuration> implements Config
         this.lazyLoadingEnabled = lazyLoadingEnabled;
     }
 
+    public boolean isBackgroundBuildEnabled() {
+        return backgroundBuildEnabled;
+    }
+
+    /**
+     * Sets whether the {@link SessionFactory} is built on a background thread while the application
+     * keeps initializing, instead of during {@link #run(Configuration, Environment)}. The factory
+     * returned by {@link #getSessionFactory()} can be used right away: each call waits for the build to
+     * complete, and the server waits for it before it starts.
+     */
+    public void setBackgroundBuildEnabled(boolean backgroundBuildEnabled) {
+        this.backgroundBuildEnabled = backgroundBuildEnabled;
+    }
+
     public SessionFactory getSessionFactory() {
         return requireNonNull(sessionFactory);
     }
 
+    void configureSecondLevelCache(org.hibernate.cfg.Configuration configuration) {
+        secondLevelCacheFactory.configure(configuration, name());
+    }
+
     protected void configure(org.hibernate.cfg.Configuration configuration) {
     }
 }
@@ -1,7 +1,6 @@
 package io.dropwizard.hibernate;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableList.Builder;
 import io.dropwizard.Configuration;
 import org.glassfish.jersey.server.internal.scanning.AnnotationAcceptingListener;
 import org.glassfish.jersey.server.internal.scanning.PackageNamesScanner;
@@ -9,6 +8,11 @@ import org.glassfish.jersey.server.internal.scanning.PackageNamesScanner;
 import javax.persistence.Entity;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Extension of HibernateBundle that scans given package for entities instead of giving them by hand.
@@ -31,16 +35,30 @@ public abstract class ScanningHibernateBundle<T extends Configuration> extends H
     }
 
     /**
-     * Method scanning given directory for classes containing Hibernate @Entity annotation
+     * Method scanning given directory for classes containing Hibernate @Entity annotation. The packages are
+     * scanned in parallel.
      *
      * @param pckgs string array with packages containing Hibernate entities (classes annotated with @Entity annotation)
      *             e.g. com.codahale.fake.db.directory.entities
      * @return ImmutableList with classes from given directory annotated with Hibernate @Entity annotation
      */
     public static ImmutableList<Class<?>> findEntityClassesFromDirectory(String[] pckgs) {
+        // the scanning threads of the common pool may not have the context class loader of the caller
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final List<Set<Class<?>>> entityClasses = Arrays.stream(pckgs)
+                .parallel()
+                .map(pckg -> findEntityClassesFromPackage(classLoader, pckg))
+                .collect(Collectors.toList());
+
+        final Set<Class<?>> entities = new LinkedHashSet<>();
+        entityClasses.forEach(entities::addAll);
+        return ImmutableList.copyOf(entities);
+    }
+
+    private static Set<Class<?>> findEntityClassesFromPackage(ClassLoader classLoader, String pckg) {
         @SuppressWarnings("unchecked")
-        final AnnotationAcceptingListener asl = new AnnotationAcceptingListener(Entity.class);
-        try (final PackageNamesScanner scanner = new PackageNamesScanner(pckgs, true)) {
+        final AnnotationAcceptingListener asl = new AnnotationAcceptingListener(classLoader, Entity.class);
+        try (final PackageNamesScanner scanner = new PackageNamesScanner(classLoader, new String[]{pckg}, true)) {
             while (scanner.hasNext()) {
                 final String next = scanner.next();
                 if (asl.accept(next)) {
@@ -52,12 +70,6 @@ public abstract class ScanningHibernateBundle<T extends Configuration> extends H
                 }
             }
         }
-
-        final Builder<Class<?>> builder = ImmutableList.builder();
-        for (Class<?> clazz : asl.getAnnotatedClasses()) {
-            builder.add(clazz);
-        }
-
-        return builder.build();
+        return asl.getAnnotatedClasses();
     }
 }
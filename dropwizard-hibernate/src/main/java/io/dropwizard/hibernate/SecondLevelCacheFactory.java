@@ -0,0 +1,217 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.UpdateTimestampsCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A factory for the Hibernate second-level and query caches, kept in-process by Ehcache through JCache.
+ * The {@code org.hibernate:hibernate-jcache} and {@code org.ehcache:ehcache} dependencies are optional,
+ * and must be added to the application to enable the caches.
+ * <p/>
+ * Only the entities and collections annotated with {@link javax.persistence.Cacheable} or
+ * {@code @org.hibernate.annotations.Cache} are cached, each one in the region named after its class
+ * (or its role, for a collection), unless the annotation names another region.
+ * <p/>
+ * The hits, misses and puts of the configured regions are reported as
+ * {@code io.dropwizard.hibernate.SecondLevelCacheFactory.<name>.<region>.hits}, {@code misses} and
+ * {@code puts}, the totals of all the regions as {@code io.dropwizard.hibernate.SecondLevelCacheFactory.<name>.hits},
+ * {@code misses} and {@code puts}, and the ones of the query cache as
+ * {@code io.dropwizard.hibernate.SecondLevelCacheFactory.<name>.query.hits}, {@code misses} and {@code puts}.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code enabled}</td>
+ *         <td>false</td>
+ *         <td>Whether the second-level cache is used.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code queryCacheEnabled}</td>
+ *         <td>false</td>
+ *         <td>Whether the results of the cacheable queries are cached too.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code defaultRegion}</td>
+ *         <td>10000 entries, no expiry</td>
+ *         <td>The {@link CacheRegionFactory configuration} of the regions which are not configured in {@code regions}.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code regions}</td>
+ *         <td>(none)</td>
+ *         <td>The {@link CacheRegionFactory configuration} of regions, by region name.</td>
+ *     </tr>
+ * </table>
+ */
+public class SecondLevelCacheFactory {
+    private static final String[] CACHE_CLASSES = {
+        "org.hibernate.cache.jcache.JCacheRegionFactory",
+        "org.ehcache.jsr107.EhcacheCachingProvider"
+    };
+
+    private boolean enabled = false;
+
+    private boolean queryCacheEnabled = false;
+
+    @Valid
+    @NotNull
+    private CacheRegionFactory defaultRegion = new CacheRegionFactory();
+
+    @Valid
+    @NotNull
+    private Map<String, CacheRegionFactory> regions = Collections.emptyMap();
+
+    @JsonProperty
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @JsonProperty
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @JsonProperty
+    public boolean isQueryCacheEnabled() {
+        return queryCacheEnabled;
+    }
+
+    @JsonProperty
+    public void setQueryCacheEnabled(boolean queryCacheEnabled) {
+        this.queryCacheEnabled = queryCacheEnabled;
+    }
+
+    @JsonProperty
+    public CacheRegionFactory getDefaultRegion() {
+        return defaultRegion;
+    }
+
+    @JsonProperty
+    public void setDefaultRegion(CacheRegionFactory defaultRegion) {
+        this.defaultRegion = defaultRegion;
+    }
+
+    @JsonProperty
+    public Map<String, CacheRegionFactory> getRegions() {
+        return regions;
+    }
+
+    @JsonProperty
+    public void setRegions(Map<String, CacheRegionFactory> regions) {
+        this.regions = regions;
+    }
+
+    /**
+     * Returns the configuration of the given region.
+     *
+     * @param regionName the name of the region
+     * @return the configuration of the region, or the default one
+     */
+    public CacheRegionFactory getRegion(String regionName) {
+        if (regionName.equals(UpdateTimestampsCache.REGION_NAME)
+                || regionName.endsWith('.' + UpdateTimestampsCache.REGION_NAME)) {
+            final CacheRegionFactory timestamps = new CacheRegionFactory();
+            timestamps.setMaxEntries(Long.MAX_VALUE);
+            return timestamps;
+        }
+        return regions.getOrDefault(regionName, defaultRegion);
+    }
+
+    /**
+     * Configures Hibernate to use the caches, if they are enabled.
+     *
+     * @param configuration the Hibernate configuration
+     * @param name          the name of the session factory
+     * @throws IllegalStateException if the caches are enabled, but the optional dependencies are missing
+     */
+    public void configure(Configuration configuration, String name) {
+        if (!enabled) {
+            return;
+        }
+        for (String className : CACHE_CLASSES) {
+            try {
+                Class.forName(className, false, SecondLevelCacheFactory.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("The second-level cache of " + name + " is enabled, but " +
+                        className + " is missing: add the org.hibernate:hibernate-jcache and " +
+                        "org.ehcache:ehcache dependencies to the application", e);
+            }
+        }
+        configuration.setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+        configuration.setProperty(AvailableSettings.USE_QUERY_CACHE, Boolean.toString(queryCacheEnabled));
+        configuration.getProperties().put(AvailableSettings.CACHE_REGION_FACTORY,
+                new ConfiguredJCacheRegionFactory(name, this));
+    }
+
+    /**
+     * Registers the hit, miss and put counts of the caches, if they are enabled.
+     *
+     * @param metricRegistry the registry of the metrics
+     * @param name           the name of the session factory
+     * @param sessionFactory the session factory
+     */
+    public void registerMetrics(MetricRegistry metricRegistry, String name, SessionFactory sessionFactory) {
+        if (!enabled) {
+            return;
+        }
+        final String prefix = name(SecondLevelCacheFactory.class, name);
+        registerCounts(metricRegistry, prefix, sessionFactory,
+                Statistics::getSecondLevelCacheHitCount,
+                Statistics::getSecondLevelCacheMissCount,
+                Statistics::getSecondLevelCachePutCount);
+        if (queryCacheEnabled) {
+            registerCounts(metricRegistry, name(prefix, "query"), sessionFactory,
+                    Statistics::getQueryCacheHitCount,
+                    Statistics::getQueryCacheMissCount,
+                    Statistics::getQueryCachePutCount);
+        }
+        for (String regionName : regions.keySet()) {
+            registerCounts(metricRegistry, name(prefix, regionName), sessionFactory,
+                    statistics -> regionCount(statistics, regionName, SecondLevelCacheStatistics::getHitCount),
+                    statistics -> regionCount(statistics, regionName, SecondLevelCacheStatistics::getMissCount),
+                    statistics -> regionCount(statistics, regionName, SecondLevelCacheStatistics::getPutCount));
+        }
+    }
+
+    private static void registerCounts(MetricRegistry metricRegistry,
+                                       String prefix,
+                                       SessionFactory sessionFactory,
+                                       ToLongFunction<Statistics> hits,
+                                       ToLongFunction<Statistics> misses,
+                                       ToLongFunction<Statistics> puts) {
+        metricRegistry.register(name(prefix, "hits"),
+                (Gauge<Long>) () -> hits.applyAsLong(sessionFactory.getStatistics()));
+        metricRegistry.register(name(prefix, "misses"),
+                (Gauge<Long>) () -> misses.applyAsLong(sessionFactory.getStatistics()));
+        metricRegistry.register(name(prefix, "puts"),
+                (Gauge<Long>) () -> puts.applyAsLong(sessionFactory.getStatistics()));
+    }
+
+    private static long regionCount(Statistics statistics,
+                                    String regionName,
+                                    ToLongFunction<SecondLevelCacheStatistics> count) {
+        // there are no statistics for a region which no entity or collection is cached in
+        final SecondLevelCacheStatistics regionStatistics =
+                statistics.getSecondLevelCacheStatistics(regionName);
+        return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+    }
+}
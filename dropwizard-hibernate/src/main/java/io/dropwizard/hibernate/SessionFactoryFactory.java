@@ -1,5 +1,8 @@
 package io.dropwizard.hibernate;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.dropwizard.db.ManagedDataSource;
 import io.dropwizard.db.PooledDataSourceFactory;
 import io.dropwizard.setup.Environment;
@@ -18,6 +21,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SessionFactoryFactory {
     private static final Logger LOGGER = LoggerFactory.getLogger(SessionFactoryFactory.class);
@@ -36,7 +42,47 @@ public class SessionFactoryFactory {
                                 List<Class<?>> entities,
                                 String name) {
         final ManagedDataSource dataSource = dbConfig.build(environment.metrics(), name);
-        return build(bundle, environment, dbConfig, dataSource, entities);
+        try (Timer.Context ignored = buildTimer(environment, name).time()) {
+            return build(bundle, environment, dbConfig, dataSource, entities);
+        }
+    }
+
+    /**
+     * Builds a {@link SessionFactory} on a background thread, while the application keeps initializing.
+     * The returned factory can be used right away: each call waits for the build to complete. The
+     * server waits for it too before it starts, and fails to start if the build fails.
+     *
+     * @param bundle      the bundle which configures the factory
+     * @param environment the application environment
+     * @param dbConfig    the configuration of the database
+     * @param entities    the entity classes
+     * @param name        the name of the factory, used for the data source and the metrics
+     * @return a factory which waits for the build to complete on use
+     */
+    public SessionFactory buildInBackground(HibernateBundle<?> bundle,
+                                            Environment environment,
+                                            PooledDataSourceFactory dbConfig,
+                                            List<Class<?>> entities,
+                                            String name) {
+        final ManagedDataSource dataSource = dbConfig.build(environment.metrics(), name);
+        final Timer timer = buildTimer(environment, name);
+        final ExecutorService executor = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat(name + "-session-factory-%d").setDaemon(true).build());
+        final CompletableFuture<SessionFactory> future = CompletableFuture.supplyAsync(() -> {
+            try (Timer.Context ignored = timer.time()) {
+                final ConnectionProvider provider = buildConnectionProvider(dataSource, dbConfig.getProperties());
+                return buildSessionFactory(bundle, dbConfig, provider, dbConfig.getProperties(), entities);
+            }
+        }, executor);
+        executor.shutdown();
+
+        final SessionFactory factory = BackgroundSessionFactory.of(future);
+        environment.lifecycle().manage(new SessionFactoryManager(factory, dataSource));
+        return factory;
+    }
+
+    private Timer buildTimer(Environment environment, String name) {
+        return environment.metrics().timer(MetricRegistry.name(SessionFactoryFactory.class, name, "build"));
     }
 
     public SessionFactory build(HibernateBundle<?> bundle,
@@ -79,6 +125,7 @@ public class SessionFactoryFactory {
         configuration.setProperty(AvailableSettings.ORDER_INSERTS, "true");
         configuration.setProperty(AvailableSettings.USE_NEW_ID_GENERATOR_MAPPINGS, "true");
         configuration.setProperty("jadira.usertype.autoRegisterUserTypes", "true");
+        bundle.configureSecondLevelCache(configuration);
         for (Map.Entry<String, String> property : properties.entrySet()) {
             configuration.setProperty(property.getKey(), property.getValue());
         }
@@ -22,6 +22,8 @@ public class SessionFactoryManager implements Managed {
     @Override
     public void start() throws Exception {
         dataSource.start();
+        // a factory built in the background must be ready before the server starts
+        BackgroundSessionFactory.await(factory);
     }
 
     @Override
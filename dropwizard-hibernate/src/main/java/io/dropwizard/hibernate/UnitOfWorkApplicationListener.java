@@ -1,6 +1,7 @@
 package io.dropwizard.hibernate;
 
 import org.glassfish.jersey.server.internal.process.MappableException;
+import org.glassfish.jersey.server.model.Resource;
 import org.glassfish.jersey.server.model.ResourceMethod;
 import org.glassfish.jersey.server.monitoring.ApplicationEvent;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
@@ -8,6 +9,7 @@ import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
 import org.hibernate.SessionFactory;
 
+import javax.annotation.Nullable;
 import javax.ws.rs.ext.Provider;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,18 +20,20 @@ import java.util.concurrent.ConcurrentMap;
 
 /**
  * An application event listener that listens for Jersey application initialization to
- * be finished, then creates a map of resource method that have metrics annotations.
+ * be finished, then creates a map of resource methods to their {@link UnitOfWork} annotations.
  *
  * Finally, it listens for method start events, and returns a {@link RequestEventListener}
- * that updates the relevant metric for suitably annotated methods when it gets the
- * request events indicating that the method is about to be invoked, or just got done
- * being invoked.
+ * that opens a session for suitably annotated methods when it gets the request events
+ * indicating that the method is about to be invoked, and closes it when the request
+ * is finished. If none of the resource methods of the application is annotated, no
+ * request listener is created at all.
  */
 @Provider
 public class UnitOfWorkApplicationListener implements ApplicationEventListener {
 
     private ConcurrentMap<ResourceMethod, Optional<UnitOfWork>> methodMap = new ConcurrentHashMap<>();
     private Map<String, SessionFactory> sessionFactories = new HashMap<>();
+    private volatile boolean unitOfWorkUsed = true;
 
     public UnitOfWorkApplicationListener() {
     }
@@ -60,12 +64,15 @@ public class UnitOfWorkApplicationListener implements ApplicationEventListener {
 
     private static class UnitOfWorkEventListener implements RequestEventListener {
         private ConcurrentMap<ResourceMethod, Optional<UnitOfWork>> methodMap;
-        private final UnitOfWorkAspect unitOfWorkAspect;
+        private final Map<String, SessionFactory> sessionFactories;
+
+        @Nullable
+        private UnitOfWorkAspect unitOfWorkAspect;
 
         UnitOfWorkEventListener(ConcurrentMap<ResourceMethod, Optional<UnitOfWork>> methodMap,
                                 Map<String, SessionFactory> sessionFactories) {
             this.methodMap = methodMap;
-            unitOfWorkAspect = new UnitOfWorkAspect(sessionFactories);
+            this.sessionFactories = sessionFactories;
         }
 
         @Override
@@ -74,17 +81,29 @@ public class UnitOfWorkApplicationListener implements ApplicationEventListener {
             if (eventType == RequestEvent.Type.RESOURCE_METHOD_START) {
                 Optional<UnitOfWork> unitOfWork = methodMap.computeIfAbsent(event.getUriInfo()
                         .getMatchedResourceMethod(), UnitOfWorkEventListener::registerUnitOfWorkAnnotations);
-                unitOfWorkAspect.beforeStart(unitOfWork.orElse(null));
-            } else if (eventType == RequestEvent.Type.RESP_FILTERS_START) {
+                if (unitOfWork.isPresent()) {
+                    unitOfWorkAspect = new UnitOfWorkAspect(sessionFactories);
+                    unitOfWorkAspect.beforeStart(unitOfWork.get());
+                }
+                return;
+            }
+
+            final UnitOfWorkAspect aspect = unitOfWorkAspect;
+            if (aspect == null) {
+                // The matched resource method doesn't have a unit of work
+                return;
+            }
+
+            if (eventType == RequestEvent.Type.RESP_FILTERS_START) {
                 try {
-                    unitOfWorkAspect.afterEnd();
+                    aspect.afterEnd();
                 } catch (Exception e) {
                     throw new MappableException(e);
                 }
             } else if (eventType == RequestEvent.Type.ON_EXCEPTION) {
-                unitOfWorkAspect.onError();
+                aspect.onError();
             } else if (eventType == RequestEvent.Type.FINISHED) {
-                unitOfWorkAspect.onFinish();
+                aspect.onFinish();
             }
         }
 
@@ -99,12 +118,41 @@ public class UnitOfWorkApplicationListener implements ApplicationEventListener {
 
     @Override
     public void onEvent(ApplicationEvent event) {
+        if (event.getType() == ApplicationEvent.Type.INITIALIZATION_FINISHED) {
+            boolean used = false;
+            for (Resource resource : event.getResourceModel().getResources()) {
+                used |= registerUnitOfWorkAnnotations(resource);
+            }
+            unitOfWorkUsed = used;
+        }
+    }
+
+    /**
+     * Resolves the {@link UnitOfWork} annotations of the methods of a resource and its child resources
+     * upfront, so they don't have to be looked up while serving requests.
+     *
+     * @return whether the resource possibly requires a unit of work
+     */
+    private boolean registerUnitOfWorkAnnotations(Resource resource) {
+        // Sub-resource locators return resources which are only known at request time
+        boolean used = resource.getResourceLocator() != null;
+        for (ResourceMethod method : resource.getAllMethods()) {
+            used |= methodMap.computeIfAbsent(method, UnitOfWorkEventListener::registerUnitOfWorkAnnotations)
+                    .isPresent();
+        }
+        for (Resource childResource : resource.getChildResources()) {
+            used |= registerUnitOfWorkAnnotations(childResource);
+        }
+        return used;
     }
 
     @Override
+    @Nullable
     public RequestEventListener onRequest(RequestEvent event) {
+        if (!unitOfWorkUsed) {
+            return null;
+        }
         return new UnitOfWorkEventListener(methodMap, sessionFactories);
     }
 
-
 }
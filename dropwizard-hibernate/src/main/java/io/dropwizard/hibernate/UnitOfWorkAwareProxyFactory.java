@@ -1,11 +1,16 @@
 package io.dropwizard.hibernate;
 
 import com.google.common.collect.ImmutableMap;
+import javassist.util.proxy.MethodHandler;
 import javassist.util.proxy.Proxy;
 import javassist.util.proxy.ProxyFactory;
 import org.hibernate.SessionFactory;
 
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A factory for creating proxies for components that use Hibernate data access objects
@@ -13,10 +18,15 @@ import java.lang.reflect.InvocationTargetException;
  * <p>A created proxy will be aware of the {@link UnitOfWork} annotation
  * on the original class methods and will open a Hibernate session with a transaction
  * around them.</p>
+ * <p>Proxy classes are generated once per proxied class and the {@link UnitOfWork} annotations
+ * of their methods are resolved upfront, so creating and invoking further proxies is cheap.</p>
  */
 public class UnitOfWorkAwareProxyFactory {
 
     private final ImmutableMap<String, SessionFactory> sessionFactories;
+    private final ConcurrentMap<Class<?>, Class<?>> proxyClasses = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, Optional<UnitOfWork>> unitOfWorks = new ConcurrentHashMap<>();
+    private final MethodHandler methodHandler = this::invoke;
 
     public UnitOfWorkAwareProxyFactory(String name, SessionFactory sessionFactory) {
         sessionFactories = ImmutableMap.of(name, sessionFactory);
@@ -66,31 +76,11 @@ public class UnitOfWorkAwareProxyFactory {
      */
     @SuppressWarnings("unchecked")
     public <T> T create(Class<T> clazz, Class<?>[] constructorParamTypes, Object[] constructorArguments) {
-        final ProxyFactory factory = new ProxyFactory();
-        factory.setSuperclass(clazz);
-
         try {
-            final Proxy proxy = (Proxy) (constructorParamTypes.length == 0 ?
-                    factory.createClass().getConstructor().newInstance() :
-                    factory.create(constructorParamTypes, constructorArguments));
-            proxy.setHandler((self, overridden, proceed, args) -> {
-                final UnitOfWork unitOfWork = overridden.getAnnotation(UnitOfWork.class);
-                final UnitOfWorkAspect unitOfWorkAspect = newAspect(sessionFactories);
-                try {
-                    unitOfWorkAspect.beforeStart(unitOfWork);
-                    Object result = proceed.invoke(self, args);
-                    unitOfWorkAspect.afterEnd();
-                    return result;
-                } catch (InvocationTargetException e) {
-                    unitOfWorkAspect.onError();
-                    throw e.getCause();
-                } catch (Exception e) {
-                    unitOfWorkAspect.onError();
-                    throw e;
-                } finally {
-                    unitOfWorkAspect.onFinish();
-                }
-            });
+            final Proxy proxy = (Proxy) proxyClasses.computeIfAbsent(clazz, this::createProxyClass)
+                    .getConstructor(constructorParamTypes)
+                    .newInstance(constructorArguments);
+            proxy.setHandler(methodHandler);
             return (T) proxy;
         } catch (NoSuchMethodException | InstantiationException | IllegalAccessException |
                 InvocationTargetException e) {
@@ -98,6 +88,46 @@ public class UnitOfWorkAwareProxyFactory {
         }
     }
 
+    private Class<?> createProxyClass(Class<?> clazz) {
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                unitOfWorks.putIfAbsent(method, Optional.ofNullable(method.getAnnotation(UnitOfWork.class)));
+            }
+        }
+
+        final ProxyFactory factory = new ProxyFactory();
+        factory.setSuperclass(clazz);
+        return factory.createClass();
+    }
+
+    private Object invoke(Object self, Method overridden, Method proceed, Object[] args) throws Throwable {
+        final Optional<UnitOfWork> unitOfWork = unitOfWorks.computeIfAbsent(overridden,
+                method -> Optional.ofNullable(method.getAnnotation(UnitOfWork.class)));
+        if (!unitOfWork.isPresent()) {
+            try {
+                return proceed.invoke(self, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        final UnitOfWorkAspect unitOfWorkAspect = newAspect(sessionFactories);
+        try {
+            unitOfWorkAspect.beforeStart(unitOfWork.get());
+            Object result = proceed.invoke(self, args);
+            unitOfWorkAspect.afterEnd();
+            return result;
+        } catch (InvocationTargetException e) {
+            unitOfWorkAspect.onError();
+            throw e.getCause();
+        } catch (Exception e) {
+            unitOfWorkAspect.onError();
+            throw e;
+        } finally {
+            unitOfWorkAspect.onFinish();
+        }
+    }
+
     /**
      * @return a new aspect
      */
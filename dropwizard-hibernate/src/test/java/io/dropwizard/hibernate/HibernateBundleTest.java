@@ -128,6 +128,17 @@ public class HibernateBundleTest {
         verify(healthChecks).register(eq("custom-hibernate"), captor.capture());
     }
 
+    @Test
+    public void buildsASessionFactoryInTheBackground() throws Exception {
+        when(factory.buildInBackground(bundle, environment, dbConfig, entities, "hibernate")).thenReturn(sessionFactory);
+        bundle.setBackgroundBuildEnabled(true);
+
+        bundle.run(configuration, environment);
+
+        verify(factory).buildInBackground(bundle, environment, dbConfig, entities, "hibernate");
+        assertThat(bundle.getSessionFactory()).isEqualTo(sessionFactory);
+    }
+
     @Test
     public void hasASessionFactory() throws Exception {
         bundle.run(configuration, environment);
@@ -0,0 +1,140 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.health.HealthCheckRegistry;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.dropwizard.Configuration;
+import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.setup.JerseyEnvironment;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import io.dropwizard.logging.BootstrapLogging;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.util.Duration;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cache.spi.UpdateTimestampsCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SecondLevelCacheFactoryTest {
+    static {
+        BootstrapLogging.bootstrap();
+    }
+
+    private static final String PREFIX = "io.dropwizard.hibernate.SecondLevelCacheFactory.hibernate.";
+    private static final String REGION = Country.class.getName();
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final JerseyEnvironment jerseyEnvironment = mock(JerseyEnvironment.class);
+    private final Environment environment = mock(Environment.class);
+    private final DataSourceFactory dbConfig = new DataSourceFactory();
+    private final SecondLevelCacheFactory cacheFactory = new SecondLevelCacheFactory();
+    private final HibernateBundle<Configuration> bundle = new HibernateBundle<Configuration>(
+            ImmutableList.of(Country.class), new SessionFactoryFactory()) {
+        @Override
+        public DataSourceFactory getDataSourceFactory(Configuration configuration) {
+            return dbConfig;
+        }
+
+        @Override
+        public SecondLevelCacheFactory getSecondLevelCacheFactory(Configuration configuration) {
+            return cacheFactory;
+        }
+    };
+
+    @Before
+    public void setUp() throws Exception {
+        when(environment.metrics()).thenReturn(metricRegistry);
+        when(environment.lifecycle()).thenReturn(new LifecycleEnvironment());
+        when(environment.healthChecks()).thenReturn(new HealthCheckRegistry());
+        when(environment.jersey()).thenReturn(jerseyEnvironment);
+        when(jerseyEnvironment.getResourceConfig()).thenReturn(new DropwizardResourceConfig());
+
+        dbConfig.setUrl("jdbc:hsqldb:mem:CacheTest-" + System.currentTimeMillis());
+        dbConfig.setUser("sa");
+        dbConfig.setDriverClass("org.hsqldb.jdbcDriver");
+        dbConfig.setValidationQuery("SELECT 1 FROM INFORMATION_SCHEMA.SYSTEM_USERS");
+        dbConfig.setProperties(ImmutableMap.of("hibernate.dialect", "org.hibernate.dialect.HSQLDialect"));
+
+        final CacheRegionFactory countries = new CacheRegionFactory();
+        countries.setMaxEntries(100);
+        cacheFactory.setEnabled(true);
+        cacheFactory.setRegions(ImmutableMap.of(REGION, countries));
+    }
+
+    @Test
+    public void cachesTheEntitiesAndReportsTheHitsMissesAndPuts() throws Exception {
+        bundle.run(new Configuration(), environment);
+        try (SessionFactory sessionFactory = bundle.getSessionFactory()) {
+            readCountryThreeTimes(sessionFactory);
+
+            assertThat(metricRegistry.getGauges())
+                    .hasEntrySatisfying(PREFIX + REGION + ".hits", gauge -> assertThat(gauge.getValue()).isEqualTo(2L))
+                    .hasEntrySatisfying(PREFIX + REGION + ".misses", gauge -> assertThat(gauge.getValue()).isEqualTo(1L))
+                    .hasEntrySatisfying(PREFIX + REGION + ".puts", gauge -> assertThat(gauge.getValue()).isEqualTo(1L))
+                    .hasEntrySatisfying(PREFIX + "hits", gauge -> assertThat(gauge.getValue()).isEqualTo(2L))
+                    .doesNotContainKey(PREFIX + "query.hits");
+        }
+    }
+
+    @Test
+    public void doesNotConfigureHibernateWhenDisabled() throws Exception {
+        final org.hibernate.cfg.Configuration configuration = new org.hibernate.cfg.Configuration();
+
+        new SecondLevelCacheFactory().configure(configuration, "hibernate");
+        new SecondLevelCacheFactory().registerMetrics(metricRegistry, "hibernate", mock(SessionFactory.class));
+
+        assertThat(configuration.getProperties())
+                .doesNotContainKeys(AvailableSettings.USE_SECOND_LEVEL_CACHE, AvailableSettings.CACHE_REGION_FACTORY);
+        assertThat(metricRegistry.getGauges())
+                .isEmpty();
+    }
+
+    @Test
+    public void neverEvictsNorExpiresTheUpdateTimestamps() {
+        final CacheRegionFactory bounded = new CacheRegionFactory();
+        bounded.setMaxEntries(10);
+        bounded.setTimeToLive(Duration.minutes(1));
+        cacheFactory.setDefaultRegion(bounded);
+        cacheFactory.setRegions(ImmutableMap.of(UpdateTimestampsCache.REGION_NAME, bounded));
+
+        final CacheRegionFactory timestamps = cacheFactory.getRegion(UpdateTimestampsCache.REGION_NAME);
+
+        assertThat(timestamps.getMaxEntries())
+                .isEqualTo(Long.MAX_VALUE);
+        assertThat(timestamps.getTimeToLive())
+                .isEmpty();
+        assertThat(timestamps.build())
+                .isNotNull();
+        assertThat(cacheFactory.getRegion("prefix." + UpdateTimestampsCache.REGION_NAME).getMaxEntries())
+                .isEqualTo(Long.MAX_VALUE);
+        assertThat(cacheFactory.getRegion(REGION))
+                .isSameAs(bounded);
+    }
+
+    private void readCountryThreeTimes(SessionFactory sessionFactory) {
+        try (Session session = sessionFactory.openSession()) {
+            final Transaction transaction = session.beginTransaction();
+            session.createNativeQuery("CREATE TABLE countries (code varchar(2) primary key, name varchar(100))")
+                    .executeUpdate();
+            session.createNativeQuery("INSERT INTO countries VALUES ('NZ', 'New Zealand')").executeUpdate();
+            transaction.commit();
+        }
+
+        for (int i = 0; i < 3; i++) {
+            try (Session session = sessionFactory.openSession()) {
+                assertThat(session.get(Country.class, "NZ").getName())
+                        .isEqualTo("New Zealand");
+            }
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.context.internal.ManagedSessionContext;
 import org.hibernate.service.ServiceRegistry;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
@@ -25,7 +26,9 @@ import javax.annotation.Nullable;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -129,6 +132,48 @@ public class SessionFactoryFactoryTest {
         }
     }
 
+    @Test
+    public void reportsTheBuildTime() throws Exception {
+        build();
+
+        assertThat(metricRegistry.timer("io.dropwizard.hibernate.SessionFactoryFactory.hibernate.build").getCount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void buildsASessionFactoryInTheBackground() throws Exception {
+        this.sessionFactory = factory.buildInBackground(bundle, environment, config,
+                ImmutableList.of(Person.class), "background");
+
+        final ArgumentCaptor<SessionFactoryManager> sessionFactoryManager = ArgumentCaptor.forClass(SessionFactoryManager.class);
+        verify(lifecycleEnvironment).manage(sessionFactoryManager.capture());
+        sessionFactoryManager.getValue().start();
+
+        assertThat(metricRegistry.timer("io.dropwizard.hibernate.SessionFactoryFactory.background.build").getCount())
+            .isEqualTo(1);
+        try (Session session = sessionFactory.openSession()) {
+            assertThat(sessionFactory)
+                .isEqualTo(session.getSessionFactory());
+            ManagedSessionContext.bind(session);
+            assertThat(ManagedSessionContext.unbind(sessionFactory))
+                .isSameAs(session);
+        }
+    }
+
+    @Test
+    public void failsToStartWhenTheBackgroundBuildFails() throws Exception {
+        doThrow(new IllegalStateException("misconfigured")).when(bundle).configure(any(Configuration.class));
+        factory.buildInBackground(bundle, environment, config, ImmutableList.of(Person.class), "background");
+
+        final ArgumentCaptor<SessionFactoryManager> sessionFactoryManager = ArgumentCaptor.forClass(SessionFactoryManager.class);
+        verify(lifecycleEnvironment).manage(sessionFactoryManager.capture());
+
+        assertThatThrownBy(sessionFactoryManager.getValue()::start)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("misconfigured");
+        sessionFactoryManager.getValue().getDataSource().stop();
+    }
+
     @Test
     public void configureRunsBeforeSessionFactoryCreation() {
         final SessionFactoryFactory customFactory = new SessionFactoryFactory() {
@@ -2,6 +2,8 @@ package io.dropwizard.hibernate;
 
 import org.glassfish.jersey.server.ExtendedUriInfo;
 import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
 import org.hibernate.CacheMode;
@@ -16,6 +18,8 @@ import org.mockito.InOrder;
 
 import java.lang.reflect.Method;
 
+import static java.util.Objects.requireNonNull;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hibernate.resource.transaction.spi.TransactionStatus.ACTIVE;
@@ -241,6 +245,51 @@ public class UnitOfWorkApplicationListenerTest {
             .hasMessage("Unregistered Hibernate bundle: 'warehouse'");
     }
 
+    @Test
+    public void doesNotListenToRequestsWithoutAnyUnitOfWork() throws Exception {
+        final Resource.Builder resource = Resource.builder("/");
+        resource.addMethod("GET")
+            .handledBy(new MockResource(), MockResource.class.getMethod("methodWithoutAnnotation"));
+        initialize(resource.build());
+
+        assertThat(listener.onRequest(requestStartEvent)).isNull();
+    }
+
+    @Test
+    public void listensToRequestsWithAUnitOfWork() throws Exception {
+        final Resource.Builder resource = Resource.builder("/");
+        resource.addMethod("GET")
+            .handledBy(new MockResource(), MockResource.class.getMethod("methodWithoutAnnotation"));
+        resource.addChildResource("dog").addMethod("GET")
+            .handledBy(new MockResource(), MockResource.class.getMethod("methodWithDefaultAnnotation"));
+        initialize(resource.build());
+
+        execute();
+
+        verify(sessionFactory).openSession();
+        verify(session).close();
+    }
+
+    @Test
+    public void doesNotOpenASessionForMethodsWithoutAUnitOfWork() throws Exception {
+        prepareResourceMethod("methodWithoutAnnotation");
+
+        execute();
+
+        verifyZeroInteractions(sessionFactory, analyticsSessionFactory);
+    }
+
+    private void initialize(Resource... resources) {
+        final ResourceModel.Builder resourceModel = new ResourceModel.Builder(false);
+        for (Resource resource : resources) {
+            resourceModel.addResource(resource);
+        }
+        final ApplicationEvent initializationFinished = mock(ApplicationEvent.class);
+        when(initializationFinished.getType()).thenReturn(ApplicationEvent.Type.INITIALIZATION_FINISHED);
+        when(initializationFinished.getResourceModel()).thenReturn(resourceModel.build());
+        listener.onEvent(initializationFinished);
+    }
+
     private void prepareResourceMethod(String resourceMethodName) throws NoSuchMethodException {
         final Method handlingMethod = MockResource.class.getMethod(resourceMethodName);
         Method definitionMethod = handlingMethod;
@@ -265,14 +314,14 @@ public class UnitOfWorkApplicationListenerTest {
     }
 
     private void execute() {
-        RequestEventListener requestListener = listener.onRequest(requestStartEvent);
+        RequestEventListener requestListener = requireNonNull(listener.onRequest(requestStartEvent));
         requestListener.onEvent(requestMethodStartEvent);
         requestListener.onEvent(responseFiltersStartEvent);
         requestListener.onEvent(responseFinishedEvent);
     }
 
     private void executeWithException() {
-        RequestEventListener requestListener = listener.onRequest(requestStartEvent);
+        RequestEventListener requestListener = requireNonNull(listener.onRequest(requestStartEvent));
         requestListener.onEvent(requestMethodStartEvent);
         requestListener.onEvent(responseFiltersStartEvent);
         requestListener.onEvent(requestMethodExceptionEvent);
@@ -281,6 +330,9 @@ public class UnitOfWorkApplicationListenerTest {
 
     public static class MockResource implements MockResourceInterface {
 
+        public void methodWithoutAnnotation() {
+        }
+
         @UnitOfWork(readOnly = false, cacheMode = CacheMode.NORMAL, transactional = true, flushMode = FlushMode.AUTO)
         public void methodWithDefaultAnnotation() {
         }
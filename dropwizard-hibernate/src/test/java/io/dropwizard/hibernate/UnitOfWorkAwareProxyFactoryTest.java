@@ -81,6 +81,23 @@ public class UnitOfWorkAwareProxyFactoryTest {
                 .isTrue();
     }
 
+    @Test
+    public void testReusesProxyClasses() {
+        final SessionDao sessionDao = new SessionDao(sessionFactory);
+        final UnitOfWorkAwareProxyFactory unitOfWorkAwareProxyFactory =
+                new UnitOfWorkAwareProxyFactory("default", sessionFactory);
+
+        final OAuthAuthenticator first = unitOfWorkAwareProxyFactory
+                .create(OAuthAuthenticator.class, SessionDao.class, sessionDao);
+        final OAuthAuthenticator second = unitOfWorkAwareProxyFactory
+                .create(OAuthAuthenticator.class, SessionDao.class, sessionDao);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getClass()).isSameAs(second.getClass());
+        assertThat(first.authenticate("67ab89d")).isTrue();
+        assertThat(second.authenticate("bd1e23a")).isFalse();
+    }
+
     @Test
     public void testProxyHandlesErrors() {
         thrown.expect(IllegalStateException.class);
@@ -19,11 +19,24 @@ import java.util.List;
 /**
  * A subtype resolver which discovers subtypes via
  * {@code META-INF/services/io.dropwizard.jackson.Discoverable}.
+ * <p>
+ * The classpath is scanned once per root class: the subtypes discovered by a
+ * {@link DiscoverableSubtypeResolver} are remembered for the lifetime of the root class and reused
+ * by the resolvers created afterwards, e.g. by every {@link Jackson#newObjectMapper()}. Subclasses,
+ * which may discover their services differently, always scan the classpath.
  */
 public class DiscoverableSubtypeResolver extends StdSubtypeResolver {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(DiscoverableSubtypeResolver.class);
 
+    private static final ClassValue<ImmutableList<Class<?>>> DISCOVERED_SUBTYPES =
+            new ClassValue<ImmutableList<Class<?>>>() {
+                @Override
+                protected ImmutableList<Class<?>> computeValue(Class<?> rootKlass) {
+                    return new DiscoverableSubtypeResolver(rootKlass, false).discoveredSubtypes;
+                }
+            };
+
     private final ImmutableList<Class<?>> discoveredSubtypes;
 
     public DiscoverableSubtypeResolver() {
@@ -31,14 +44,23 @@ public class DiscoverableSubtypeResolver extends StdSubtypeResolver {
     }
 
     public DiscoverableSubtypeResolver(Class<?> rootKlass) {
+        this(rootKlass, true);
+    }
+
+    private DiscoverableSubtypeResolver(Class<?> rootKlass, boolean cached) {
+        this.discoveredSubtypes = cached && getClass() == DiscoverableSubtypeResolver.class
+                ? DISCOVERED_SUBTYPES.get(rootKlass) : discoverSubtypes(rootKlass);
+        for (Class<?> subtype : discoveredSubtypes) {
+            registerSubtypes(subtype);
+        }
+    }
+
+    private ImmutableList<Class<?>> discoverSubtypes(Class<?> rootKlass) {
         final ImmutableList.Builder<Class<?>> subtypes = ImmutableList.builder();
         for (Class<?> klass : discoverServices(rootKlass)) {
-            for (Class<?> subtype : discoverServices(klass)) {
-                subtypes.add(subtype);
-                registerSubtypes(subtype);
-            }
+            subtypes.addAll(discoverServices(klass));
         }
-        this.discoveredSubtypes = subtypes.build();
+        return subtypes.build();
     }
 
     public ImmutableList<Class<?>> getDiscoveredSubtypes() {
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class DiscoverableSubtypeResolverTest {
@@ -23,4 +26,29 @@ public class DiscoverableSubtypeResolverTest {
         assertThat(mapper.readValue("{\"type\":\"b\"}", ExampleSPI.class))
                 .isInstanceOf(ImplB.class);
     }
+
+    @Test
+    public void scansTheClasspathOncePerRootClass() throws Exception {
+        assertThat(new DiscoverableSubtypeResolver(ExampleTag.class).getDiscoveredSubtypes())
+                .isSameAs(resolver.getDiscoveredSubtypes())
+                .containsOnly(ImplA.class, ImplB.class);
+        assertThat(new DiscoverableSubtypeResolver().getDiscoveredSubtypes())
+                .isSameAs(new DiscoverableSubtypeResolver().getDiscoveredSubtypes());
+    }
+
+    @Test
+    public void subclassesDiscoverTheirOwnServices() throws Exception {
+        final DiscoverableSubtypeResolver subclass = new DiscoverableSubtypeResolver(ExampleTag.class) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected List<Class<?>> discoverServices(Class<?> klass) {
+                return klass == ExampleTag.class ? Collections.singletonList(ExampleSPI.class)
+                        : Collections.singletonList(ImplA.class);
+            }
+        };
+
+        assertThat(subclass.getDiscoveredSubtypes())
+                .containsOnly(ImplA.class);
+    }
 }
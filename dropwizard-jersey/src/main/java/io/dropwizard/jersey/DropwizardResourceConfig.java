@@ -7,6 +7,7 @@ import com.fasterxml.classmate.TypeResolver;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.Ordering;
+import io.dropwizard.jersey.bulkhead.BulkheadFeature;
 import io.dropwizard.jersey.caching.CacheControlledResponseFeature;
 import io.dropwizard.jersey.params.AbstractParamConverterProvider;
 import io.dropwizard.jersey.sessions.SessionFactoryProvider;
@@ -65,6 +66,7 @@ public class DropwizardResourceConfig extends ResourceConfig {
 
         register(new InstrumentedResourceMethodApplicationListener(metricRegistry));
         register(CacheControlledResponseFeature.class);
+        register(new BulkheadFeature(metricRegistry));
         register(io.dropwizard.jersey.guava.OptionalMessageBodyWriter.class);
         register(io.dropwizard.jersey.guava.OptionalParamFeature.class);
         register(io.dropwizard.jersey.optional.OptionalMessageBodyWriter.class);
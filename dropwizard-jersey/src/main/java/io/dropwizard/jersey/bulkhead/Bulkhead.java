@@ -0,0 +1,46 @@
+package io.dropwizard.jersey.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An annotation which bounds the number of concurrent executions of the annotated resource method.
+ * <p>
+ * Requests over the limit wait up to {@link #maxWait()} for a running execution to complete, and are
+ * then rejected with a {@code 503 Service Unavailable}. This keeps a slow endpoint from tying up all the
+ * threads of the server.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+    /**
+     * The maximum number of concurrent executions of the annotated method.
+     *
+     * @return the maximum number of concurrent executions
+     */
+    int value();
+
+    /**
+     * The maximum amount of time a request waits for an execution slot before being rejected. The unit
+     * of this amount is determined by {@link #maxWaitUnit()}. By default, requests are rejected right away.
+     * <p>
+     * A waiting request holds a server thread, so a non-zero value should be kept short: under sustained
+     * overload, the waiting requests tie up the threads the bulkhead is meant to protect.
+     *
+     * @see #maxWaitUnit()
+     * @return the number of {@link #maxWaitUnit()}s to wait for an execution slot
+     */
+    long maxWait() default 0;
+
+    /**
+     * The time unit of {@link #maxWait()}.
+     *
+     * @return the time unit of {@link #maxWait()}
+     */
+    TimeUnit maxWaitUnit() default TimeUnit.MILLISECONDS;
+}
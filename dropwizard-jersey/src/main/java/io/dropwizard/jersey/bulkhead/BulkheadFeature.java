@@ -0,0 +1,121 @@
+package io.dropwizard.jersey.bulkhead;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import org.glassfish.jersey.server.model.AnnotatedMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A {@link DynamicFeature} which isolates the resource methods annotated with {@link Bulkhead}, by bounding
+ * their concurrent executions with a semaphore per method.
+ * <p>
+ * The rate of rejected requests is reported as {@code <resource class>.<method>.bulkhead-rejected}. When no
+ * resource method is annotated, the feature doesn't listen to the requests at all.
+ */
+@Provider
+public class BulkheadFeature implements DynamicFeature, ApplicationEventListener {
+    private static final String PERMIT_PROPERTY = BulkheadFeature.class.getName() + ".permit";
+    private static final RequestEventListener RELEASING_LISTENER = new ReleasingListener();
+
+    private final MetricRegistry metricRegistry;
+    private volatile boolean bound;
+
+    public BulkheadFeature(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    public void configure(final ResourceInfo resourceInfo, final FeatureContext configuration) {
+        final Method method = resourceInfo.getResourceMethod();
+        final Bulkhead bulkhead = new AnnotatedMethod(method).getAnnotation(Bulkhead.class);
+        if (bulkhead != null) {
+            if (bulkhead.value() < 1) {
+                throw new IllegalArgumentException("@Bulkhead on " + method + " must allow at least one execution");
+            }
+            final Meter rejected = metricRegistry.meter(name(method.getDeclaringClass(), method.getName(),
+                    "bulkhead-rejected"));
+            configuration.register(new BulkheadFilter(bulkhead, rejected));
+            bound = true;
+        }
+    }
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+        // nothing to do
+    }
+
+    @Override
+    @Nullable
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return bound ? RELEASING_LISTENER : null;
+    }
+
+    private static class BulkheadFilter implements ContainerRequestFilter {
+        private final Semaphore semaphore;
+        private final long maxWaitNanos;
+        private final Meter rejected;
+
+        BulkheadFilter(Bulkhead bulkhead, Meter rejected) {
+            this.semaphore = new Semaphore(bulkhead.value(), true);
+            this.maxWaitNanos = bulkhead.maxWaitUnit().toNanos(bulkhead.maxWait());
+            this.rejected = rejected;
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            if (!tryAcquire()) {
+                rejected.mark();
+                throw new WebApplicationException(Response.Status.SERVICE_UNAVAILABLE);
+            }
+            requestContext.setProperty(PERMIT_PROPERTY, semaphore);
+        }
+
+        private boolean tryAcquire() {
+            if (maxWaitNanos <= 0) {
+                return semaphore.tryAcquire();
+            }
+            try {
+                return semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Releases the permit acquired by a request once it's finished, even if the resource method failed or
+     * completed asynchronously.
+     */
+    private static class ReleasingListener implements RequestEventListener {
+        @Override
+        public void onEvent(RequestEvent event) {
+            if (event.getType() == RequestEvent.Type.FINISHED) {
+                @Nullable
+                final Object permit = event.getContainerRequest().getProperty(PERMIT_PROPERTY);
+                if (permit instanceof Semaphore) {
+                    event.getContainerRequest().removeProperty(PERMIT_PROPERTY);
+                    ((Semaphore) permit).release();
+                }
+            }
+        }
+    }
+}
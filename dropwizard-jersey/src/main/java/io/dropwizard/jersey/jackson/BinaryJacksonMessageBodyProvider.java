@@ -0,0 +1,56 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.core.MediaType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A Jersey provider which reads and writes entities in a binary data format supported by Jackson.
+ * <p/>
+ * The entities are bound by the readers and writers of the given {@link ObjectMapper}, so they share
+ * its modules and configuration with the JSON representations. Only the parsers and generators are
+ * created by the binary {@link JsonFactory}.
+ */
+public abstract class BinaryJacksonMessageBodyProvider extends JacksonMessageBodyProvider {
+    private final JsonFactory binaryFactory;
+    private final MediaType mediaType;
+
+    protected BinaryJacksonMessageBodyProvider(ObjectMapper mapper, JsonFactory binaryFactory, MediaType mediaType) {
+        super(mapper);
+        this.binaryFactory = binaryFactory.setCodec(mapper);
+        this.mediaType = mediaType;
+    }
+
+    @Override
+    protected boolean hasMatchingMediaType(@Nullable MediaType mediaType) {
+        return mediaType != null
+                && this.mediaType.getType().equalsIgnoreCase(mediaType.getType())
+                && this.mediaType.getSubtype().equalsIgnoreCase(mediaType.getSubtype());
+    }
+
+    @Override
+    protected JsonGenerator _createGenerator(ObjectWriter writer,
+                                             OutputStream rawStream,
+                                             JsonEncoding enc) throws IOException {
+        final JsonGenerator generator = binaryFactory.createGenerator(rawStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+
+    @Override
+    protected JsonParser _createParser(ObjectReader reader, InputStream rawStream) throws IOException {
+        final JsonParser parser = binaryFactory.createParser(rawStream);
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return parser;
+    }
+}
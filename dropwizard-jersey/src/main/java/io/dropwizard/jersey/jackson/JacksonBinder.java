@@ -3,17 +3,48 @@ package io.dropwizard.jersey.jackson;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 
+import javax.annotation.Nullable;
+import javax.validation.Validator;
 import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.MessageBodyWriter;
 
 /**
- * An HK2 binder that registers the Jackson JSON provider while allowing users to override.
+ * An HK2 binder that registers the Jackson JSON provider, as well as the streaming JSON readers and writers, while
+ * allowing users to override. The Smile and CBOR providers are only registered when the binary formats are enabled,
+ * since their media types are more specific than the {@code *}{@code /*} of the JSON provider, and would otherwise
+ * be negotiated for the resources which don't declare what they produce.
  */
 public class JacksonBinder extends AbstractBinder {
     private final ObjectMapper mapper;
 
+    @Nullable
+    private final Validator validator;
+
+    private final boolean binaryFormats;
+
     public JacksonBinder(ObjectMapper mapper) {
+        this(mapper, null);
+    }
+
+    /**
+     * @param mapper    the mapper of the JSON, Smile and CBOR representations
+     * @param validator the validator of the elements of {@link JsonStream} request entities, or {@code null} if
+     *                  they aren't validated
+     */
+    public JacksonBinder(ObjectMapper mapper, @Nullable Validator validator) {
+        this(mapper, validator, false);
+    }
+
+    /**
+     * @param mapper        the mapper of the JSON, Smile and CBOR representations
+     * @param validator     the validator of the elements of {@link JsonStream} request entities, or {@code null} if
+     *                      they aren't validated
+     * @param binaryFormats whether the Smile and CBOR providers are registered
+     */
+    public JacksonBinder(ObjectMapper mapper, @Nullable Validator validator, boolean binaryFormats) {
         this.mapper = mapper;
+        this.validator = validator;
+        this.binaryFormats = binaryFormats;
     }
 
     @Override
@@ -21,5 +52,19 @@ public class JacksonBinder extends AbstractBinder {
         final JacksonMessageBodyProvider jsonProvider = new JacksonMessageBodyProvider(mapper);
         bind(jsonProvider).to(MessageBodyWriter.class);
         bind(jsonProvider).to(MessageBodyReader.class);
+
+        if (binaryFormats) {
+            final JacksonSmileMessageBodyProvider smileProvider = new JacksonSmileMessageBodyProvider(mapper);
+            bind(smileProvider).to(MessageBodyWriter.class);
+            bind(smileProvider).to(MessageBodyReader.class);
+
+            final JacksonCborMessageBodyProvider cborProvider = new JacksonCborMessageBodyProvider(mapper);
+            bind(cborProvider).to(MessageBodyWriter.class);
+            bind(cborProvider).to(MessageBodyReader.class);
+        }
+
+        bind(new JacksonStreamMessageBodyWriter(mapper)).to(MessageBodyWriter.class);
+        bind(new JacksonIteratorMessageBodyWriter(mapper)).to(MessageBodyWriter.class);
+        bind(new JsonStreamMessageBodyReader(mapper, validator)).to(MessageBodyReader.class);
     }
 }
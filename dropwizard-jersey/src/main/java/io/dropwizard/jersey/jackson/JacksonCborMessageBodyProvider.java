@@ -0,0 +1,22 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A Jersey provider which reads and writes {@code application/cbor} entities with Jackson.
+ */
+@Consumes(JacksonCborMessageBodyProvider.APPLICATION_CBOR)
+@Produces(JacksonCborMessageBodyProvider.APPLICATION_CBOR + ";qs=0.5")
+public class JacksonCborMessageBodyProvider extends BinaryJacksonMessageBodyProvider {
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final MediaType APPLICATION_CBOR_TYPE = MediaType.valueOf(APPLICATION_CBOR);
+
+    public JacksonCborMessageBodyProvider(ObjectMapper mapper) {
+        super(mapper, new CBORFactory(), APPLICATION_CBOR_TYPE);
+    }
+}
@@ -0,0 +1,29 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import java.util.Iterator;
+
+/**
+ * A Jersey provider which writes an {@link Iterator} returned by a resource method as a JSON array or as
+ * newline delimited JSON, element by element.
+ *
+ * @see StreamingJacksonMessageBodyWriter
+ */
+@Produces({MediaType.APPLICATION_JSON, StreamingJacksonMessageBodyWriter.APPLICATION_NDJSON})
+public class JacksonIteratorMessageBodyWriter extends StreamingJacksonMessageBodyWriter<Iterator<?>> {
+    public JacksonIteratorMessageBodyWriter(ObjectMapper mapper) {
+        this(mapper, DEFAULT_BATCH_SIZE);
+    }
+
+    public JacksonIteratorMessageBodyWriter(ObjectMapper mapper, int batchSize) {
+        super(mapper, Iterator.class, batchSize);
+    }
+
+    @Override
+    protected Iterator<?> iterator(Iterator<?> iterator) {
+        return iterator;
+    }
+}
@@ -5,18 +5,26 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
 
 import javax.annotation.Nullable;
+import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A Jersey provider which enables using Jackson to parse request entities into objects and generate
  * response entities from objects.
  * <p/>
  * (Essentially, extends {@link JacksonJaxbJsonProvider} with support for {@link JsonIgnoreType}.)
+ * <p/>
+ * The provider declares {@code application/json} next to the {@code *}{@code /*} it inherits, so that JSON is
+ * negotiated for the resources which don't declare what they produce.
  */
+@Produces({MediaType.APPLICATION_JSON, MediaType.WILDCARD})
 public class JacksonMessageBodyProvider extends JacksonJaxbJsonProvider {
     private final ObjectMapper mapper;
+    private final ConcurrentMap<Class<?>, Boolean> providableTypes = new ConcurrentHashMap<>();
 
     public JacksonMessageBodyProvider(ObjectMapper mapper) {
         this.mapper = mapper;
@@ -40,8 +48,11 @@ public class JacksonMessageBodyProvider extends JacksonJaxbJsonProvider {
     }
 
     private boolean isProvidable(Class<?> type) {
-        final JsonIgnoreType ignore = type.getAnnotation(JsonIgnoreType.class);
-        return (ignore == null) || !ignore.value();
+        // called for every entity, so the annotation lookup is done once per type
+        return providableTypes.computeIfAbsent(type, t -> {
+            final JsonIgnoreType ignore = t.getAnnotation(JsonIgnoreType.class);
+            return (ignore == null) || !ignore.value();
+        });
     }
 
     public ObjectMapper getObjectMapper() {
@@ -0,0 +1,22 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A Jersey provider which reads and writes {@code application/x-jackson-smile} entities with Jackson.
+ */
+@Consumes(JacksonSmileMessageBodyProvider.APPLICATION_SMILE)
+@Produces(JacksonSmileMessageBodyProvider.APPLICATION_SMILE + ";qs=0.5")
+public class JacksonSmileMessageBodyProvider extends BinaryJacksonMessageBodyProvider {
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE_TYPE = MediaType.valueOf(APPLICATION_SMILE);
+
+    public JacksonSmileMessageBodyProvider(ObjectMapper mapper) {
+        super(mapper, new SmileFactory(), APPLICATION_SMILE_TYPE);
+    }
+}
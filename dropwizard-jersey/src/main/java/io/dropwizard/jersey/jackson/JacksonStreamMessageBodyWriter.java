@@ -0,0 +1,35 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * A Jersey provider which writes a {@link Stream} returned by a resource method as a JSON array or as
+ * newline delimited JSON, element by element. The stream is closed once it has been written.
+ *
+ * @see StreamingJacksonMessageBodyWriter
+ */
+@Produces({MediaType.APPLICATION_JSON, StreamingJacksonMessageBodyWriter.APPLICATION_NDJSON})
+public class JacksonStreamMessageBodyWriter extends StreamingJacksonMessageBodyWriter<Stream<?>> {
+    public JacksonStreamMessageBodyWriter(ObjectMapper mapper) {
+        this(mapper, DEFAULT_BATCH_SIZE);
+    }
+
+    public JacksonStreamMessageBodyWriter(ObjectMapper mapper, int batchSize) {
+        super(mapper, Stream.class, batchSize);
+    }
+
+    @Override
+    protected Iterator<?> iterator(Stream<?> stream) {
+        return stream.iterator();
+    }
+
+    @Override
+    protected void close(Stream<?> stream) {
+        stream.close();
+    }
+}
@@ -0,0 +1,136 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.Parameter;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Builds the Jackson serializers of the types returned by the resource methods of a {@link ResourceConfig},
+ * and the deserializers of the types of their request entities, so that the first requests don't pay for it.
+ * <p/>
+ * The serializers and deserializers are kept in the caches of the {@link ObjectMapper}, which are shared by
+ * the Jersey providers using it.
+ */
+public class JacksonWarmup {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JacksonWarmup.class);
+
+    private final ObjectMapper mapper;
+
+    public JacksonWarmup(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Builds the serializers and deserializers of the entities of the resources registered in the given
+     * {@link ResourceConfig}.
+     *
+     * @param config the configuration of the resources
+     * @return the types for which a serializer or a deserializer has been built
+     */
+    public Set<JavaType> warmup(ResourceConfig config) {
+        final long start = System.nanoTime();
+        final Set<Class<?>> classes = new HashSet<>(config.getClasses());
+        for (Object singleton : config.getSingletons()) {
+            classes.add(singleton.getClass());
+        }
+
+        final Set<Resource> resources = new LinkedHashSet<>(config.getResources());
+        for (Class<?> clazz : classes) {
+            final Resource resource = clazz.isInterface() ? null : Resource.from(clazz);
+            if (resource != null) {
+                resources.add(resource);
+            }
+        }
+
+        final Set<JavaType> serialized = new LinkedHashSet<>();
+        final Set<JavaType> deserialized = new LinkedHashSet<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        for (Resource resource : resources) {
+            collect(resource, serialized, deserialized, visited);
+        }
+
+        final Set<JavaType> warmed = new LinkedHashSet<>();
+        for (JavaType type : serialized) {
+            try {
+                mapper.writerFor(type);
+                warmed.add(type);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Unable to build a serializer for {}", type, e);
+            }
+        }
+        for (JavaType type : deserialized) {
+            try {
+                mapper.readerFor(type);
+                warmed.add(type);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Unable to build a deserializer for {}", type, e);
+            }
+        }
+
+        LOGGER.info("Built the Jackson serializers and deserializers of {} types in {} ms", warmed.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return warmed;
+    }
+
+    private void collect(Resource resource, Set<JavaType> serialized, Set<JavaType> deserialized,
+                         Set<Class<?>> visited) {
+        for (ResourceMethod method : resource.getAllMethods()) {
+            final Invocable invocable = method.getInvocable();
+            if (method.getType() == ResourceMethod.JaxrsType.SUB_RESOURCE_LOCATOR) {
+                final Class<?> locatedClass = invocable.getRawResponseType();
+                final Resource located = locatedClass.isInterface() ? null : Resource.from(locatedClass);
+                if (located != null && visited.add(locatedClass)) {
+                    collect(located, serialized, deserialized, visited);
+                }
+                continue;
+            }
+
+            addEntityType(invocable.getResponseType(), serialized);
+            for (Parameter parameter : invocable.getParameters()) {
+                if (parameter.getSource() == Parameter.Source.ENTITY) {
+                    addEntityType(parameter.getType(), deserialized);
+                }
+            }
+        }
+
+        for (Resource child : resource.getChildResources()) {
+            collect(child, serialized, deserialized, visited);
+        }
+    }
+
+    private void addEntityType(Type type, Set<JavaType> types) {
+        final JavaType javaType = mapper.getTypeFactory().constructType(type);
+        final Class<?> raw = javaType.getRawClass();
+        if (raw == void.class || raw == Void.class || Response.class.isAssignableFrom(raw)
+                || StreamingOutput.class.isAssignableFrom(raw) || javaType.isJavaLangObject()) {
+            return;
+        }
+
+        // the elements of streamed entities are serialized one by one
+        for (Class<?> sequence : new Class<?>[]{Stream.class, Iterator.class, JsonStream.class}) {
+            if (sequence.isAssignableFrom(raw)) {
+                final JavaType[] parameters = mapper.getTypeFactory().findTypeParameters(javaType, sequence);
+                if (parameters.length == 1 && !parameters[0].isJavaLangObject()) {
+                    types.add(parameters[0]);
+                }
+                return;
+            }
+        }
+        types.add(javaType);
+    }
+}
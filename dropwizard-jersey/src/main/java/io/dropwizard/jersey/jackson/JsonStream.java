@@ -0,0 +1,133 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.google.common.collect.ImmutableList;
+import io.dropwizard.jersey.validation.ValidationErrorMessage;
+import io.dropwizard.validation.ConstraintViolations;
+
+import javax.annotation.Nullable;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A request entity which is read element by element, from a JSON array or from newline delimited JSON
+ * ({@code application/x-ndjson}), instead of being deserialized as a whole.
+ * <p/>
+ * If the resource method parameter is annotated with {@link javax.validation.Valid} or
+ * {@link io.dropwizard.validation.Validated}, each element is validated as it is read. An invalid element
+ * fails the request with a {@code 422 Unprocessable Entity}, and a malformed one with a {@code 400 Bad Request}.
+ *
+ * <pre><code>
+ * {@literal @}POST
+ * public void ingest({@literal @}Valid JsonStream&lt;Order&gt; orders) {
+ *     orders.forEachRemaining(dao::insert);
+ * }
+ * </code></pre>
+ *
+ * @param <T> the type of the elements
+ * @see JsonStreamMessageBodyReader
+ */
+public class JsonStream<T> implements Iterator<T>, Closeable {
+    private static final int UNPROCESSABLE_ENTITY = 422;
+
+    private final MappingIterator<T> elements;
+
+    @Nullable
+    private final Validator validator;
+    private final Class<?>[] groups;
+    private int index = 0;
+
+    JsonStream(MappingIterator<T> elements, @Nullable Validator validator, Class<?>[] groups) {
+        this.elements = elements;
+        this.validator = validator;
+        this.groups = groups;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return elements.hasNextValue();
+        } catch (IOException e) {
+            throw propagate(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final T element;
+        try {
+            element = elements.nextValue();
+        } catch (IOException e) {
+            throw propagate(e);
+        }
+        validate(element);
+        index++;
+        return element;
+    }
+
+    /**
+     * Returns a sequential {@link Stream} of the remaining elements, which closes this {@link JsonStream} when
+     * it's closed.
+     *
+     * @return the remaining elements
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public void close() throws IOException {
+        elements.close();
+    }
+
+    private void validate(T element) {
+        if (validator == null) {
+            return;
+        }
+
+        final Set<ConstraintViolation<T>> violations = validator.validate(element, groups);
+        if (!violations.isEmpty()) {
+            final ImmutableList.Builder<String> errors = ImmutableList.builder();
+            for (String error : ConstraintViolations.format(violations)) {
+                errors.add(String.format("element %d: %s", index, error));
+            }
+            throw new WebApplicationException(Response.status(UNPROCESSABLE_ENTITY)
+                    .type(MediaType.APPLICATION_JSON_TYPE)
+                    .entity(new ValidationErrorMessage(errors.build()))
+                    .build());
+        }
+    }
+
+    private RuntimeException propagate(IOException e) {
+        if (e instanceof JsonProcessingException) {
+            return new WebApplicationException("Unable to process JSON element " + index, e,
+                    Response.Status.BAD_REQUEST);
+        }
+        return new UncheckedIOException(e);
+    }
+}
@@ -0,0 +1,90 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dropwizard.validation.Validated;
+
+import javax.annotation.Nullable;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * A Jersey provider which reads a {@link JsonStream} request entity with the given {@link ObjectMapper}, and
+ * validates its elements with the given {@link Validator}.
+ */
+@Consumes({MediaType.APPLICATION_JSON, StreamingJacksonMessageBodyWriter.APPLICATION_NDJSON})
+public class JsonStreamMessageBodyReader implements MessageBodyReader<JsonStream<?>> {
+    private static final Class<?>[] DEFAULT_GROUPS = {Default.class};
+
+    private final ObjectMapper mapper;
+
+    @Nullable
+    private final Validator validator;
+
+    public JsonStreamMessageBodyReader(ObjectMapper mapper, @Nullable Validator validator) {
+        this.mapper = mapper;
+        this.validator = validator;
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type,
+                              @Nullable Type genericType,
+                              @Nullable Annotation[] annotations,
+                              @Nullable MediaType mediaType) {
+        if (!JsonStream.class.isAssignableFrom(type) || mediaType == null) {
+            return false;
+        }
+        final String subtype = mediaType.getSubtype();
+        return "json".equalsIgnoreCase(subtype)
+                || subtype.endsWith("+json")
+                || StreamingJacksonMessageBodyWriter.APPLICATION_NDJSON_TYPE.getSubtype().equalsIgnoreCase(subtype);
+    }
+
+    @Override
+    public JsonStream<?> readFrom(Class<JsonStream<?>> type,
+                                  @Nullable Type genericType,
+                                  @Nullable Annotation[] annotations,
+                                  @Nullable MediaType mediaType,
+                                  MultivaluedMap<String, String> httpHeaders,
+                                  InputStream entityStream) throws IOException {
+        final JavaType javaType = mapper.getTypeFactory().constructType(genericType != null ? genericType : type);
+        final JavaType[] parameters = mapper.getTypeFactory().findTypeParameters(javaType, JsonStream.class);
+        final JavaType elementType = parameters.length == 1 ? parameters[0] :
+                mapper.getTypeFactory().constructType(Object.class);
+
+        // the iterator unwraps a JSON array, and leaves the entity stream open until the JsonStream is closed
+        final MappingIterator<Object> elements = mapper.readerFor(elementType).readValues(entityStream);
+        final Class<?>[] groups = groups(annotations);
+        if (groups == null) {
+            // the parameter isn't annotated with @Valid or @Validated
+            return new JsonStream<>(elements, null, DEFAULT_GROUPS);
+        }
+        return new JsonStream<>(elements, validator, groups);
+    }
+
+    @Nullable
+    private static Class<?>[] groups(@Nullable Annotation[] annotations) {
+        if (annotations == null) {
+            return null;
+        }
+        Class<?>[] groups = null;
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof Validated) {
+                return ((Validated) annotation).value();
+            } else if (annotation instanceof Valid) {
+                groups = DEFAULT_GROUPS;
+            }
+        }
+        return groups;
+    }
+}
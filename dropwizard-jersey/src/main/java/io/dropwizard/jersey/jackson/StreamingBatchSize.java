@@ -0,0 +1,25 @@
+package io.dropwizard.jersey.jackson;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation which sets how many elements of a {@link java.util.stream.Stream} or {@link java.util.Iterator}
+ * returned by the annotated resource method are written between two flushes of the response.
+ *
+ * @see StreamingJacksonMessageBodyWriter
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StreamingBatchSize {
+    /**
+     * The number of elements written between two flushes of the response.
+     *
+     * @return the number of elements in a batch
+     */
+    int value();
+}
@@ -0,0 +1,158 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A Jersey provider which writes the elements of a lazily evaluated sequence one by one, as a JSON array or
+ * as newline delimited JSON ({@code application/x-ndjson}), instead of materializing them first.
+ * <p/>
+ * The elements are serialized by the given {@link ObjectMapper}, and the response is flushed after every
+ * batch of elements. The size of the batches can be set per resource method with {@link StreamingBatchSize}.
+ *
+ * @param <T> the type of the sequence
+ */
+public abstract class StreamingJacksonMessageBodyWriter<T> implements MessageBodyWriter<T> {
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    public static final MediaType APPLICATION_NDJSON_TYPE = MediaType.valueOf(APPLICATION_NDJSON);
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final ObjectMapper mapper;
+    private final Class<?> sequenceType;
+    private final int batchSize;
+
+    protected StreamingJacksonMessageBodyWriter(ObjectMapper mapper, Class<?> sequenceType, int batchSize) {
+        checkArgument(batchSize >= 1, "batchSize must be at least 1");
+        this.mapper = mapper;
+        this.sequenceType = sequenceType;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns an iterator over the elements of the given sequence.
+     *
+     * @param sequence the sequence
+     * @return an iterator over its elements
+     */
+    protected abstract Iterator<?> iterator(T sequence);
+
+    /**
+     * Releases the resources held by the sequence, once it has been written or has failed to be written.
+     *
+     * @param sequence the sequence
+     */
+    protected void close(T sequence) {
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type,
+                               @Nullable Type genericType,
+                               @Nullable Annotation[] annotations,
+                               @Nullable MediaType mediaType) {
+        return sequenceType.isAssignableFrom(type) && isJson(mediaType);
+    }
+
+    private static boolean isJson(@Nullable MediaType mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        final String subtype = mediaType.getSubtype();
+        return "json".equalsIgnoreCase(subtype) || subtype.endsWith("+json") || isNdJson(mediaType);
+    }
+
+    private static boolean isNdJson(@Nullable MediaType mediaType) {
+        return mediaType != null
+                && APPLICATION_NDJSON_TYPE.getType().equalsIgnoreCase(mediaType.getType())
+                && APPLICATION_NDJSON_TYPE.getSubtype().equalsIgnoreCase(mediaType.getSubtype());
+    }
+
+    @Override
+    public long getSize(T sequence,
+                        Class<?> type,
+                        @Nullable Type genericType,
+                        @Nullable Annotation[] annotations,
+                        @Nullable MediaType mediaType) {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(T sequence,
+                        Class<?> type,
+                        @Nullable Type genericType,
+                        @Nullable Annotation[] annotations,
+                        @Nullable MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        try {
+            final boolean ndjson = isNdJson(mediaType);
+            final ObjectWriter writer = mapper.writerFor(elementType(type, genericType))
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            final int size = batchSize(annotations);
+
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(entityStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // a sequence which fails partway through must not be closed into a valid, truncated array
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                if (ndjson) {
+                    // the elements are separated by newlines instead
+                    generator.setRootValueSeparator(null);
+                } else {
+                    generator.writeStartArray();
+                }
+
+                int written = 0;
+                final Iterator<?> elements = iterator(sequence);
+                while (elements.hasNext()) {
+                    writer.writeValue(generator, elements.next());
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                    if (++written % size == 0) {
+                        generator.flush();
+                    }
+                }
+
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            }
+        } finally {
+            close(sequence);
+        }
+    }
+
+    private JavaType elementType(Class<?> type, @Nullable Type genericType) {
+        final JavaType javaType = mapper.getTypeFactory().constructType(genericType != null ? genericType : type);
+        final JavaType[] parameters = mapper.getTypeFactory().findTypeParameters(javaType, sequenceType);
+        if (parameters.length == 1) {
+            return parameters[0];
+        }
+        return mapper.getTypeFactory().constructType(Object.class);
+    }
+
+    private int batchSize(@Nullable Annotation[] annotations) {
+        if (annotations != null) {
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof StreamingBatchSize) {
+                    return Math.max(1, ((StreamingBatchSize) annotation).value());
+                }
+            }
+        }
+        return batchSize;
+    }
+}
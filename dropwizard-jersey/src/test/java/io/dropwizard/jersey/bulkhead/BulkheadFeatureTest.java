@@ -0,0 +1,91 @@
+package io.dropwizard.jersey.bulkhead;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.junit.Test;
+
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.core.Response;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkheadFeatureTest extends AbstractJerseyTest {
+    // configure() is called by the constructor of JerseyTest, before the instance fields are initialized
+    private static final MetricRegistry METRIC_REGISTRY = new MetricRegistry();
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting(METRIC_REGISTRY)
+                .register(BulkheadResource.class);
+    }
+
+    @Test
+    public void rejectsConcurrentExecutionsOverTheLimit() throws Exception {
+        final Future<Response> blocked = target("/bulkhead/blocking").request().async().get();
+        assertThat(BulkheadResource.STARTED.await(5, TimeUnit.SECONDS))
+                .isTrue();
+
+        try {
+            assertThat(target("/bulkhead/blocking").request().get().getStatus())
+                    .isEqualTo(503);
+            assertThat(target("/bulkhead/unbounded").request().get().getStatus())
+                    .isEqualTo(200);
+        } finally {
+            BulkheadResource.RELEASED.countDown();
+        }
+
+        assertThat(blocked.get(5, TimeUnit.SECONDS).readEntity(String.class))
+                .isEqualTo("blocking");
+        assertThat(METRIC_REGISTRY.meter(MetricRegistry.name(BulkheadResource.class, "blocking",
+                "bulkhead-rejected")).getCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void releasesTheExecutionSlotAfterEachRequest() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(target("/bulkhead/single").request().get(String.class))
+                    .isEqualTo("single");
+        }
+    }
+
+    @Test
+    public void releasesTheExecutionSlotWhenTheMethodFails() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(target("/bulkhead/failing").request().get().getStatus())
+                    .isEqualTo(500);
+        }
+    }
+
+    @Test
+    public void doesNotListenToRequestsWithoutAnyBulkhead() throws Exception {
+        final ResourceInfo resourceInfo = mock(ResourceInfo.class);
+        when(resourceInfo.getResourceMethod()).thenReturn(BulkheadResource.class.getMethod("unbounded"));
+
+        final BulkheadFeature feature = new BulkheadFeature(new MetricRegistry());
+        feature.configure(resourceInfo, mock(FeatureContext.class));
+
+        assertThat(feature.onRequest(mock(RequestEvent.class)))
+                .isNull();
+    }
+
+    @Test
+    public void listensToRequestsOnceABulkheadIsBound() throws Exception {
+        final ResourceInfo resourceInfo = mock(ResourceInfo.class);
+        when(resourceInfo.getResourceMethod()).thenReturn(BulkheadResource.class.getMethod("single"));
+
+        final BulkheadFeature feature = new BulkheadFeature(new MetricRegistry());
+        feature.configure(resourceInfo, mock(FeatureContext.class));
+
+        assertThat(feature.onRequest(mock(RequestEvent.class)))
+                .isNotNull();
+    }
+}
@@ -0,0 +1,45 @@
+package io.dropwizard.jersey.bulkhead;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Path("/bulkhead/")
+@Produces(MediaType.TEXT_PLAIN)
+public class BulkheadResource {
+    static final CountDownLatch STARTED = new CountDownLatch(1);
+    static final CountDownLatch RELEASED = new CountDownLatch(1);
+
+    @GET
+    @Path("/blocking")
+    @Bulkhead(1)
+    public String blocking() throws InterruptedException {
+        STARTED.countDown();
+        RELEASED.await(5, TimeUnit.SECONDS);
+        return "blocking";
+    }
+
+    // the permit is released once the response is written, possibly after the client has received it
+    @GET
+    @Path("/single")
+    @Bulkhead(value = 1, maxWait = 1, maxWaitUnit = TimeUnit.SECONDS)
+    public String single() {
+        return "single";
+    }
+
+    @GET
+    @Path("/failing")
+    @Bulkhead(value = 1, maxWait = 1, maxWaitUnit = TimeUnit.SECONDS)
+    public String failing() {
+        throw new IllegalStateException("failing");
+    }
+
+    @GET
+    @Path("/unbounded")
+    public String unbounded() {
+        return "unbounded";
+    }
+}
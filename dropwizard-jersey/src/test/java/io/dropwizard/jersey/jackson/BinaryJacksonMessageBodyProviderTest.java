@@ -0,0 +1,154 @@
+package io.dropwizard.jersey.jackson;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jackson.JsonSnakeCase;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.time.LocalDate;
+
+import static io.dropwizard.jersey.jackson.JacksonCborMessageBodyProvider.APPLICATION_CBOR;
+import static io.dropwizard.jersey.jackson.JacksonCborMessageBodyProvider.APPLICATION_CBOR_TYPE;
+import static io.dropwizard.jersey.jackson.JacksonSmileMessageBodyProvider.APPLICATION_SMILE;
+import static io.dropwizard.jersey.jackson.JacksonSmileMessageBodyProvider.APPLICATION_SMILE_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BinaryJacksonMessageBodyProviderTest extends AbstractJerseyTest {
+    @JsonSnakeCase
+    public static class Event {
+        @Nullable
+        private String eventName;
+
+        @Nullable
+        private LocalDate eventDate;
+
+        public Event() {
+        }
+
+        Event(String eventName, LocalDate eventDate) {
+            this.eventName = eventName;
+            this.eventDate = eventDate;
+        }
+
+        @JsonProperty
+        @Nullable
+        public String getEventName() {
+            return eventName;
+        }
+
+        @JsonProperty
+        public void setEventName(String eventName) {
+            this.eventName = eventName;
+        }
+
+        @JsonProperty
+        @Nullable
+        public LocalDate getEventDate() {
+            return eventDate;
+        }
+
+        @JsonProperty
+        public void setEventDate(LocalDate eventDate) {
+            this.eventDate = eventDate;
+        }
+    }
+
+    @Path("/binary/")
+    @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE, APPLICATION_CBOR})
+    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_SMILE, APPLICATION_CBOR})
+    public static class EventResource {
+        @POST
+        public Event echo(Event event) {
+            return event;
+        }
+    }
+
+    @Path("/unspecified/")
+    public static class UnspecifiedResource {
+        @GET
+        public Event get() {
+            return new Event("launch", LocalDate.of(2018, 1, 23));
+        }
+    }
+
+    private final Event event = new Event("launch", LocalDate.of(2018, 1, 23));
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting(new MetricRegistry())
+                .register(new JacksonBinder(Jackson.newObjectMapper(), null, true))
+                .register(EventResource.class)
+                .register(UnspecifiedResource.class);
+    }
+
+    @Override
+    protected void configureClient(ClientConfig config) {
+        super.configureClient(config);
+        config.register(new JacksonBinder(Jackson.newObjectMapper(), null, true));
+    }
+
+    @Test
+    public void roundTripsSmileEntities() throws Exception {
+        assertRoundTrips(APPLICATION_SMILE_TYPE);
+    }
+
+    @Test
+    public void roundTripsCborEntities() throws Exception {
+        assertRoundTrips(APPLICATION_CBOR_TYPE);
+    }
+
+    @Test
+    public void roundTripsJsonEntities() throws Exception {
+        assertRoundTrips(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Test
+    public void respondsWithJsonToAnyMediaTypeWhenTheResourceDoesNotDeclareItsMediaTypes() throws Exception {
+        final Response response = target("/unspecified").request(MediaType.WILDCARD_TYPE).get();
+
+        assertThat(response.getMediaType())
+                .isEqualTo(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Test
+    public void writesSmileWithTheConfiguredObjectMapper() throws Exception {
+        final byte[] smile = target("/binary").request(APPLICATION_SMILE_TYPE)
+                .post(Entity.entity(event, APPLICATION_SMILE_TYPE), byte[].class);
+
+        final JsonNode node = new ObjectMapper(new SmileFactory()).readTree(smile);
+        assertThat(node.path("event_name").asText())
+                .isEqualTo("launch");
+        assertThat(node.has("event_date"))
+                .isTrue();
+    }
+
+    private void assertRoundTrips(MediaType mediaType) {
+        final Response response = target("/binary").request(mediaType)
+                .post(Entity.entity(event, mediaType));
+
+        assertThat(response.getMediaType())
+                .isEqualTo(mediaType);
+        final Event echoed = response.readEntity(Event.class);
+        assertThat(echoed.getEventName())
+                .isEqualTo("launch");
+        assertThat(echoed.getEventDate())
+                .isEqualTo(LocalDate.of(2018, 1, 23));
+    }
+}
@@ -0,0 +1,73 @@
+package io.dropwizard.jersey.jackson;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.junit.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import static io.dropwizard.jersey.jackson.JacksonSmileMessageBodyProvider.APPLICATION_SMILE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JacksonBinderTest extends AbstractJerseyTest {
+    public static class Representation {
+        @JsonProperty
+        public String getName() {
+            return "value";
+        }
+    }
+
+    @Path("/default-binder/")
+    public static class UnspecifiedResource {
+        @GET
+        public Representation get() {
+            return new Representation();
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting(new MetricRegistry())
+                .register(new JacksonBinder(Jackson.newObjectMapper()))
+                .register(UnspecifiedResource.class);
+    }
+
+    @Test
+    public void respondsWithJsonToAnyMediaType() throws Exception {
+        final Response response = target("/default-binder").request(MediaType.WILDCARD_TYPE).get();
+
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.getMediaType())
+                .isEqualTo(MediaType.APPLICATION_JSON_TYPE);
+        assertThat(response.readEntity(String.class))
+                .isEqualTo("{\"name\":\"value\"}");
+    }
+
+    @Test
+    public void respondsWithJsonToABrowser() throws Exception {
+        final Response response = target("/default-binder").request()
+                .accept("text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
+                .get();
+
+        assertThat(response.getMediaType())
+                .isEqualTo(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Test
+    public void doesNotRegisterTheBinaryFormatsByDefault() throws Exception {
+        final Response response = target("/default-binder").request()
+                .accept(APPLICATION_SMILE, "application/json;q=0.5")
+                .get();
+
+        assertThat(response.getMediaType())
+                .isEqualTo(MediaType.APPLICATION_JSON_TYPE);
+    }
+}
@@ -148,6 +148,20 @@ public class JacksonMessageBodyProviderTest {
                 .isTrue();
     }
 
+    @Test
+    public void remembersWhetherTypesAreIgnored() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertThat(provider.isWriteable(Ignorable.class, null, null, null))
+                    .isFalse();
+            assertThat(provider.isReadable(Ignorable.class, null, null, null))
+                    .isFalse();
+            assertThat(provider.isWriteable(NonIgnorable.class, null, null, null))
+                    .isTrue();
+            assertThat(provider.isReadable(NonIgnorable.class, null, null, null))
+                    .isTrue();
+        }
+    }
+
     @Test
     public void isChunked() throws Exception {
         assertThat(provider.getSize(null, null, null, null, null))
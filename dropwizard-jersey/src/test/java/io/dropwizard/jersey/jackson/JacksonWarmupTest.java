@@ -0,0 +1,97 @@
+package io.dropwizard.jersey.jackson;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.junit.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Response;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JacksonWarmupTest {
+    public static class Order {
+        @JsonProperty
+        public int id;
+    }
+
+    public static class Line {
+        @JsonProperty
+        public int quantity;
+    }
+
+    public static class Customer {
+        @JsonProperty
+        public String name = "";
+    }
+
+    @Path("/orders")
+    public static class OrderResource {
+        @GET
+        public List<Order> list() {
+            return Collections.emptyList();
+        }
+
+        @POST
+        public Response create(Order order) {
+            return Response.ok().build();
+        }
+
+        @GET
+        @Path("/lines")
+        public Stream<Line> lines() {
+            return Stream.empty();
+        }
+
+        @Path("/customer")
+        public CustomerResource customer() {
+            return new CustomerResource();
+        }
+    }
+
+    public static class CustomerResource {
+        @GET
+        public Customer get() {
+            return new Customer();
+        }
+    }
+
+    private final ObjectMapper mapper = Jackson.newObjectMapper();
+    private final JacksonWarmup warmup = new JacksonWarmup(mapper);
+
+    @Test
+    public void buildsTheSerializersAndDeserializersOfTheResourceEntities() throws Exception {
+        final DropwizardResourceConfig config = DropwizardResourceConfig.forTesting(new MetricRegistry());
+        config.register(OrderResource.class);
+
+        final Set<JavaType> types = warmup.warmup(config);
+
+        assertThat(types)
+                .containsOnly(mapper.getTypeFactory().constructCollectionType(List.class, Order.class),
+                        mapper.getTypeFactory().constructType(Order.class),
+                        mapper.getTypeFactory().constructType(Line.class),
+                        mapper.getTypeFactory().constructType(Customer.class));
+        assertThat(((DefaultSerializerProvider) mapper.getSerializerProviderInstance()).cachedSerializersCount())
+                .isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    public void ignoresNonResourceComponents() throws Exception {
+        final DropwizardResourceConfig config = DropwizardResourceConfig.forTesting(new MetricRegistry());
+        config.register(new JacksonBinder(mapper));
+
+        assertThat(warmup.warmup(config))
+                .isEmpty();
+    }
+}
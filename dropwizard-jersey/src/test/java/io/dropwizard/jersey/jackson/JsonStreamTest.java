@@ -0,0 +1,136 @@
+package io.dropwizard.jersey.jackson;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.errors.LoggingExceptionMapper;
+import io.dropwizard.jersey.validation.Validators;
+import io.dropwizard.validation.Validated;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import static io.dropwizard.jersey.jackson.StreamingJacksonMessageBodyWriter.APPLICATION_NDJSON;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonStreamTest extends AbstractJerseyTest {
+    public interface Strict {
+    }
+
+    public static class Item {
+        @Min(0)
+        @JsonProperty
+        public int quantity;
+
+        @NotNull(groups = Strict.class)
+        @Nullable
+        @JsonProperty
+        public String name;
+    }
+
+    @Path("/ingest/")
+    @Produces(MediaType.TEXT_PLAIN)
+    @Consumes({MediaType.APPLICATION_JSON, APPLICATION_NDJSON})
+    public static class IngestResource {
+        @POST
+        @Path("/valid")
+        public int valid(@Valid JsonStream<Item> items) {
+            return items.stream().mapToInt(item -> item.quantity).sum();
+        }
+
+        @POST
+        @Path("/strict")
+        public int strict(@Validated(Strict.class) JsonStream<Item> items) {
+            return items.stream().mapToInt(item -> item.quantity).sum();
+        }
+
+        @POST
+        @Path("/unvalidated")
+        public int unvalidated(JsonStream<Item> items) {
+            return items.stream().mapToInt(item -> item.quantity).sum();
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting(new MetricRegistry())
+                .register(new JacksonBinder(Jackson.newObjectMapper(), Validators.newValidator()))
+                .register(new LoggingExceptionMapper<Throwable>() { })
+                .register(IngestResource.class);
+    }
+
+    @Test
+    public void readsJsonArraysElementByElement() throws Exception {
+        assertThat(post("/ingest/valid", "[{\"quantity\":1},{\"quantity\":2},{\"quantity\":3}]",
+                MediaType.APPLICATION_JSON).readEntity(String.class))
+                .isEqualTo("6");
+    }
+
+    @Test
+    public void readsNewlineDelimitedJson() throws Exception {
+        assertThat(post("/ingest/valid", "{\"quantity\":1}\n{\"quantity\":2}\n", APPLICATION_NDJSON)
+                .readEntity(String.class))
+                .isEqualTo("3");
+    }
+
+    @Test
+    public void readsEmptyBodies() throws Exception {
+        assertThat(post("/ingest/valid", "[]", MediaType.APPLICATION_JSON).readEntity(String.class))
+                .isEqualTo("0");
+    }
+
+    @Test
+    public void rejectsInvalidElements() throws Exception {
+        final Response response = post("/ingest/valid", "[{\"quantity\":1},{\"quantity\":-1}]",
+                MediaType.APPLICATION_JSON);
+
+        assertThat(response.getStatus())
+                .isEqualTo(422);
+        assertThat(response.readEntity(String.class))
+                .isEqualTo("{\"errors\":[\"element 1: quantity must be greater than or equal to 0\"]}");
+    }
+
+    @Test
+    public void validatesElementsWithTheGivenGroups() throws Exception {
+        assertThat(post("/ingest/strict", "[{\"quantity\":-1,\"name\":\"a\"}]", MediaType.APPLICATION_JSON)
+                .readEntity(String.class))
+                .isEqualTo("-1");
+
+        final Response response = post("/ingest/strict", "[{\"quantity\":1}]", MediaType.APPLICATION_JSON);
+        assertThat(response.getStatus())
+                .isEqualTo(422);
+        assertThat(response.readEntity(String.class))
+                .isEqualTo("{\"errors\":[\"element 0: name may not be null\"]}");
+    }
+
+    @Test
+    public void doesNotValidateElementsWithoutValidAnnotation() throws Exception {
+        assertThat(post("/ingest/unvalidated", "[{\"quantity\":-1}]", MediaType.APPLICATION_JSON)
+                .readEntity(String.class))
+                .isEqualTo("-1");
+    }
+
+    @Test
+    public void rejectsMalformedElements() throws Exception {
+        assertThat(post("/ingest/valid", "[{\"quantity\":1},{\"quantity\":", MediaType.APPLICATION_JSON)
+                .getStatus())
+                .isEqualTo(400);
+    }
+
+    private Response post(String path, String body, String mediaType) {
+        return target(path).request().post(Entity.entity(body, mediaType));
+    }
+}
@@ -0,0 +1,164 @@
+package io.dropwizard.jersey.jackson;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableList;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jackson.JsonSnakeCase;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.junit.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.dropwizard.jersey.jackson.StreamingJacksonMessageBodyWriter.APPLICATION_NDJSON;
+import static io.dropwizard.jersey.jackson.StreamingJacksonMessageBodyWriter.APPLICATION_NDJSON_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StreamingJacksonMessageBodyWriterTest extends AbstractJerseyTest {
+    private static final AtomicBoolean STREAM_CLOSED = new AtomicBoolean();
+
+    @JsonSnakeCase
+    public static class Row {
+        private final int rowId;
+
+        Row(int rowId) {
+            this.rowId = rowId;
+        }
+
+        @JsonProperty
+        public int getRowId() {
+            return rowId;
+        }
+    }
+
+    @Path("/export/")
+    @Produces({MediaType.APPLICATION_JSON, APPLICATION_NDJSON})
+    public static class ExportResource {
+        @GET
+        @Path("/stream")
+        public Stream<Row> stream() {
+            STREAM_CLOSED.set(false);
+            return IntStream.rangeClosed(1, 3).mapToObj(Row::new).onClose(() -> STREAM_CLOSED.set(true));
+        }
+
+        @GET
+        @Path("/iterator")
+        @StreamingBatchSize(2)
+        public Iterator<Row> iterator() {
+            return ImmutableList.of(new Row(1), new Row(2)).iterator();
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting(new MetricRegistry())
+                .register(new JacksonBinder(Jackson.newObjectMapper()))
+                .register(ExportResource.class);
+    }
+
+    @Test
+    public void writesStreamsAsJsonArrays() throws Exception {
+        final Response response = target("/export/stream").request(MediaType.APPLICATION_JSON).get();
+
+        assertThat(response.readEntity(String.class))
+                .isEqualTo("[{\"row_id\":1},{\"row_id\":2},{\"row_id\":3}]");
+        assertThat(STREAM_CLOSED.get())
+                .isTrue();
+    }
+
+    @Test
+    public void writesStreamsAsNewlineDelimitedJson() throws Exception {
+        final Response response = target("/export/stream").request(APPLICATION_NDJSON).get();
+
+        assertThat(response.getMediaType())
+                .isEqualTo(APPLICATION_NDJSON_TYPE);
+        assertThat(response.readEntity(String.class))
+                .isEqualTo("{\"row_id\":1}\n{\"row_id\":2}\n{\"row_id\":3}\n");
+        assertThat(STREAM_CLOSED.get())
+                .isTrue();
+    }
+
+    @Test
+    public void writesIterators() throws Exception {
+        assertThat(target("/export/iterator").request(MediaType.APPLICATION_JSON).get(String.class))
+                .isEqualTo("[{\"row_id\":1},{\"row_id\":2}]");
+        assertThat(target("/export/iterator").request(APPLICATION_NDJSON).get(String.class))
+                .isEqualTo("{\"row_id\":1}\n{\"row_id\":2}\n");
+    }
+
+    @Test
+    public void flushesTheResponseAfterEachBatch() throws Exception {
+        final FlushCountingOutputStream output = new FlushCountingOutputStream();
+        final JacksonStreamMessageBodyWriter writer = new JacksonStreamMessageBodyWriter(Jackson.newObjectMapper(), 2);
+
+        writer.writeTo(IntStream.rangeClosed(1, 5).boxed(), Stream.class, null, new Annotation[0],
+                APPLICATION_NDJSON_TYPE, new MultivaluedHashMap<>(), output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8.name()))
+                .isEqualTo("1\n2\n3\n4\n5\n");
+        // after the second and the fourth element, and once the stream is written
+        assertThat(output.flushes)
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void doesNotCompleteTheArrayOfAFailedStream() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final JacksonStreamMessageBodyWriter writer = new JacksonStreamMessageBodyWriter(Jackson.newObjectMapper());
+        final Stream<Integer> failing = IntStream.rangeClosed(1, 5).boxed().map(i -> {
+            if (i == 3) {
+                throw new IllegalStateException("The database went away");
+            }
+            return i;
+        });
+
+        assertThatThrownBy(() -> writer.writeTo(failing, Stream.class, null, new Annotation[0],
+                MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), output))
+                .isInstanceOf(IllegalStateException.class);
+
+        final String body = output.toString(StandardCharsets.UTF_8.name());
+        assertThat(body)
+                .isEqualTo("[1,2");
+        assertThatThrownBy(() -> Jackson.newObjectMapper().readTree(body))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    public void onlyWritesJson() throws Exception {
+        final JacksonStreamMessageBodyWriter writer = new JacksonStreamMessageBodyWriter(Jackson.newObjectMapper());
+
+        assertThat(writer.isWriteable(Stream.class, null, null, MediaType.APPLICATION_JSON_TYPE))
+                .isTrue();
+        assertThat(writer.isWriteable(Stream.class, null, null, APPLICATION_NDJSON_TYPE))
+                .isTrue();
+        assertThat(writer.isWriteable(Stream.class, null, null, MediaType.TEXT_PLAIN_TYPE))
+                .isFalse();
+        assertThat(writer.isWriteable(Iterator.class, null, null, MediaType.APPLICATION_JSON_TYPE))
+                .isFalse();
+    }
+
+    private static class FlushCountingOutputStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
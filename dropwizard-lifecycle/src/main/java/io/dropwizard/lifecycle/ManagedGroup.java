@@ -0,0 +1,201 @@
+package io.dropwizard.lifecycle;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A group of {@link Managed} objects which are started concurrently instead of in registration order.
+ * Each member is started once the members it depends on are started, and the members are stopped in
+ * the reverse order of their registration, so that a member is stopped before its dependencies.
+ * <p>
+ * The time each member took to start is logged, and reported as
+ * {@code io.dropwizard.lifecycle.ManagedGroup.<group>.<member>.startup-time} in milliseconds.
+ */
+public class ManagedGroup extends AbstractLifeCycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManagedGroup.class);
+
+    private final String name;
+    private final MetricRegistry metricRegistry;
+    private final Map<String, Member> members = new LinkedHashMap<>();
+
+    /**
+     * Creates a new, empty {@link ManagedGroup}.
+     *
+     * @param name           the name of the group, used in the names of its threads and metrics
+     * @param metricRegistry the registry of the startup times of the members
+     */
+    public ManagedGroup(String name, MetricRegistry metricRegistry) {
+        this.name = requireNonNull(name);
+        this.metricRegistry = requireNonNull(metricRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Adds the given {@link Managed} instance to the group.
+     *
+     * @param memberName   the name of the member, unique within the group
+     * @param managed      a managed object
+     * @param dependencies the names of the members, already added to the group, which must be started
+     *                     before {@code managed}
+     * @return this group
+     */
+    public synchronized ManagedGroup manage(String memberName, Managed managed, String... dependencies) {
+        checkState(isStopped(), "members cannot be added to a started group");
+        checkArgument(!members.containsKey(memberName), "%s is already a member of %s", memberName, name);
+        final List<Member> memberDependencies = new ArrayList<>(dependencies.length);
+        for (String dependency : dependencies) {
+            final Member member = members.get(dependency);
+            checkArgument(member != null, "%s depends on %s, which is not a member of %s",
+                    memberName, dependency, name);
+            memberDependencies.add(member);
+        }
+
+        final Member member = new Member(memberName, requireNonNull(managed), memberDependencies);
+        members.put(memberName, member);
+        metricRegistry.register(name(ManagedGroup.class, name, memberName, "startup-time"),
+                (Gauge<Long>) () -> member.startupTime);
+        return this;
+    }
+
+    /**
+     * Returns the time each started member took to start, in registration order.
+     *
+     * @return the startup times in milliseconds, by member name
+     */
+    public synchronized ImmutableMap<String, Long> getStartupTimes() {
+        final ImmutableMap.Builder<String, Long> startupTimes = ImmutableMap.builder();
+        for (Member member : members.values()) {
+            if (member.started) {
+                startupTimes.put(member.name, member.startupTime);
+            }
+        }
+        return startupTimes.build();
+    }
+
+    @Override
+    protected synchronized void doStart() throws Exception {
+        if (members.isEmpty()) {
+            return;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(members.size(),
+                new ThreadFactoryBuilder().setNameFormat(name + "-start-%d").setDaemon(true).build());
+        try {
+            final Map<Member, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+            for (Member member : members.values()) {
+                final List<CompletableFuture<Void>> dependencies = new ArrayList<>(member.dependencies.size());
+                for (Member dependency : member.dependencies) {
+                    dependencies.add(requireNonNull(futures.get(dependency)));
+                }
+                futures.put(member, CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+                        .thenRunAsync(member::start, executor));
+            }
+
+            Throwable failure = null;
+            for (CompletableFuture<Void> future : futures.values()) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+
+            if (failure != null) {
+                stopMembers();
+                if (failure instanceof Exception) {
+                    throw (Exception) failure;
+                }
+                throw (Error) failure;
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        stopMembers();
+    }
+
+    private void stopMembers() throws Exception {
+        Exception failure = null;
+        final List<Member> reversed = new ArrayList<>(members.values());
+        for (int i = reversed.size() - 1; i >= 0; i--) {
+            final Member member = reversed.get(i);
+            if (!member.started) {
+                continue;
+            }
+            try {
+                member.managed.stop();
+            } catch (Exception e) {
+                LOGGER.warn("Unable to stop {} of {}", member.name, name, e);
+                if (failure == null) {
+                    failure = e;
+                }
+            } finally {
+                member.started = false;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + members.keySet();
+    }
+
+    private class Member {
+        private final String name;
+        private final Managed managed;
+        private final List<Member> dependencies;
+        private volatile boolean started;
+        private volatile long startupTime = -1;
+
+        private Member(String name, Managed managed, List<Member> dependencies) {
+            this.name = name;
+            this.managed = managed;
+            this.dependencies = dependencies;
+        }
+
+        private void start() {
+            final long startTime = System.nanoTime();
+            try {
+                managed.start();
+            } catch (Exception e) {
+                LOGGER.error("Unable to start {} of {}", name, ManagedGroup.this.name, e);
+                throw new CompletionException(e);
+            }
+            startupTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            started = true;
+            LOGGER.info("Started {} of {} in {} ms", name, ManagedGroup.this.name, startupTime);
+        }
+    }
+}
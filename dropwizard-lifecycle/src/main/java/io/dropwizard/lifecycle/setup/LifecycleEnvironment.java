@@ -1,7 +1,9 @@
 package io.dropwizard.lifecycle.setup;
 
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.ManagedGroup;
 import io.dropwizard.lifecycle.ServerLifecycleListener;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.util.component.AbstractLifeCycle;
@@ -21,10 +23,16 @@ public class LifecycleEnvironment {
 
     private final List<LifeCycle> managedObjects;
     private final List<LifeCycle.Listener> lifecycleListeners;
+    private final MetricRegistry metricRegistry;
 
     public LifecycleEnvironment() {
+        this(new MetricRegistry());
+    }
+
+    public LifecycleEnvironment(MetricRegistry metricRegistry) {
         this.managedObjects = new ArrayList<>();
         this.lifecycleListeners = new ArrayList<>();
+        this.metricRegistry = metricRegistry;
     }
 
     public List<LifeCycle> getManagedObjects() {
@@ -51,6 +59,20 @@ public class LifecycleEnvironment {
         managedObjects.add(requireNonNull(managed));
     }
 
+    /**
+     * Adds a new, empty {@link ManagedGroup} to the server's lifecycle. The {@link Managed} objects added
+     * to the group are started concurrently, each one once the members it depends on are started,
+     * instead of one after the other.
+     *
+     * @param name the name of the group
+     * @return the group
+     */
+    public ManagedGroup managedGroup(String name) {
+        final ManagedGroup group = new ManagedGroup(name, metricRegistry);
+        managedObjects.add(group);
+        return group;
+    }
+
     public ExecutorServiceBuilder executorService(String nameFormat) {
         return new ExecutorServiceBuilder(this, nameFormat);
     }
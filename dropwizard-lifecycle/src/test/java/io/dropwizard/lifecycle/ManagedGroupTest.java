@@ -0,0 +1,118 @@
+package io.dropwizard.lifecycle;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ManagedGroupTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final ManagedGroup group = new ManagedGroup("startup", metricRegistry);
+    private final List<String> started = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void startsIndependentMembersConcurrently() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Managed awaiting = new Recording("awaiting") {
+            @Override
+            public void start() throws Exception {
+                latch.countDown();
+                assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+                super.start();
+            }
+        };
+        group.manage("a", awaiting)
+                .manage("b", awaiting);
+
+        group.start();
+
+        assertThat(started)
+                .containsExactly("awaiting", "awaiting");
+    }
+
+    @Test
+    public void startsMembersAfterTheirDependencies() throws Exception {
+        group.manage("database", new Recording("database"))
+                .manage("cache", new Recording("cache"), "database")
+                .manage("client", new Recording("client"), "database", "cache");
+
+        group.start();
+
+        assertThat(started)
+                .containsExactly("database", "cache", "client");
+        assertThat(group.getStartupTimes())
+                .containsOnlyKeys("database", "cache", "client");
+        assertThat(metricRegistry.getGauges())
+                .containsKey("io.dropwizard.lifecycle.ManagedGroup.startup.cache.startup-time");
+    }
+
+    @Test
+    public void stopsMembersBeforeTheirDependencies() throws Exception {
+        final Managed database = mock(Managed.class);
+        final Managed cache = mock(Managed.class);
+        group.manage("database", database)
+                .manage("cache", cache, "database");
+
+        group.start();
+        group.stop();
+
+        final InOrder inOrder = inOrder(database, cache);
+        inOrder.verify(cache).stop();
+        inOrder.verify(database).stop();
+    }
+
+    @Test
+    public void stopsTheStartedMembersWhenAMemberFailsToStart() throws Exception {
+        final Managed database = mock(Managed.class);
+        final Managed cache = mock(Managed.class);
+        final Managed client = mock(Managed.class);
+        doThrow(new IllegalStateException("unreachable")).when(cache).start();
+        group.manage("database", database)
+                .manage("cache", cache, "database")
+                .manage("client", client, "cache");
+
+        assertThatThrownBy(group::start)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("unreachable");
+
+        verify(database).stop();
+        verify(cache, never()).stop();
+        verify(client, never()).start();
+    }
+
+    @Test
+    public void rejectsUnknownDependencies() throws Exception {
+        assertThatThrownBy(() -> group.manage("cache", mock(Managed.class), "database"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("cache depends on database, which is not a member of startup");
+    }
+
+    private class Recording implements Managed {
+        private final String name;
+
+        Recording(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void start() throws Exception {
+            started.add(name);
+        }
+
+        @Override
+        public void stop() throws Exception {
+        }
+    }
+}
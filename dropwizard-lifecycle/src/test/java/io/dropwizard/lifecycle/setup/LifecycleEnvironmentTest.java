@@ -5,6 +5,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.ManagedGroup;
 import org.eclipse.jetty.util.component.ContainerLifeCycle;
 import org.eclipse.jetty.util.component.LifeCycle;
 import org.junit.Test;
@@ -52,6 +53,17 @@ public class LifecycleEnvironmentTest {
             .isEqualTo(managed);
     }
 
+    @Test
+    public void managesGroupsOfManagedObjects() throws Exception {
+        final ManagedGroup group = environment.managedGroup("startup");
+
+        final ContainerLifeCycle container = new ContainerLifeCycle();
+        environment.attach(container);
+
+        assertThat(container.getBeans())
+            .containsExactly(group);
+    }
+
     @Test
     public void scheduledExecutorServiceBuildsDaemonThreads() throws ExecutionException, InterruptedException {
         final ScheduledExecutorService executorService = environment.scheduledExecutorService("daemon-%d", true).build();
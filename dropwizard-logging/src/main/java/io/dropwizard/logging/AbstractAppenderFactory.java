@@ -6,13 +6,20 @@ import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.AsyncAppenderBase;
 import ch.qos.logback.core.Context;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import ch.qos.logback.core.filter.Filter;
 import ch.qos.logback.core.pattern.PatternLayoutBase;
 import ch.qos.logback.core.spi.DeferredProcessingAware;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import io.dropwizard.logging.async.AsyncAppenderFactory;
+import io.dropwizard.logging.async.AsyncQueueType;
+import io.dropwizard.logging.async.RingBufferAsyncAppender;
+import io.dropwizard.logging.async.RingBufferAsyncAppenderFactory;
 import io.dropwizard.logging.filter.FilterFactory;
+import io.dropwizard.logging.layout.DiscoverableLayoutFactory;
 import io.dropwizard.logging.layout.LayoutFactory;
 
 import javax.annotation.Nullable;
@@ -45,6 +52,14 @@ import static com.google.common.base.Strings.nullToEmpty;
  *         <td>An appender-specific log format.</td>
  *     </tr>
  *     <tr>
+ *         <td>{@code layout}</td>
+ *         <td>(none)</td>
+ *         <td>
+ *             The {@link DiscoverableLayoutFactory layout} of the events, such as {@code json}, instead of
+ *             the pattern layout. The {@code logFormat} is ignored when a layout is set.
+ *         </td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code timeZone}</td>
  *         <td>{@code UTC}</td>
  *         <td>
@@ -58,6 +73,14 @@ import static com.google.common.base.Strings.nullToEmpty;
  *         <td>The maximum capacity of the blocking queue.</td>
  *     </tr>
  *     <tr>
+ *         <td>{@code queueType}</td>
+ *         <td>{@code BLOCKING}</td>
+ *         <td>
+ *             The {@link AsyncQueueType queue} of the asynchronous appender. A {@code RING_BUFFER} doesn't
+ *             lock, so it scales better when many threads log concurrently.
+ *         </td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code includeCallerData}</td>
  *         <td>{@link AsyncAppenderBase}</td>
  *         <td>
@@ -79,7 +102,7 @@ import static com.google.common.base.Strings.nullToEmpty;
  *         <td>(none)</td>
  *         <td>
  *             A list of {@link FilterFactory filters} to apply to the appender, in order,
- *             after the {@code threshold}.
+ *             after the {@code threshold}. The filters are applied before the events are queued.
  *         </td>
  *     </tr>
  * </table>
@@ -92,6 +115,9 @@ public abstract class AbstractAppenderFactory<E extends DeferredProcessingAware>
     @Nullable
     protected String logFormat;
 
+    @Nullable
+    protected DiscoverableLayoutFactory<?> layout;
+
     @NotNull
     protected TimeZone timeZone = TimeZone.getTimeZone("UTC");
 
@@ -99,6 +125,9 @@ public abstract class AbstractAppenderFactory<E extends DeferredProcessingAware>
     @Max(Integer.MAX_VALUE)
     private int queueSize = AsyncAppenderBase.DEFAULT_QUEUE_SIZE;
 
+    @NotNull
+    private AsyncQueueType queueType = AsyncQueueType.BLOCKING;
+
     private int discardingThreshold = -1;
 
     private boolean includeCallerData = false;
@@ -117,6 +146,16 @@ public abstract class AbstractAppenderFactory<E extends DeferredProcessingAware>
         this.queueSize = queueSize;
     }
 
+    @JsonProperty
+    public AsyncQueueType getQueueType() {
+        return queueType;
+    }
+
+    @JsonProperty
+    public void setQueueType(AsyncQueueType queueType) {
+        this.queueType = queueType;
+    }
+
     @JsonProperty
     public int getDiscardingThreshold() {
         return discardingThreshold;
@@ -148,6 +187,17 @@ public abstract class AbstractAppenderFactory<E extends DeferredProcessingAware>
         this.logFormat = logFormat;
     }
 
+    @JsonProperty
+    @Nullable
+    public DiscoverableLayoutFactory<?> getLayout() {
+        return layout;
+    }
+
+    @JsonProperty
+    public void setLayout(@Nullable DiscoverableLayoutFactory<?> layout) {
+        this.layout = layout;
+    }
+
     @JsonProperty
     public TimeZone getTimeZone() {
         return timeZone;
@@ -194,20 +244,76 @@ public abstract class AbstractAppenderFactory<E extends DeferredProcessingAware>
     }
 
     protected Appender<E> wrapAsync(Appender<E> appender, AsyncAppenderFactory<E> asyncAppenderFactory, Context context) {
-        final AsyncAppenderBase<E> asyncAppender = asyncAppenderFactory.build();
+        final AsyncAppenderBase<E> asyncAppender = queueType == AsyncQueueType.RING_BUFFER
+                ? new RingBufferAsyncAppenderFactory<E>().build()
+                : asyncAppenderFactory.build();
         if (asyncAppender instanceof AsyncAppender) {
             ((AsyncAppender) asyncAppender).setIncludeCallerData(includeCallerData);
+        } else if (asyncAppender instanceof RingBufferAsyncAppender) {
+            ((RingBufferAsyncAppender<E>) asyncAppender).setIncludeCallerData(includeCallerData);
         }
         asyncAppender.setQueueSize(queueSize);
         asyncAppender.setDiscardingThreshold(discardingThreshold);
         asyncAppender.setContext(context);
         asyncAppender.setName("async-" + appender.getName());
+        // filter the events before they are queued, so that the denied ones don't take up the queue
+        appender.getCopyOfAttachedFiltersList().forEach(asyncAppender::addFilter);
+        appender.clearAllFilters();
         asyncAppender.addAppender(appender);
         asyncAppender.setNeverBlock(neverBlock);
         asyncAppender.start();
         return asyncAppender;
     }
 
+    /**
+     * Builds the encoder of the events, which formats them with the configured {@code layout}, or with the
+     * pattern layout of the given factory if there is none.
+     *
+     * @param context       the Logback context
+     * @param layoutFactory the factory of the default layout
+     * @return a new, started {@link Encoder}
+     * @throws IllegalArgumentException if the configured layout doesn't support the events of the appender
+     */
+    @SuppressWarnings("unchecked")
+    protected Encoder<E> buildEncoder(LoggerContext context, LayoutFactory<E> layoutFactory) {
+        if (layout != null) {
+            checkEventType("layout", layout, layout.getEventType(), layoutFactory.getEventType());
+            return ((DiscoverableLayoutFactory<E>) layout).buildEncoder(context, timeZone);
+        }
+        final LayoutWrappingEncoder<E> layoutEncoder = new LayoutWrappingEncoder<>();
+        layoutEncoder.setLayout(buildLayout(context, layoutFactory));
+        return layoutEncoder;
+    }
+
+    /**
+     * Checks that a configured component supports the events of the appender. The configuration binds the
+     * components regardless of the type of the events, which is erased, and a mismatch would otherwise only
+     * fail when an event is appended, as a {@link ClassCastException} swallowed by Logback.
+     */
+    static void checkEventType(String kind, Object component, Class<?> supportedEventType, Class<?> eventType) {
+        if (!supportedEventType.isAssignableFrom(eventType) && !eventType.isAssignableFrom(supportedEventType)) {
+            throw new IllegalArgumentException("The " + kind + " " + component.getClass().getName() +
+                    " only supports " + supportedEventType.getSimpleName() + " events, not " +
+                    eventType.getSimpleName() + " events");
+        }
+    }
+
+    /**
+     * Builds the configured filters of the events.
+     *
+     * @param layoutFactory the factory of the default layout, which tells the type of the events
+     * @return new, started {@link Filter}s, in order
+     * @throws IllegalArgumentException if a configured filter doesn't support the events of the appender
+     */
+    protected List<Filter<E>> buildFilters(LayoutFactory<E> layoutFactory) {
+        final ImmutableList.Builder<Filter<E>> filters = ImmutableList.builder();
+        for (FilterFactory<E> filterFactory : filterFactories) {
+            checkEventType("filter", filterFactory, filterFactory.getEventType(), layoutFactory.getEventType());
+            filters.add(filterFactory.build());
+        }
+        return filters.build();
+    }
+
     protected PatternLayoutBase<E> buildLayout(LoggerContext context, LayoutFactory<E> layoutFactory) {
         final PatternLayoutBase<E> formatter = layoutFactory.build(context, timeZone);
         if (!Strings.isNullOrEmpty(logFormat)) {
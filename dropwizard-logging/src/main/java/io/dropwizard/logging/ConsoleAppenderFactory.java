@@ -3,7 +3,6 @@ package io.dropwizard.logging;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.ConsoleAppender;
-import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
 import ch.qos.logback.core.spi.DeferredProcessingAware;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
@@ -98,12 +97,10 @@ public class ConsoleAppenderFactory<E extends DeferredProcessingAware> extends A
         appender.setContext(context);
         appender.setTarget(target.get());
 
-        final LayoutWrappingEncoder<E> layoutEncoder = new LayoutWrappingEncoder<>();
-        layoutEncoder.setLayout(buildLayout(context, layoutFactory));
-        appender.setEncoder(layoutEncoder);
+        appender.setEncoder(buildEncoder(context, layoutFactory));
 
         appender.addFilter(levelFilterFactory.build(threshold));
-        getFilterFactories().forEach(f -> appender.addFilter(f.build()));
+        buildFilters(layoutFactory).forEach(appender::addFilter);
         appender.start();
 
         return wrapAsync(appender, asyncAppenderFactory);
@@ -1,6 +1,5 @@
 package io.dropwizard.logging;
 
-import ch.qos.logback.classic.AsyncAppender;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
@@ -8,10 +7,13 @@ import ch.qos.logback.classic.jmx.JMXConfigurator;
 import ch.qos.logback.classic.jul.LevelChangePropagator;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
 import ch.qos.logback.core.ConsoleAppender;
 import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import ch.qos.logback.core.filter.Filter;
 import ch.qos.logback.core.util.StatusPrinter;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricSet;
 import com.codahale.metrics.logback.InstrumentedAppender;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -24,12 +26,15 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.dropwizard.jackson.Jackson;
+import io.dropwizard.logging.archive.ArchiveCompressor;
 import io.dropwizard.logging.async.AsyncAppenderFactory;
 import io.dropwizard.logging.async.AsyncLoggingEventAppenderFactory;
+import io.dropwizard.logging.async.RingBufferAsyncAppender;
 import io.dropwizard.logging.filter.LevelFilterFactory;
 import io.dropwizard.logging.filter.ThresholdLevelFilterFactory;
 import io.dropwizard.logging.layout.DropwizardLayoutFactory;
 import io.dropwizard.logging.layout.LayoutFactory;
+import io.dropwizard.util.Duration;
 
 import javax.annotation.Nullable;
 import javax.management.InstanceAlreadyExistsException;
@@ -39,15 +44,20 @@ import javax.management.MalformedObjectNameException;
 import javax.management.NotCompliantMBeanException;
 import javax.management.ObjectName;
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import java.io.PrintStream;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static com.codahale.metrics.MetricRegistry.name;
 import static java.util.Objects.requireNonNull;
 
 @JsonTypeName("default")
@@ -67,12 +77,21 @@ public class DefaultLoggingFactory implements LoggingFactory {
             new ConsoleAppenderFactory<>()
     );
 
+    @Min(1)
+    private int archiveCompressionThreads = 1;
+
+    @NotNull
+    private Duration archiveCompressionTimeout = Duration.seconds(30);
+
     @JsonIgnore
     private final LoggerContext loggerContext;
 
     @JsonIgnore
     private final PrintStream configurationErrorsStream;
 
+    @JsonIgnore
+    private final Set<String> registeredPrefixes = new HashSet<>();
+
     public DefaultLoggingFactory() {
         this(LoggingUtil.getLoggerContext(), System.err);
     }
@@ -123,6 +142,26 @@ public class DefaultLoggingFactory implements LoggingFactory {
         this.appenders = ImmutableList.copyOf(appenders);
     }
 
+    @JsonProperty
+    public int getArchiveCompressionThreads() {
+        return archiveCompressionThreads;
+    }
+
+    @JsonProperty
+    public void setArchiveCompressionThreads(int archiveCompressionThreads) {
+        this.archiveCompressionThreads = archiveCompressionThreads;
+    }
+
+    @JsonProperty
+    public Duration getArchiveCompressionTimeout() {
+        return archiveCompressionTimeout;
+    }
+
+    @JsonProperty
+    public void setArchiveCompressionTimeout(Duration archiveCompressionTimeout) {
+        this.archiveCompressionTimeout = archiveCompressionTimeout;
+    }
+
     @Override
     public void configure(MetricRegistry metricRegistry, String name) {
         LoggingUtil.hijackJDKLogging();
@@ -130,7 +169,7 @@ public class DefaultLoggingFactory implements LoggingFactory {
         CHANGE_LOGGER_CONTEXT_LOCK.lock();
         final Logger root;
         try {
-            root = configureLoggers(name);
+            root = configureLoggers(metricRegistry, name);
         } finally {
             CHANGE_LOGGER_CONTEXT_LOCK.unlock();
         }
@@ -140,7 +179,10 @@ public class DefaultLoggingFactory implements LoggingFactory {
         final LayoutFactory<ILoggingEvent> layoutFactory = new DropwizardLayoutFactory();
 
         for (AppenderFactory<ILoggingEvent> output : appenders) {
-            root.addAppender(output.build(loggerContext, name, layoutFactory, levelFilterFactory, asyncAppenderFactory));
+            final Appender<ILoggingEvent> appender =
+                output.build(loggerContext, name, layoutFactory, levelFilterFactory, asyncAppenderFactory);
+            root.addAppender(appender);
+            registerMetrics(metricRegistry, root, appender);
         }
 
         StatusPrinter.setPrintStream(configurationErrorsStream);
@@ -182,10 +224,16 @@ public class DefaultLoggingFactory implements LoggingFactory {
             final Logger logger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
             final ArrayList<Appender<ILoggingEvent>> appenders = Lists.newArrayList(logger.iteratorForAppenders());
             for (Appender<ILoggingEvent> appender : appenders) {
-                if (appender instanceof AsyncAppender) {
-                    flushAppender((AsyncAppender) appender);
+                if (appender instanceof AsyncAppenderBase) {
+                    flushAppender((AsyncAppenderBase<ILoggingEvent>) appender);
                 }
             }
+
+            // Then wait for the archives which are still being compressed
+            final ArchiveCompressor compressor = ArchiveCompressor.get(loggerContext);
+            if (compressor != null) {
+                compressor.stop();
+            }
         } catch (InterruptedException ignored) {
             // If the thread waiting for the logs to be flushed is aborted then
             // user clearly wants the application to quit now, so stop trying
@@ -221,7 +269,7 @@ public class DefaultLoggingFactory implements LoggingFactory {
         }
     }
 
-    private void flushAppender(AsyncAppender appender) throws InterruptedException {
+    private void flushAppender(AsyncAppenderBase<ILoggingEvent> appender) throws InterruptedException {
         int timeWaiting = 0;
         while (timeWaiting < appender.getMaxFlushTime() && appender.getNumberOfElementsInQueue() > 0) {
             Thread.sleep(100);
@@ -243,9 +291,56 @@ public class DefaultLoggingFactory implements LoggingFactory {
         root.addAppender(appender);
     }
 
-    private Logger configureLoggers(String name) {
+    /**
+     * Registers the metrics of an appender which reports them, such as a {@link RingBufferAsyncAppender}, of its
+     * filters, and of the appenders it wraps, as {@code <class>.<logger>.<appender>.<metric>}. The metrics of a
+     * previous configuration are replaced.
+     */
+    private void registerMetrics(MetricRegistry metricRegistry, Logger logger, Appender<ILoggingEvent> appender) {
+        if (appender instanceof AsyncAppenderBase) {
+            final Iterator<Appender<ILoggingEvent>> wrapped =
+                ((AsyncAppenderBase<ILoggingEvent>) appender).iteratorForAppenders();
+            while (wrapped.hasNext()) {
+                registerMetrics(metricRegistry, logger, wrapped.next());
+            }
+        }
+        if (appender instanceof MetricSet) {
+            registerMetrics(metricRegistry, name(appender.getClass(), logger.getName(), appender.getName()),
+                (MetricSet) appender);
+        }
+        for (Filter<ILoggingEvent> filter : appender.getCopyOfAttachedFiltersList()) {
+            if (filter instanceof MetricSet) {
+                registerMetrics(metricRegistry, name(filter.getClass(), logger.getName(), appender.getName()),
+                    (MetricSet) filter);
+            }
+        }
+    }
+
+    private void registerMetrics(MetricRegistry metricRegistry, String prefix, MetricSet metrics) {
+        String uniquePrefix = prefix;
+        for (int i = 2; registeredPrefixes.contains(uniquePrefix); i++) {
+            uniquePrefix = prefix + '-' + i;
+        }
+        registeredPrefixes.add(uniquePrefix);
+        removeMetrics(metricRegistry, uniquePrefix);
+        metricRegistry.register(uniquePrefix, metrics);
+    }
+
+    private void removeMetrics(MetricRegistry metricRegistry) {
+        for (String prefix : registeredPrefixes) {
+            removeMetrics(metricRegistry, prefix);
+        }
+        registeredPrefixes.clear();
+    }
+
+    private static void removeMetrics(MetricRegistry metricRegistry, String prefix) {
+        metricRegistry.removeMatching((metricName, metric) -> metricName.startsWith(prefix + '.'));
+    }
+
+    private Logger configureLoggers(MetricRegistry metricRegistry, String name) {
         final Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
         loggerContext.reset();
+        removeMetrics(metricRegistry);
 
         final LevelChangePropagator propagator = new LevelChangePropagator();
         propagator.setContext(loggerContext);
@@ -253,6 +348,12 @@ public class DefaultLoggingFactory implements LoggingFactory {
 
         loggerContext.addListener(propagator);
 
+        // the compressor is stopped when the context is reset
+        final ArchiveCompressor compressor = new ArchiveCompressor(archiveCompressionThreads, archiveCompressionTimeout);
+        compressor.register(loggerContext);
+        compressor.start();
+        registerMetrics(metricRegistry, name(ArchiveCompressor.class), compressor);
+
         root.setLevel(toLevel(level));
 
         final LevelFilterFactory<ILoggingEvent> levelFilterFactory = new ThresholdLevelFilterFactory();
@@ -276,8 +377,11 @@ public class DefaultLoggingFactory implements LoggingFactory {
                 logger.setLevel(toLevel(configuration.getLevel()));
                 logger.setAdditive(configuration.isAdditive());
 
-                for (AppenderFactory<ILoggingEvent> appender : configuration.getAppenders()) {
-                    logger.addAppender(appender.build(loggerContext, name, layoutFactory, levelFilterFactory, asyncAppenderFactory));
+                for (AppenderFactory<ILoggingEvent> appenderFactory : configuration.getAppenders()) {
+                    final Appender<ILoggingEvent> appender =
+                        appenderFactory.build(loggerContext, name, layoutFactory, levelFilterFactory, asyncAppenderFactory);
+                    logger.addAppender(appender);
+                    registerMetrics(metricRegistry, logger, appender);
                 }
             } else {
                 throw new IllegalArgumentException("Unsupported format of logger '" + entry.getKey() + "'");
@@ -305,6 +409,8 @@ public class DefaultLoggingFactory implements LoggingFactory {
                 .add("level", level)
                 .add("loggers", loggers)
                 .add("appenders", appenders)
+                .add("archiveCompressionThreads", archiveCompressionThreads)
+                .add("archiveCompressionTimeout", archiveCompressionTimeout)
                 .toString();
     }
 }
@@ -3,7 +3,6 @@ package io.dropwizard.logging;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.FileAppender;
-import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
 import ch.qos.logback.core.rolling.DefaultTimeBasedFileNamingAndTriggeringPolicy;
 import ch.qos.logback.core.rolling.FixedWindowRollingPolicy;
 import ch.qos.logback.core.rolling.RollingFileAppender;
@@ -16,15 +15,24 @@ import ch.qos.logback.core.util.FileSize;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.dropwizard.logging.archive.ArchiveCompressor;
+import io.dropwizard.logging.archive.CompressingFixedWindowRollingPolicy;
+import io.dropwizard.logging.archive.CompressingSizeAndTimeBasedRollingPolicy;
+import io.dropwizard.logging.archive.CompressingTimeBasedRollingPolicy;
 import io.dropwizard.logging.async.AsyncAppenderFactory;
+import io.dropwizard.logging.batch.BatchingFileAppender;
+import io.dropwizard.logging.batch.BatchingRollingFileAppender;
 import io.dropwizard.logging.filter.LevelFilterFactory;
 import io.dropwizard.logging.layout.LayoutFactory;
+import io.dropwizard.util.Duration;
 import io.dropwizard.util.Size;
+import io.dropwizard.validation.MinDuration;
 import io.dropwizard.validation.MinSize;
 import io.dropwizard.validation.ValidationMethod;
 
 import javax.annotation.Nullable;
 import javax.validation.constraints.Min;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Objects.requireNonNull;
 
@@ -68,7 +76,8 @@ import static java.util.Objects.requireNonNull;
  *             an integer index of the archived file.
  *             Otherwise rollover is date-based, and the pattern must contain {@code %d}, which is replaced with the
  *             date in {@code yyyy-MM-dd} form.
- *             If the pattern ends with {@code .gz} or {@code .zip}, files will be compressed as they are archived.
+ *             If the pattern ends with {@code .gz} or {@code .zip}, files will be compressed as they are archived,
+ *             in the background when the logging factory provides an {@link ArchiveCompressor}.
  *         </td>
  *     </tr>
  *     <tr>
@@ -121,6 +130,25 @@ import static java.util.Objects.requireNonNull;
  *             for details.
  *         </td>
  *     </tr>
+ *     <tr>
+ *         <td>{@code batched}</td>
+ *         <td>{@code false}</td>
+ *         <td>
+ *             If set to true, events are collected in a direct buffer of {@code batchSize} and written to the
+ *             file in batches, once the buffer is full or every {@code batchFlushInterval}, instead of through
+ *             the stream of {@code bufferSize}. {@code immediateFlush} is ignored.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code batchSize}</td>
+ *         <td>256KiB</td>
+ *         <td>The size of the buffer of a batched appender.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code batchFlushInterval}</td>
+ *         <td>1 second</td>
+ *         <td>The maximum time an event stays in the buffer of a batched appender.</td>
+ *     </tr>
  * </table>
  *
  * @see AbstractAppenderFactory
@@ -147,6 +175,14 @@ public class FileAppenderFactory<E extends DeferredProcessingAware> extends Abst
 
     private boolean immediateFlush = true;
 
+    private boolean batched = false;
+
+    @MinSize(1)
+    private Size batchSize = Size.kilobytes(256);
+
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration batchFlushInterval = Duration.seconds(1);
+
     @JsonProperty
     @Nullable
     public String getCurrentLogFilename() {
@@ -219,6 +255,36 @@ public class FileAppenderFactory<E extends DeferredProcessingAware> extends Abst
         this.immediateFlush = immediateFlush;
     }
 
+    @JsonProperty
+    public boolean isBatched() {
+        return batched;
+    }
+
+    @JsonProperty
+    public void setBatched(boolean batched) {
+        this.batched = batched;
+    }
+
+    @JsonProperty
+    public Size getBatchSize() {
+        return batchSize;
+    }
+
+    @JsonProperty
+    public void setBatchSize(Size batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @JsonProperty
+    public Duration getBatchFlushInterval() {
+        return batchFlushInterval;
+    }
+
+    @JsonProperty
+    public void setBatchFlushInterval(Duration batchFlushInterval) {
+        this.batchFlushInterval = batchFlushInterval;
+    }
+
     @JsonIgnore
     @ValidationMethod(message = "must have archivedLogFilenamePattern if archive is true")
     public boolean isValidArchiveConfiguration() {
@@ -254,14 +320,12 @@ public class FileAppenderFactory<E extends DeferredProcessingAware> extends Abst
         appender.setAppend(true);
         appender.setContext(context);
 
-        final LayoutWrappingEncoder<E> layoutEncoder = new LayoutWrappingEncoder<>();
-        layoutEncoder.setLayout(buildLayout(context, layoutFactory));
-        appender.setEncoder(layoutEncoder);
+        appender.setEncoder(buildEncoder(context, layoutFactory));
 
         appender.setImmediateFlush(immediateFlush);
         appender.setPrudent(false);
         appender.addFilter(levelFilterFactory.build(threshold));
-        getFilterFactories().forEach(f -> appender.addFilter(f.build()));
+        buildFilters(layoutFactory).forEach(appender::addFilter);
         appender.start();
 
         return wrapAsync(appender, asyncAppenderFactory);
@@ -269,13 +333,18 @@ public class FileAppenderFactory<E extends DeferredProcessingAware> extends Abst
 
     protected FileAppender<E> buildAppender(LoggerContext context) {
         if (archive) {
-            final RollingFileAppender<E> appender = new RollingFileAppender<>();
+            final ArchiveCompressor compressor = ArchiveCompressor.get(context);
+            final RollingFileAppender<E> appender = batched
+                ? new BatchingRollingFileAppender<>(batchSize, batchFlushInterval)
+                : new RollingFileAppender<>();
             appender.setContext(context);
             appender.setFile(currentLogFilename);
             appender.setBufferSize(new FileSize(bufferSize.toBytes()));
 
             if (maxFileSize != null && !requireNonNull(archivedLogFilenamePattern).contains("%d")) {
-                final FixedWindowRollingPolicy rollingPolicy = new FixedWindowRollingPolicy();
+                final FixedWindowRollingPolicy rollingPolicy = compressor == null
+                    ? new FixedWindowRollingPolicy()
+                    : new CompressingFixedWindowRollingPolicy(compressor);
                 rollingPolicy.setContext(context);
                 rollingPolicy.setMaxIndex(getArchivedFileCount());
                 rollingPolicy.setFileNamePattern(getArchivedLogFilenamePattern());
@@ -293,7 +362,9 @@ public class FileAppenderFactory<E extends DeferredProcessingAware> extends Abst
             } else {
                 final TimeBasedRollingPolicy<E> rollingPolicy;
                 if (maxFileSize == null) {
-                    rollingPolicy = new TimeBasedRollingPolicy<>();
+                    rollingPolicy = compressor == null
+                        ? new TimeBasedRollingPolicy<>()
+                        : new CompressingTimeBasedRollingPolicy<>(compressor);
 
                     final TimeBasedFileNamingAndTriggeringPolicy<E> triggeringPolicy = new DefaultTimeBasedFileNamingAndTriggeringPolicy<>();
                     triggeringPolicy.setContext(context);
@@ -302,7 +373,9 @@ public class FileAppenderFactory<E extends DeferredProcessingAware> extends Abst
                 } else {
                     // Creating a size and time policy does not need a separate triggering policy set
                     // on the appender because this policy registers the trigger policy
-                    final SizeAndTimeBasedRollingPolicy<E> sizeAndTimeBasedRollingPolicy = new SizeAndTimeBasedRollingPolicy<>();
+                    final SizeAndTimeBasedRollingPolicy<E> sizeAndTimeBasedRollingPolicy = compressor == null
+                        ? new SizeAndTimeBasedRollingPolicy<>()
+                        : new CompressingSizeAndTimeBasedRollingPolicy<>(compressor);
                     sizeAndTimeBasedRollingPolicy.setMaxFileSize(new FileSize(maxFileSize.toBytes()));
                     rollingPolicy = sizeAndTimeBasedRollingPolicy;
                 }
@@ -319,7 +392,9 @@ public class FileAppenderFactory<E extends DeferredProcessingAware> extends Abst
             }
         }
 
-        final FileAppender<E> appender = new FileAppender<>();
+        final FileAppender<E> appender = batched
+            ? new BatchingFileAppender<>(batchSize, batchFlushInterval)
+            : new FileAppender<>();
         appender.setContext(context);
         appender.setFile(currentLogFilename);
         appender.setBufferSize(new FileSize(bufferSize.toBytes()));
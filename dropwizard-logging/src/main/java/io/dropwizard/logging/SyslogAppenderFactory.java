@@ -216,7 +216,7 @@ public class SyslogAppenderFactory extends AbstractAppenderFactory<ILoggingEvent
         appender.setThrowableExcluded(!includeStackTrace);
         appender.setStackTracePattern(stackTracePrefix);
         appender.addFilter(levelFilterFactory.build(threshold));
-        getFilterFactories().forEach(f -> appender.addFilter(f.build()));
+        buildFilters(layoutFactory).forEach(appender::addFilter);
         appender.start();
         return wrapAsync(appender, asyncAppenderFactory);
     }
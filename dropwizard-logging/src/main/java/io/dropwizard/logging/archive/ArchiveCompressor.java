@@ -0,0 +1,183 @@
+package io.dropwizard.logging.archive;
+
+import ch.qos.logback.core.Context;
+import ch.qos.logback.core.rolling.helper.CompressionMode;
+import ch.qos.logback.core.rolling.helper.Compressor;
+import ch.qos.logback.core.spi.ContextAware;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import ch.qos.logback.core.spi.LifeCycle;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.util.Duration;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compresses the archived log files in the background, on a fixed number of threads shared by all the
+ * rolling file appenders of a logger context, so that a rollover only renames the active file and the
+ * thread which logged the triggering event doesn't wait for a large file to be compressed.
+ * <p>
+ * Once stopped, the compressor waits for the queued archives to be compressed, up to the given shutdown
+ * time, and compresses the archives of any later rollover in the thread which rolls over.
+ * <p>
+ * The compressor reports the following metrics:
+ * <ul>
+ *     <li>{@code compression}: the time taken to compress each archive</li>
+ *     <li>{@code backlog}: the number of archives queued or being compressed</li>
+ * </ul>
+ */
+public class ArchiveCompressor extends ContextAwareBase implements LifeCycle, MetricSet {
+    private static final String CONTEXT_KEY = ArchiveCompressor.class.getName();
+
+    private final int threads;
+    private final Duration maxShutdownTime;
+    private final Timer compressions = new Timer();
+
+    @Nullable
+    private volatile ThreadPoolExecutor executor;
+
+    /**
+     * Creates a new compressor.
+     *
+     * @param threads         the maximum number of archives compressed at the same time
+     * @param maxShutdownTime the maximum time to wait for the queued archives when stopping
+     */
+    public ArchiveCompressor(int threads, Duration maxShutdownTime) {
+        this.threads = threads;
+        this.maxShutdownTime = maxShutdownTime;
+    }
+
+    /**
+     * Returns the compressor shared by the appenders of the given context.
+     *
+     * @param context a logger context
+     * @return the compressor {@link #register(Context) registered} with the context, if any
+     */
+    @Nullable
+    public static ArchiveCompressor get(Context context) {
+        return (ArchiveCompressor) context.getObject(CONTEXT_KEY);
+    }
+
+    /**
+     * Shares the compressor with the appenders of the given context, and ties its lifecycle to the one
+     * of the context, which stops it when it is reset.
+     *
+     * @param context a logger context
+     */
+    public void register(Context context) {
+        setContext(context);
+        context.putObject(CONTEXT_KEY, this);
+        context.register(this);
+    }
+
+    @Override
+    public void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("archive-compressor-%d").setDaemon(true).build());
+    }
+
+    @Override
+    public void stop() {
+        final ThreadPoolExecutor pool = executor;
+        if (pool == null) {
+            return;
+        }
+        executor = null;
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(maxShutdownTime.getQuantity(), maxShutdownTime.getUnit())) {
+                addWarn("Max compression time (" + maxShutdownTime + ") exceeded. Approximately " +
+                        (pool.getQueue().size() + pool.getActiveCount()) + " archives may be left uncompressed.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            addError("Interrupted while waiting for the archives to be compressed.", e);
+        }
+    }
+
+    @Override
+    public boolean isStarted() {
+        return executor != null;
+    }
+
+    /**
+     * Compresses a file in the background, and deletes it once compressed.
+     *
+     * @param fileName       the name of the file to compress
+     * @param compressedName the name of the compressed file; the suffix of the compression mode is added if
+     *                       it is missing
+     * @param zipEntryName   the name of the compressed file in a ZIP archive
+     * @param mode           the compression mode
+     * @return the pending compression
+     */
+    public Future<?> compress(String fileName, String compressedName, String zipEntryName, CompressionMode mode) {
+        final Compressor compressor = new Compressor(mode);
+        compressor.setContext(getContext());
+        final Runnable task = () -> {
+            try (Timer.Context ignored = compressions.time()) {
+                compressor.compress(fileName, compressedName, zipEntryName);
+            }
+        };
+
+        final ThreadPoolExecutor pool = executor;
+        if (pool != null) {
+            try {
+                return pool.submit(task);
+            } catch (RejectedExecutionException ignored) {
+                // stopped concurrently
+            }
+        }
+        task.run();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Waits for a compression returned by {@link #compress}, and reports its failure to the given component.
+     *
+     * @param compression the pending compression
+     * @param component   the rolling policy which rolled over the archive
+     * @return whether the compression is over, which is not the case if the thread was interrupted
+     */
+    static boolean await(Future<?> compression, ContextAware component) {
+        try {
+            compression.get();
+        } catch (ExecutionException e) {
+            component.addError("Failed to compress the previous archive, which is left uncompressed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            component.addWarn("Interrupted while waiting for the previous archive to be compressed");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of archives which are queued or being compressed.
+     */
+    public int getBacklog() {
+        final ThreadPoolExecutor pool = executor;
+        return pool == null ? 0 : pool.getQueue().size() + pool.getActiveCount();
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return ImmutableMap.of(
+                "compression", compressions,
+                "backlog", (Gauge<Integer>) this::getBacklog);
+    }
+}
@@ -0,0 +1,120 @@
+package io.dropwizard.logging.archive;
+
+import ch.qos.logback.core.rolling.FixedWindowRollingPolicy;
+import ch.qos.logback.core.rolling.RolloverFailure;
+import ch.qos.logback.core.rolling.helper.CompressionMode;
+import ch.qos.logback.core.rolling.helper.Compressor;
+import ch.qos.logback.core.rolling.helper.FileFilterUtil;
+import ch.qos.logback.core.rolling.helper.FileNamePattern;
+import ch.qos.logback.core.rolling.helper.RenameUtil;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link FixedWindowRollingPolicy} which compresses the newest archive with an {@link ArchiveCompressor},
+ * instead of in the thread which rolls over. The active file is renamed to a temporary file, which is
+ * compressed to the archive of the lowest index and then deleted.
+ * <p>
+ * Since the archives are shifted to the next index on each rollover, a rollover waits for the compression
+ * of the previous one to finish, which only happens when the files roll over faster than they are
+ * compressed.
+ * <p>
+ * A temporary file left over by a compression which failed, or which was interrupted by the JVM stopping,
+ * is compressed on the next rollover when the archive of the lowest index is missing, and deleted
+ * otherwise.
+ */
+public class CompressingFixedWindowRollingPolicy extends FixedWindowRollingPolicy {
+    private final ArchiveCompressor compressor;
+    private final RenameUtil renameUtil = new RenameUtil();
+
+    @Nullable
+    private FileNamePattern archiveNames;
+
+    @Nullable
+    private Future<?> pendingCompression;
+
+    public CompressingFixedWindowRollingPolicy(ArchiveCompressor compressor) {
+        this.compressor = requireNonNull(compressor);
+    }
+
+    @Override
+    public void start() {
+        renameUtil.setContext(getContext());
+        archiveNames = new FileNamePattern(getFileNamePattern(), getContext());
+        super.start();
+    }
+
+    @Override
+    public void rollover() throws RolloverFailure {
+        final CompressionMode mode = getCompressionMode();
+        if (mode == CompressionMode.NONE || getMaxIndex() < 0) {
+            super.rollover();
+            return;
+        }
+        awaitPendingCompression();
+
+        final FileNamePattern names = requireNonNull(archiveNames);
+        recoverTemporaryFiles(names, mode);
+
+        final File oldest = new File(names.convertInt(getMaxIndex()));
+        if (oldest.exists() && !oldest.delete()) {
+            addWarn("Failed to delete " + oldest);
+        }
+        for (int i = getMaxIndex() - 1; i >= getMinIndex(); i--) {
+            final String archive = names.convertInt(i);
+            if (new File(archive).exists()) {
+                renameUtil.rename(archive, names.convertInt(i + 1));
+            }
+        }
+
+        final String archive = names.convertInt(getMinIndex());
+        final String uncompressedName = Compressor.computeFileNameStrWithoutCompSuffix(archive, mode);
+        final String temporaryName = uncompressedName + System.nanoTime() + ".tmp";
+        renameUtil.rename(getActiveFileName(), temporaryName);
+        pendingCompression = compressor.compress(temporaryName, archive,
+                FileFilterUtil.afterLastSlash(FileFilterUtil.slashify(uncompressedName)), mode);
+    }
+
+    /**
+     * Compresses the newest temporary file left over by a previous rollover to the archive of the lowest
+     * index, unless it exists already, and deletes the others.
+     */
+    private void recoverTemporaryFiles(FileNamePattern names, CompressionMode mode) {
+        final String archive = names.convertInt(getMinIndex());
+        final String uncompressedName = Compressor.computeFileNameStrWithoutCompSuffix(archive, mode);
+        final File directory = new File(uncompressedName).getAbsoluteFile().getParentFile();
+        final String baseName = FileFilterUtil.afterLastSlash(FileFilterUtil.slashify(uncompressedName));
+        final Pattern temporaryNames = Pattern.compile(Pattern.quote(baseName) + "-?\\d+\\.tmp");
+        final File[] leftovers = directory == null ? null
+                : directory.listFiles((dir, name) -> temporaryNames.matcher(name).matches());
+        if (leftovers == null || leftovers.length == 0) {
+            return;
+        }
+
+        Arrays.sort(leftovers, Comparator.comparingLong(File::lastModified).reversed());
+        for (File leftover : leftovers) {
+            if (!new File(archive).exists()) {
+                addWarn("Compressing " + leftover + " left over by a previous rollover to " + archive);
+                pendingCompression = compressor.compress(leftover.getPath(), archive, baseName, mode);
+                awaitPendingCompression();
+            }
+            if (leftover.exists() && !leftover.delete()) {
+                addWarn("Failed to delete " + leftover + " left over by a previous rollover");
+            }
+        }
+    }
+
+    private void awaitPendingCompression() {
+        final Future<?> future = pendingCompression;
+        if (future != null && ArchiveCompressor.await(future, this)) {
+            pendingCompression = null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.dropwizard.logging.archive;
+
+import ch.qos.logback.core.rolling.RolloverFailure;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
+import ch.qos.logback.core.rolling.helper.CompressionMode;
+import ch.qos.logback.core.rolling.helper.FileFilterUtil;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Future;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link SizeAndTimeBasedRollingPolicy} which compresses the archives with an {@link ArchiveCompressor},
+ * like a {@link CompressingTimeBasedRollingPolicy}.
+ *
+ * @param <E> The type of log event
+ */
+public class CompressingSizeAndTimeBasedRollingPolicy<E> extends SizeAndTimeBasedRollingPolicy<E> {
+    private final ArchiveCompressor compressor;
+
+    @Nullable
+    private Future<?> pendingCompression;
+
+    public CompressingSizeAndTimeBasedRollingPolicy(ArchiveCompressor compressor) {
+        this.compressor = requireNonNull(compressor);
+    }
+
+    @Override
+    public void rollover() throws RolloverFailure {
+        final CompressionMode mode = compressionMode;
+        if (mode == CompressionMode.NONE || getParentsRawFileProperty() == null) {
+            super.rollover();
+            return;
+        }
+        awaitPendingCompression();
+
+        // roll over without compression, which renames the active file to the archive without its suffix
+        final String archive = getTimeBasedFileNamingAndTriggeringPolicy().getElapsedPeriodsFileName();
+        compressionMode = CompressionMode.NONE;
+        try {
+            super.rollover();
+        } finally {
+            compressionMode = mode;
+        }
+        pendingCompression = compressor.compress(archive, archive, FileFilterUtil.afterLastSlash(archive), mode);
+    }
+
+    @Override
+    public void stop() {
+        awaitPendingCompression();
+        super.stop();
+    }
+
+    private void awaitPendingCompression() {
+        final Future<?> future = pendingCompression;
+        if (future != null && ArchiveCompressor.await(future, this)) {
+            pendingCompression = null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.dropwizard.logging.archive;
+
+import ch.qos.logback.core.rolling.RolloverFailure;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import ch.qos.logback.core.rolling.helper.CompressionMode;
+import ch.qos.logback.core.rolling.helper.FileFilterUtil;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Future;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link TimeBasedRollingPolicy} which compresses the archives with an {@link ArchiveCompressor}, instead
+ * of the executor shared by the whole logger context, so that the number of archives compressed at the
+ * same time is bounded and measured. The active file is renamed to the uncompressed name of the archive,
+ * which is compressed and then deleted.
+ * <p>
+ * The next rollover, and stopping the policy, wait for the archive to be compressed and report the failure
+ * of its compression. A rollover only waits when the files roll over faster than they are compressed.
+ *
+ * @param <E> The type of log event
+ */
+public class CompressingTimeBasedRollingPolicy<E> extends TimeBasedRollingPolicy<E> {
+    private final ArchiveCompressor compressor;
+
+    @Nullable
+    private Future<?> pendingCompression;
+
+    public CompressingTimeBasedRollingPolicy(ArchiveCompressor compressor) {
+        this.compressor = requireNonNull(compressor);
+    }
+
+    @Override
+    public void rollover() throws RolloverFailure {
+        final CompressionMode mode = compressionMode;
+        if (mode == CompressionMode.NONE || getParentsRawFileProperty() == null) {
+            super.rollover();
+            return;
+        }
+        awaitPendingCompression();
+
+        // roll over without compression, which renames the active file to the archive without its suffix
+        final String archive = getTimeBasedFileNamingAndTriggeringPolicy().getElapsedPeriodsFileName();
+        compressionMode = CompressionMode.NONE;
+        try {
+            super.rollover();
+        } finally {
+            compressionMode = mode;
+        }
+        pendingCompression = compressor.compress(archive, archive, FileFilterUtil.afterLastSlash(archive), mode);
+    }
+
+    @Override
+    public void stop() {
+        awaitPendingCompression();
+        super.stop();
+    }
+
+    private void awaitPendingCompression() {
+        final Future<?> future = pendingCompression;
+        if (future != null && ArchiveCompressor.await(future, this)) {
+            pendingCompression = null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.dropwizard.logging.async;
+
+/**
+ * The queue in which an asynchronous appender keeps the events until they are appended.
+ */
+public enum AsyncQueueType {
+    /**
+     * A blocking queue, built by the {@link AsyncAppenderFactory} given to the appender factory.
+     */
+    BLOCKING,
+
+    /**
+     * A lock-free ring buffer, built by a {@link RingBufferAsyncAppenderFactory}.
+     */
+    RING_BUFFER
+}
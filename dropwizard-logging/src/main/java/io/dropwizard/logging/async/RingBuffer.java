@@ -0,0 +1,98 @@
+package io.dropwizard.logging.async;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free queue for many producers and a single consumer, backed by an array whose size
+ * is a power of two.
+ * <p>
+ * Producers claim a slot by incrementing the tail with a compare-and-set, then publish their element
+ * in it; the consumer takes the published elements in order, clears their slots and only then moves
+ * the head, so that a producer never overwrites an element which has not been consumed.
+ */
+class RingBuffer<E> {
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    RingBuffer(int minimumCapacity) {
+        final int capacity = minimumCapacity <= 1 ? 1 : Integer.highestOneBit(minimumCapacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of elements in the queue, which may be stale as soon as it is returned.
+     */
+    int size() {
+        // read the head first, so that the size is never negative
+        final long currentHead = head.get();
+        return (int) Math.max(0, Math.min(capacity(), tail.get() - currentHead));
+    }
+
+    /**
+     * Adds an element to the tail of the queue, if it is not full. Can be called by any thread.
+     *
+     * @return whether the element was added
+     */
+    boolean offer(E element) {
+        long currentTail;
+        do {
+            currentTail = tail.get();
+            if (currentTail - head.get() >= capacity()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(currentTail, currentTail + 1));
+        slots.lazySet(index(currentTail), element);
+        return true;
+    }
+
+    /**
+     * Removes the element at the head of the queue. Must only be called by the consumer thread.
+     *
+     * @return the element, or {@code null} if no element has been published at the head
+     */
+    @Nullable
+    E poll() {
+        final long currentHead = head.get();
+        final int index = index(currentHead);
+        final E element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head.lazySet(currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Removes the published elements at the head of the queue, up to the given number, and passes them
+     * to the given consumer in order. Must only be called by the consumer thread.
+     *
+     * @return the number of removed elements
+     */
+    int drain(Consumer<E> consumer, int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            final E element = poll();
+            if (element == null) {
+                break;
+            }
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    private int index(long sequence) {
+        return (int) sequence & mask;
+    }
+}
@@ -0,0 +1,230 @@
+package io.dropwizard.logging.async;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import ch.qos.logback.core.spi.DeferredProcessingAware;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link AsyncAppenderBase} which queues the events in a lock-free ring buffer instead of an
+ * {@link java.util.concurrent.ArrayBlockingQueue}, so that the threads which log concurrently don't
+ * contend on a lock. A single thread drains the events in batches and appends them to the attached
+ * appender.
+ * <p>
+ * The capacity of the buffer is the queue size, rounded up to a power of two. When the buffer is full,
+ * the logging threads wait for the events to be drained, unless {@link #isNeverBlock() neverBlock} is
+ * set, in which case the events are dropped. As with {@link ch.qos.logback.classic.AsyncAppender},
+ * logging events of level INFO and below are dropped once the remaining capacity is below the
+ * discarding threshold.
+ * <p>
+ * The appender reports the following metrics:
+ * <ul>
+ *     <li>{@code queue-depth}: the number of events in the buffer</li>
+ *     <li>{@code dropped}: the rate of the dropped events</li>
+ *     <li>{@code drain}: the time taken to append each batch of events</li>
+ * </ul>
+ *
+ * @param <E> The type of log event
+ */
+public class RingBufferAsyncAppender<E extends DeferredProcessingAware> extends AsyncAppenderBase<E>
+        implements MetricSet {
+    private static final int UNDEFINED = -1;
+    private static final long CONSUMER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Meter dropped = new Meter();
+    private final Timer drain = new Timer();
+    private final Consumer<E> delivery = this::deliver;
+
+    private boolean includeCallerData = false;
+
+    @Nullable
+    private volatile RingBuffer<E> buffer;
+
+    @Nullable
+    private volatile Thread consumer;
+
+    private ImmutableList<Appender<E>> appenders = ImmutableList.of();
+
+    private volatile boolean running;
+
+    private volatile boolean consumerParked;
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    @Override
+    protected boolean isDiscardable(E event) {
+        return event instanceof ILoggingEvent && ((ILoggingEvent) event).getLevel().toInt() <= Level.INFO_INT;
+    }
+
+    @Override
+    protected void preprocess(E event) {
+        event.prepareForDeferredProcessing();
+        if (includeCallerData && event instanceof ILoggingEvent) {
+            ((ILoggingEvent) event).getCallerData();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!iteratorForAppenders().hasNext()) {
+            addError("No attached appenders found.");
+            return;
+        }
+        if (getQueueSize() < 1) {
+            addError("Invalid queue size [" + getQueueSize() + "]");
+            return;
+        }
+
+        final RingBuffer<E> ringBuffer = new RingBuffer<>(getQueueSize());
+        if (getDiscardingThreshold() == UNDEFINED) {
+            setDiscardingThreshold(ringBuffer.capacity() / 5);
+        }
+        appenders = ImmutableList.copyOf(iteratorForAppenders());
+        buffer = ringBuffer;
+        running = true;
+        started = true;
+
+        final Thread thread = new Thread(() -> consume(ringBuffer), "AsyncAppender-RingBuffer-" + getName());
+        thread.setDaemon(true);
+        consumer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        running = false;
+        started = false;
+
+        final Thread thread = requireNonNull(consumer);
+        LockSupport.unpark(thread);
+        try {
+            thread.join(getMaxFlushTime());
+            if (thread.isAlive()) {
+                addWarn("Max queue flush timeout (" + getMaxFlushTime() + " ms) exceeded. Approximately " +
+                        getNumberOfElementsInQueue() + " queued events were possibly discarded.");
+            } else {
+                addInfo("Queue flush finished successfully within timeout.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            addError("Failed to join the consumer thread. " + getNumberOfElementsInQueue() +
+                    " queued events may be discarded.", e);
+        }
+    }
+
+    @Override
+    protected void append(E event) {
+        final RingBuffer<E> ringBuffer = requireNonNull(buffer);
+        if (ringBuffer.capacity() - ringBuffer.size() < getDiscardingThreshold() && isDiscardable(event)) {
+            dropped.mark();
+            return;
+        }
+
+        preprocess(event);
+        if (!ringBuffer.offer(event)) {
+            if (isNeverBlock()) {
+                dropped.mark();
+                return;
+            }
+            awaitCapacity(ringBuffer, event);
+        }
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void awaitCapacity(RingBuffer<E> ringBuffer, E event) {
+        while (!ringBuffer.offer(event)) {
+            if (!running) {
+                dropped.mark();
+                return;
+            }
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+        }
+    }
+
+    private void consume(RingBuffer<E> ringBuffer) {
+        while (running) {
+            if (drainBatch(ringBuffer) == 0) {
+                consumerParked = true;
+                // check again once parked is visible, so that a producer can't miss it
+                if (running && ringBuffer.size() == 0) {
+                    LockSupport.parkNanos(this, CONSUMER_PARK_NANOS);
+                }
+                consumerParked = false;
+            }
+        }
+
+        addInfo("Worker thread will flush remaining events before exiting.");
+        while (drainBatch(ringBuffer) > 0 || ringBuffer.size() > 0) {
+            // an event may be claimed, but not published yet
+            Thread.yield();
+        }
+        detachAndStopAllAppenders();
+    }
+
+    private int drainBatch(RingBuffer<E> ringBuffer) {
+        final long startTime = System.nanoTime();
+        final int drained = ringBuffer.drain(delivery, ringBuffer.capacity());
+        if (drained > 0) {
+            drain.update(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+        return drained;
+    }
+
+    private void deliver(E event) {
+        for (Appender<E> appender : appenders) {
+            appender.doAppend(event);
+        }
+    }
+
+    @Override
+    public int getNumberOfElementsInQueue() {
+        final RingBuffer<E> ringBuffer = buffer;
+        return ringBuffer == null ? 0 : ringBuffer.size();
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        final RingBuffer<E> ringBuffer = buffer;
+        return ringBuffer == null ? getQueueSize() : ringBuffer.capacity() - ringBuffer.size();
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return ImmutableMap.of(
+                "queue-depth", (Gauge<Integer>) this::getNumberOfElementsInQueue,
+                "dropped", dropped,
+                "drain", drain);
+    }
+}
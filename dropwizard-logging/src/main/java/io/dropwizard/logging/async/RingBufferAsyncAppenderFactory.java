@@ -0,0 +1,22 @@
+package io.dropwizard.logging.async;
+
+import ch.qos.logback.core.AsyncAppenderBase;
+import ch.qos.logback.core.spi.DeferredProcessingAware;
+
+/**
+ * An implementation of {@link AsyncAppenderFactory} which queues the events in a lock-free ring buffer.
+ *
+ * @param <E> The type of log event
+ * @see RingBufferAsyncAppender
+ */
+public class RingBufferAsyncAppenderFactory<E extends DeferredProcessingAware> implements AsyncAppenderFactory<E> {
+
+    /**
+     * Creates a {@link RingBufferAsyncAppender} of type E
+     * @return a new {@link RingBufferAsyncAppender}
+     */
+    @Override
+    public AsyncAppenderBase<E> build() {
+        return new RingBufferAsyncAppender<>();
+    }
+}
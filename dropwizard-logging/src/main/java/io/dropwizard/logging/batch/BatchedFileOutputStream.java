@@ -0,0 +1,119 @@
+package io.dropwizard.logging.batch;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An output stream which collects the bytes written to a file in a direct buffer, and writes them to the
+ * file's channel only once the buffer is full or the stream is flushed. Writes larger than the buffer
+ * bypass it.
+ */
+class BatchedFileOutputStream extends OutputStream {
+    private final File file;
+    private FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Timer flushes;
+    private final Meter bytesWritten;
+    private boolean closed;
+
+    BatchedFileOutputStream(File file, boolean append, ByteBuffer buffer, Timer flushes, Meter bytesWritten)
+            throws IOException {
+        this.file = file;
+        this.channel = open(append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = buffer;
+        this.buffer.clear();
+        this.flushes = flushes;
+        this.bytesWritten = bytesWritten;
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flushBuffer();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        if (len > buffer.remaining()) {
+            flushBuffer();
+        }
+        if (len > buffer.capacity()) {
+            writeFully(ByteBuffer.wrap(b, off, len));
+        } else {
+            buffer.put(b, off, len);
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        flushBuffer();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flushBuffer();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (closed && !channel.isOpen()) {
+            throw new IOException("Stream closed");
+        }
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        try {
+            writeFully(buffer);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private FileChannel open(OpenOption mode) throws IOException {
+        return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        final long startTime = System.nanoTime();
+        final int length = source.remaining();
+        // unlike a FileOutputStream, a channel is closed when the thread writing to it is interrupted, as
+        // the worker of an asynchronous appender is when it stops, so the interrupt is deferred
+        boolean interrupted = Thread.interrupted();
+        try {
+            while (source.hasRemaining()) {
+                try {
+                    channel.write(source);
+                } catch (ClosedByInterruptException e) {
+                    interrupted = Thread.interrupted() || interrupted;
+                    channel = open(StandardOpenOption.APPEND);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushes.update(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        bytesWritten.mark(length);
+    }
+}
@@ -0,0 +1,80 @@
+package io.dropwizard.logging.batch;
+
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import io.dropwizard.util.Duration;
+import io.dropwizard.util.Size;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A {@link RollingFileAppender} which collects the encoded events in a direct buffer and writes them
+ * in batches, once the buffer is full or every flush interval, instead of flushing each event. The
+ * buffer is flushed before each rollover, so the rolling policies work as usual, but a size-based
+ * triggering policy only sees the events once they are written.
+ * <p>
+ * The appender reports the following metrics:
+ * <ul>
+ *     <li>{@code flush}: the time taken to write each batch to the file</li>
+ *     <li>{@code bytes-written}: the rate of the bytes written to the file</li>
+ * </ul>
+ *
+ * @param <E> The type of log event
+ */
+public class BatchingRollingFileAppender<E> extends RollingFileAppender<E> implements MetricSet {
+    private final FileBatcher batcher;
+
+    /**
+     * Creates a new appender.
+     *
+     * @param batchSize     the size of the buffer, which is written once full
+     * @param flushInterval the maximum time an event stays in the buffer
+     */
+    public BatchingRollingFileAppender(Size batchSize, Duration flushInterval) {
+        this.batcher = new FileBatcher(batchSize, flushInterval);
+    }
+
+    @Override
+    public void openFile(String fileName) throws IOException {
+        lock.lock();
+        try {
+            setOutputStream(batcher.open(fileName, isAppend()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        setImmediateFlush(false);
+        super.start();
+        if (isStarted()) {
+            batcher.start(getName(), this::flushOutputStream);
+        }
+    }
+
+    @Override
+    public void stop() {
+        batcher.stop();
+        super.stop();
+    }
+
+    private void flushOutputStream() {
+        lock.lock();
+        try {
+            batcher.flush(getOutputStream());
+        } catch (IOException | RuntimeException e) {
+            // an exception thrown by the periodic flush would cancel it
+            addError("Failed to flush the events to " + getFile(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return batcher.getMetrics();
+    }
+}
@@ -0,0 +1,96 @@
+package io.dropwizard.logging.batch;
+
+import ch.qos.logback.core.util.FileUtil;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.util.Duration;
+import io.dropwizard.util.Size;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The state shared by the files a batching appender writes to in turn: the direct buffer the events are
+ * collected in, the thread which flushes it periodically and the metrics of the flushes.
+ */
+class FileBatcher implements MetricSet {
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Timer flushes = new Timer();
+    private final Meter bytesWritten = new Meter();
+
+    @Nullable
+    private ByteBuffer buffer;
+
+    @Nullable
+    private ScheduledExecutorService flusher;
+
+    @Nullable
+    private ScheduledFuture<?> periodicFlush;
+
+    FileBatcher(Size batchSize, Duration flushInterval) {
+        this.batchSize = Math.toIntExact(batchSize.toBytes());
+        this.flushIntervalMillis = flushInterval.toMilliseconds();
+    }
+
+    /**
+     * Opens a stream to the given file, creating its parent directories if needed. The streams opened
+     * by a batcher share its buffer, so a stream must be closed before the next one is opened.
+     */
+    OutputStream open(String fileName, boolean append) throws IOException {
+        final File file = new File(fileName);
+        FileUtil.createMissingParentDirectories(file);
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(batchSize);
+        }
+        return new BatchedFileOutputStream(file, append, buffer, flushes, bytesWritten);
+    }
+
+    /**
+     * Starts flushing the buffer periodically with the given task, which must not throw an exception, or
+     * the next flushes are cancelled.
+     */
+    void start(String name, Runnable flush) {
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat(name + "-flusher").setDaemon(true).build());
+        periodicFlush = executor.scheduleWithFixedDelay(flush, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        flusher = executor;
+    }
+
+    void flush(@Nullable OutputStream outputStream) throws IOException {
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+    }
+
+    void stop() {
+        if (periodicFlush != null) {
+            periodicFlush.cancel(false);
+            periodicFlush = null;
+        }
+        if (flusher != null) {
+            flusher.shutdownNow();
+            flusher = null;
+        }
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return ImmutableMap.of(
+                "flush", flushes,
+                "bytes-written", bytesWritten);
+    }
+}
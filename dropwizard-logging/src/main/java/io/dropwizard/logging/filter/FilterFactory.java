@@ -20,4 +20,14 @@ import io.dropwizard.jackson.Discoverable;
 public interface FilterFactory<E extends DeferredProcessingAware> extends Discoverable {
 
     Filter<E> build();
+
+    /**
+     * Returns the type of the events the filters of this factory can decide on, so that an appender of
+     * other events can reject it.
+     *
+     * @return the type of log event, or {@link DeferredProcessingAware} if any event is supported
+     */
+    default Class<? extends DeferredProcessingAware> getEventType() {
+        return DeferredProcessingAware.class;
+    }
 }
@@ -0,0 +1,65 @@
+package io.dropwizard.logging.filter;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+import io.dropwizard.util.Duration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Filter} which limits the rate of the events of each logger with a token bucket: a logger may log
+ * up to {@code burst} events at once, and then {@code rate} events per {@code period}. The other events are
+ * denied, and counted by the {@code suppressed} metric.
+ * <p>
+ * The filter only supports the events of application logs, not those of request logs.
+ */
+public class RateLimitingFilter extends Filter<ILoggingEvent> implements MetricSet {
+    private final int burst;
+    private final long nanosPerToken;
+    private final Clock clock;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Counter suppressed = new Counter();
+
+    /**
+     * Creates a new filter.
+     *
+     * @param rate   the number of events permitted per period, once a burst is over
+     * @param period the period of the rate
+     * @param burst  the number of events permitted at once
+     * @param clock  the clock which measures the time between the events
+     */
+    public RateLimitingFilter(int rate, Duration period, int burst, Clock clock) {
+        this.burst = burst;
+        this.nanosPerToken = Math.max(1, period.toNanoseconds() / rate);
+        this.clock = requireNonNull(clock);
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (!isStarted()) {
+            return FilterReply.NEUTRAL;
+        }
+        final TokenBucket bucket = buckets.computeIfAbsent(event.getLoggerName(),
+                loggerName -> new TokenBucket(burst, nanosPerToken, clock));
+        if (bucket.tryTake()) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.inc();
+        return FilterReply.DENY;
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return ImmutableMap.of("suppressed", suppressed);
+    }
+}
@@ -0,0 +1,105 @@
+package io.dropwizard.logging.filter;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import com.codahale.metrics.Clock;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link FilterFactory} which builds a {@link RateLimitingFilter}, to keep a logger which logs the same
+ * error over and over, such as during an outage of a dependency, from flooding the appender. It only
+ * supports application logs, and is rejected by the appenders of request logs.
+ * <p/>
+ * The events denied by the filter are counted by the
+ * {@code io.dropwizard.logging.filter.RateLimitingFilter.<logger>.<appender>.suppressed} metric.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code type}</td>
+ *         <td><b>REQUIRED</b></td>
+ *         <td>The filter type. Must be {@code rate-limit}.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code rate}</td>
+ *         <td>10</td>
+ *         <td>The number of events each logger may log per {@code period}, once a burst is over.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code period}</td>
+ *         <td>1 second</td>
+ *         <td>The period of the {@code rate}.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code burst}</td>
+ *         <td>100</td>
+ *         <td>The number of events each logger may log at once.</td>
+ *     </tr>
+ * </table>
+ */
+@JsonTypeName("rate-limit")
+public class RateLimitingFilterFactory implements FilterFactory<ILoggingEvent> {
+    @Min(1)
+    private int rate = 10;
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration period = Duration.seconds(1);
+
+    @Min(1)
+    private int burst = 100;
+
+    @JsonProperty
+    public int getRate() {
+        return rate;
+    }
+
+    @JsonProperty
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    @JsonProperty
+    public Duration getPeriod() {
+        return period;
+    }
+
+    @JsonProperty
+    public void setPeriod(Duration period) {
+        this.period = period;
+    }
+
+    @JsonProperty
+    public int getBurst() {
+        return burst;
+    }
+
+    @JsonProperty
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    @Override
+    public Class<ILoggingEvent> getEventType() {
+        return ILoggingEvent.class;
+    }
+
+    @Override
+    public Filter<ILoggingEvent> build() {
+        final RateLimitingFilter filter = new RateLimitingFilter(rate, period, burst, Clock.defaultClock());
+        filter.start();
+        return filter;
+    }
+}
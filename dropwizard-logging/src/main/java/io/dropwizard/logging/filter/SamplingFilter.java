@@ -0,0 +1,46 @@
+package io.dropwizard.logging.filter;
+
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.DeferredProcessingAware;
+import ch.qos.logback.core.spi.FilterReply;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link Filter} which keeps a random sample of the events, each one with the given probability. The
+ * other events are denied, and counted by the {@code suppressed} metric.
+ *
+ * @param <E> The type of log event
+ */
+public class SamplingFilter<E extends DeferredProcessingAware> extends Filter<E> implements MetricSet {
+    private final double rate;
+    private final Counter suppressed = new Counter();
+
+    /**
+     * Creates a new filter.
+     *
+     * @param rate the probability of an event to be kept, between 0 and 1
+     */
+    public SamplingFilter(double rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public FilterReply decide(E event) {
+        if (!isStarted() || rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.inc();
+        return FilterReply.DENY;
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return ImmutableMap.of("suppressed", suppressed);
+    }
+}
@@ -0,0 +1,61 @@
+package io.dropwizard.logging.filter;
+
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.DeferredProcessingAware;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+
+/**
+ * A {@link FilterFactory} which builds a {@link SamplingFilter}, to keep a fraction of a high volume of
+ * events.
+ * <p/>
+ * The events denied by the filter are counted by the
+ * {@code io.dropwizard.logging.filter.SamplingFilter.<logger>.<appender>.suppressed} metric.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code type}</td>
+ *         <td><b>REQUIRED</b></td>
+ *         <td>The filter type. Must be {@code sampling}.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code rate}</td>
+ *         <td>0.1</td>
+ *         <td>The probability of each event to be kept, between 0 and 1.</td>
+ *     </tr>
+ * </table>
+ *
+ * @param <E> The type of log event
+ */
+@JsonTypeName("sampling")
+public class SamplingFilterFactory<E extends DeferredProcessingAware> implements FilterFactory<E> {
+    @DecimalMin("0")
+    @DecimalMax("1")
+    private double rate = 0.1;
+
+    @JsonProperty
+    public double getRate() {
+        return rate;
+    }
+
+    @JsonProperty
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public Filter<E> build() {
+        final SamplingFilter<E> filter = new SamplingFilter<>(rate);
+        filter.start();
+        return filter;
+    }
+}
@@ -0,0 +1,48 @@
+package io.dropwizard.logging.filter;
+
+import com.codahale.metrics.Clock;
+import com.google.common.math.LongMath;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bucket which holds up to a given number of tokens, and is refilled at a constant rate. Each permitted
+ * event takes a token, so that the events are permitted in bursts up to the capacity of the bucket, and
+ * then at the refill rate.
+ * <p>
+ * The whole state of the bucket is the time at which it will be full again, so that a token is taken with
+ * a single compare-and-set, without locking the threads logging through the same logger.
+ */
+class TokenBucket {
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final Clock clock;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, long nanosPerToken, Clock clock) {
+        this.nanosPerToken = nanosPerToken;
+        this.capacityNanos = LongMath.saturatedMultiply(capacity, nanosPerToken);
+        this.clock = clock;
+        this.fullAt = new AtomicLong(clock.getTick());
+    }
+
+    /**
+     * Takes a token from the bucket, if there is one left.
+     *
+     * @return whether a token was taken
+     */
+    boolean tryTake() {
+        final long now = clock.getTick();
+        while (true) {
+            final long current = fullAt.get();
+            // a bucket which has been full for a while doesn't hold more than its capacity
+            final long next = (current - now < 0 ? now : current) + nanosPerToken;
+            if (next - now > capacityNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.dropwizard.logging.layout;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.LayoutBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import ch.qos.logback.core.spi.DeferredProcessingAware;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.dropwizard.jackson.Discoverable;
+
+import java.util.TimeZone;
+
+/**
+ * A service provider interface for creating the Logback layouts which can be selected by the
+ * {@code layout} of an appender, instead of the default pattern layout.
+ * <p/>
+ * To create your own, just:
+ * <ol>
+ * <li>Create a class which implements {@link DiscoverableLayoutFactory}.</li>
+ * <li>Annotate it with {@code @JsonTypeName} and give it a unique type name.</li>
+ * <li>add a {@code META-INF/services/io.dropwizard.logging.layout.DiscoverableLayoutFactory} file with your
+ * implementation's full class name to the class path.</li>
+ * </ol>
+ *
+ * @param <E> The type of log event
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+public interface DiscoverableLayoutFactory<E extends DeferredProcessingAware> extends Discoverable {
+
+    /**
+     * Creates a {@link LayoutBase} of type E
+     * @param context the Logback context
+     * @param timeZone the TimeZone
+     * @return a new {@link LayoutBase}
+     */
+    LayoutBase<E> build(LoggerContext context, TimeZone timeZone);
+
+    /**
+     * Returns the type of the events the layouts of this factory can format, so that an appender of
+     * other events can reject it.
+     * @return the type of log event, or {@link DeferredProcessingAware} if any event is supported
+     */
+    default Class<? extends DeferredProcessingAware> getEventType() {
+        return DeferredProcessingAware.class;
+    }
+
+    /**
+     * Creates a started {@link Encoder} of type E, which writes the events as formatted by the layout
+     * @param context the Logback context
+     * @param timeZone the TimeZone
+     * @return a new {@link Encoder}
+     */
+    default Encoder<E> buildEncoder(LoggerContext context, TimeZone timeZone) {
+        final LayoutBase<E> layout = build(context, timeZone);
+        layout.start();
+        final LayoutWrappingEncoder<E> encoder = new LayoutWrappingEncoder<>();
+        encoder.setContext(context);
+        encoder.setLayout(layout);
+        encoder.start();
+        return encoder;
+    }
+}
@@ -15,4 +15,9 @@ public class DropwizardLayoutFactory implements LayoutFactory<ILoggingEvent> {
     public PatternLayoutBase<ILoggingEvent> build(LoggerContext context, TimeZone timeZone) {
         return new DropwizardLayout(context, timeZone);
     }
+
+    @Override
+    public Class<ILoggingEvent> getEventType() {
+        return ILoggingEvent.class;
+    }
 }
@@ -0,0 +1,134 @@
+package io.dropwizard.logging.layout;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+import com.google.common.collect.ImmutableMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A layout which formats each event as a JSON object on a single line:
+ * <pre>
+ * {"timestamp":"2018-01-01T12:00:00.000Z","level":"INFO","thread":"main","logger":"com.example.App",
+ *  "message":"Started","mdc":{"requestId":"42"},"exception":"java.lang.Exception: ..."}
+ * </pre>
+ * The events are encoded directly as UTF-8 bytes into a buffer which each thread reuses, rather than
+ * through a {@link ch.qos.logback.classic.PatternLayout} and its chain of converters, so that an
+ * encoded event costs no more than its final byte array. A thread keeps a buffer of at most 8 KB
+ * between events, and larger events, such as those with a stack trace, get a new one. The {@code mdc}
+ * and {@code exception} fields are left out when they are empty.
+ */
+public class JsonLayout extends LayoutBase<ILoggingEvent> {
+    private static final byte[] TIMESTAMP = ascii("{\"timestamp\":");
+    private static final byte[] LEVEL = ascii(",\"level\":");
+    private static final byte[] THREAD = ascii(",\"thread\":");
+    private static final byte[] LOGGER = ascii(",\"logger\":");
+    private static final byte[] MESSAGE = ascii(",\"message\":");
+    private static final byte[] MDC = ascii(",\"mdc\":{");
+    private static final byte[] EXCEPTION = ascii(",\"exception\":");
+    private static final byte[] LINE_SEPARATOR = ascii("}" + CoreConstants.LINE_SEPARATOR);
+
+    private final TimeZone timeZone;
+    private final boolean includeThreadName;
+    private final boolean includeMdc;
+    private final byte[] customFields;
+    private final ThreadLocal<JsonWriter> writers = ThreadLocal.withInitial(JsonWriter::new);
+
+    /**
+     * Creates a new layout.
+     *
+     * @param timeZone          the time zone of the timestamps
+     * @param includeThreadName whether the name of the thread which logged the event is included
+     * @param includeMdc        whether the MDC of the event is included
+     * @param customFields      fields added to every event, such as the name of the service
+     */
+    public JsonLayout(TimeZone timeZone, boolean includeThreadName, boolean includeMdc,
+                      Map<String, String> customFields) {
+        this.timeZone = requireNonNull(timeZone);
+        this.includeThreadName = includeThreadName;
+        this.includeMdc = includeMdc;
+
+        final JsonWriter writer = new JsonWriter();
+        for (Map.Entry<String, String> field : ImmutableMap.copyOf(customFields).entrySet()) {
+            writer.writeByte(',');
+            writer.writeString(field.getKey());
+            writer.writeByte(':');
+            writer.writeString(field.getValue());
+        }
+        this.customFields = writer.toByteArray();
+    }
+
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        return new String(toByteArray(event), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encodes the given event as a line of JSON.
+     *
+     * @param event a logging event
+     * @return the UTF-8 bytes of the JSON object, followed by a line separator
+     */
+    public byte[] toByteArray(ILoggingEvent event) {
+        final JsonWriter writer = writers.get();
+        writer.reset();
+        write(event, writer);
+        return writer.toByteArray();
+    }
+
+    private void write(ILoggingEvent event, JsonWriter writer) {
+        writer.writeBytes(TIMESTAMP);
+        writer.writeTimestamp(event.getTimeStamp(), timeZone);
+        writer.writeBytes(LEVEL);
+        writer.writeString(event.getLevel().levelStr);
+        if (includeThreadName) {
+            writer.writeBytes(THREAD);
+            writer.writeString(event.getThreadName());
+        }
+        writer.writeBytes(LOGGER);
+        writer.writeString(event.getLoggerName());
+        writer.writeBytes(MESSAGE);
+        writer.writeString(event.getFormattedMessage());
+
+        final Map<String, String> mdc = event.getMDCPropertyMap();
+        if (includeMdc && !mdc.isEmpty()) {
+            writer.writeBytes(MDC);
+            boolean first = true;
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (!first) {
+                    writer.writeByte(',');
+                }
+                first = false;
+                writer.writeString(entry.getKey());
+                writer.writeByte(':');
+                writer.writeString(entry.getValue());
+            }
+            writer.writeByte('}');
+        }
+
+        final IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            writer.writeBytes(EXCEPTION);
+            writer.writeString(ThrowableProxyUtil.asString(throwable));
+        }
+
+        writer.writeBytes(customFields);
+        writer.writeBytes(LINE_SEPARATOR);
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/json";
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,53 @@
+package io.dropwizard.logging.layout;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import javax.annotation.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An encoder which writes the bytes encoded by a {@link JsonLayout}, without converting them to a
+ * {@link String} first as a {@link ch.qos.logback.core.encoder.LayoutWrappingEncoder} would.
+ */
+public class JsonLayoutEncoder extends EncoderBase<ILoggingEvent> {
+    private final JsonLayout layout;
+
+    public JsonLayoutEncoder(JsonLayout layout) {
+        this.layout = requireNonNull(layout);
+    }
+
+    public JsonLayout getLayout() {
+        return layout;
+    }
+
+    @Override
+    @Nullable
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        return layout.toByteArray(event);
+    }
+
+    @Override
+    @Nullable
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public void start() {
+        layout.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        layout.stop();
+    }
+}
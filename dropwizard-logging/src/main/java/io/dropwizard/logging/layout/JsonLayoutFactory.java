@@ -0,0 +1,100 @@
+package io.dropwizard.logging.layout;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.google.common.collect.ImmutableMap;
+
+import javax.validation.constraints.NotNull;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * A factory for a {@link JsonLayout}, which formats the events as JSON objects, one per line. It only
+ * supports application logs, and is rejected by the appenders of request logs.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code includeThreadName}</td>
+ *         <td>true</td>
+ *         <td>Whether to include the name of the thread which logged the event.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code includeMdc}</td>
+ *         <td>true</td>
+ *         <td>Whether to include the MDC of the event, as the {@code mdc} object.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code customFields}</td>
+ *         <td>(none)</td>
+ *         <td>Fields added to every event, such as the name of the service.</td>
+ *     </tr>
+ * </table>
+ */
+@JsonTypeName("json")
+public class JsonLayoutFactory implements DiscoverableLayoutFactory<ILoggingEvent> {
+    private boolean includeThreadName = true;
+
+    private boolean includeMdc = true;
+
+    @NotNull
+    private ImmutableMap<String, String> customFields = ImmutableMap.of();
+
+    @JsonProperty
+    public boolean isIncludeThreadName() {
+        return includeThreadName;
+    }
+
+    @JsonProperty
+    public void setIncludeThreadName(boolean includeThreadName) {
+        this.includeThreadName = includeThreadName;
+    }
+
+    @JsonProperty
+    public boolean isIncludeMdc() {
+        return includeMdc;
+    }
+
+    @JsonProperty
+    public void setIncludeMdc(boolean includeMdc) {
+        this.includeMdc = includeMdc;
+    }
+
+    @JsonProperty
+    public ImmutableMap<String, String> getCustomFields() {
+        return customFields;
+    }
+
+    @JsonProperty
+    public void setCustomFields(Map<String, String> customFields) {
+        this.customFields = ImmutableMap.copyOf(customFields);
+    }
+
+    @Override
+    public JsonLayout build(LoggerContext context, TimeZone timeZone) {
+        final JsonLayout layout = new JsonLayout(timeZone, includeThreadName, includeMdc, customFields);
+        layout.setContext(context);
+        return layout;
+    }
+
+    @Override
+    public Class<ILoggingEvent> getEventType() {
+        return ILoggingEvent.class;
+    }
+
+    @Override
+    public Encoder<ILoggingEvent> buildEncoder(LoggerContext context, TimeZone timeZone) {
+        final JsonLayoutEncoder encoder = new JsonLayoutEncoder(build(context, timeZone));
+        encoder.setContext(context);
+        encoder.start();
+        return encoder;
+    }
+}
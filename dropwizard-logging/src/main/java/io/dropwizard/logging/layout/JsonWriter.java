@@ -0,0 +1,184 @@
+package io.dropwizard.logging.layout;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.TimeZone;
+
+/**
+ * A growable buffer which JSON values are encoded into as UTF-8, without intermediate strings, so that
+ * it can be reused for every event written by a thread.
+ */
+class JsonWriter {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    /**
+     * Empties the buffer, and releases it if a large event made it grow beyond what is worth keeping.
+     */
+    void reset() {
+        length = 0;
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    int length() {
+        return length;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) b;
+    }
+
+    void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    /**
+     * Writes a JSON string, quoted and escaped, or {@code null}.
+     */
+    void writeString(@Nullable CharSequence value) {
+        if (value == null) {
+            writeBytes(NULL);
+            return;
+        }
+        ensureCapacity(value.length() + 2);
+        buffer[length++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                writeAsciiChar(c);
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buffer[length++] = (byte) (0xc0 | (c >> 6));
+                buffer[length++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensureCapacity(4);
+                buffer[length++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[length++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // an unpaired surrogate can't be encoded in UTF-8
+                writeAsciiChar('?');
+            } else {
+                ensureCapacity(3);
+                buffer[length++] = (byte) (0xe0 | (c >> 12));
+                buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[length++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeAsciiChar(char c) {
+        if (c >= 0x20 && c != '"' && c != '\\') {
+            ensureCapacity(1);
+            buffer[length++] = (byte) c;
+            return;
+        }
+        ensureCapacity(6);
+        buffer[length++] = '\\';
+        switch (c) {
+            case '"':
+            case '\\':
+                buffer[length++] = (byte) c;
+                break;
+            case '\n':
+                buffer[length++] = 'n';
+                break;
+            case '\r':
+                buffer[length++] = 'r';
+                break;
+            case '\t':
+                buffer[length++] = 't';
+                break;
+            default:
+                buffer[length++] = 'u';
+                buffer[length++] = '0';
+                buffer[length++] = '0';
+                buffer[length++] = HEX_DIGITS[c >> 4];
+                buffer[length++] = HEX_DIGITS[c & 0xf];
+        }
+    }
+
+    /**
+     * Writes a quoted ISO-8601 timestamp with milliseconds, such as {@code "2018-01-01T12:00:00.000Z"},
+     * in the given time zone.
+     */
+    void writeTimestamp(long timestamp, TimeZone timeZone) {
+        final int offset = timeZone.getOffset(timestamp);
+        final long localTimestamp = timestamp + offset;
+        final long epochDay = Math.floorDiv(localTimestamp, MILLIS_PER_DAY);
+        final int millisOfDay = (int) Math.floorMod(localTimestamp, MILLIS_PER_DAY);
+
+        // the conversion of a day since the epoch to a date of the proleptic Gregorian calendar,
+        // counting the years from March so that the leap day is the last day of the year
+        final long days = epochDay + 719_468;
+        final long era = Math.floorDiv(days, 146_097);
+        final int dayOfEra = (int) (days - era * 146_097);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        ensureCapacity(32);
+        buffer[length++] = '"';
+        writeDigits((int) year, 4);
+        buffer[length++] = '-';
+        writeDigits(month, 2);
+        buffer[length++] = '-';
+        writeDigits(day, 2);
+        buffer[length++] = 'T';
+        writeDigits(millisOfDay / 3_600_000, 2);
+        buffer[length++] = ':';
+        writeDigits(millisOfDay / 60_000 % 60, 2);
+        buffer[length++] = ':';
+        writeDigits(millisOfDay / 1000 % 60, 2);
+        buffer[length++] = '.';
+        writeDigits(millisOfDay % 1000, 3);
+        if (offset == 0) {
+            buffer[length++] = 'Z';
+        } else {
+            final int offsetMinutes = Math.abs(offset) / 60_000;
+            buffer[length++] = (byte) (offset < 0 ? '-' : '+');
+            writeDigits(offsetMinutes / 60, 2);
+            buffer[length++] = ':';
+            writeDigits(offsetMinutes % 60, 2);
+        }
+        buffer[length++] = '"';
+    }
+
+    private void writeDigits(int value, int width) {
+        int remaining = value;
+        for (int i = length + width - 1; i >= length; i--) {
+            buffer[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        length += width;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+}
@@ -19,4 +19,13 @@ public interface LayoutFactory<E extends DeferredProcessingAware> {
      * @return a new {@link PatternLayoutBase}
      */
     PatternLayoutBase<E> build(LoggerContext context, TimeZone timeZone);
+
+    /**
+     * Returns the type of the events formatted by the layouts of this factory, which is the type of the
+     * events of the appenders using it.
+     * @return the type of log event, or {@link DeferredProcessingAware} if unknown
+     */
+    default Class<? extends DeferredProcessingAware> getEventType() {
+        return DeferredProcessingAware.class;
+    }
 }
@@ -17,6 +17,8 @@ import io.dropwizard.configuration.FileConfigurationSourceProvider;
 import io.dropwizard.configuration.SubstitutingSourceProvider;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.Jackson;
+import io.dropwizard.logging.archive.ArchiveCompressor;
+import io.dropwizard.logging.async.AsyncQueueType;
 import io.dropwizard.logging.filter.FilterFactory;
 import io.dropwizard.validation.BaseValidator;
 import org.apache.commons.lang3.StringUtils;
@@ -32,6 +34,7 @@ import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class DefaultLoggingFactoryTest {
@@ -136,6 +139,150 @@ public class DefaultLoggingFactoryTest {
             "INFO  com.example.notAdditive: Not additive application info log");
     }
 
+    @Test
+    public void testConfigureRingBufferAppenders() throws Exception {
+        final File log = folder.newFile("example-ring-buffer.log");
+        final FileAppenderFactory<ILoggingEvent> first = new FileAppenderFactory<>();
+        first.setCurrentLogFilename(log.getAbsolutePath());
+        first.setArchive(false);
+        first.setLogFormat("%-5level %logger: %msg%n");
+        first.setQueueType(AsyncQueueType.RING_BUFFER);
+        final FileAppenderFactory<ILoggingEvent> second = new FileAppenderFactory<>();
+        second.setCurrentLogFilename(folder.newFile("example-ring-buffer-2.log").getAbsolutePath());
+        second.setArchive(false);
+        second.setQueueType(AsyncQueueType.RING_BUFFER);
+
+        final DefaultLoggingFactory config = new DefaultLoggingFactory();
+        config.setAppenders(ImmutableList.of(first, second));
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        config.configure(metricRegistry, "test-logger");
+        config.configure(metricRegistry, "test-logger");
+
+        LoggerFactory.getLogger("com.example.app").info("Application log");
+        LoggerFactory.getLogger("com.example.app").warn("Application warning");
+
+        // stops the appenders, once they have appended the queued events
+        config.reset();
+
+        assertThat(Files.readLines(log, StandardCharsets.UTF_8)).containsExactly(
+                "INFO  com.example.app: Application log",
+                "WARN  com.example.app: Application warning");
+        final String prefix = "io.dropwizard.logging.async.RingBufferAsyncAppender.ROOT.async-file-appender";
+        assertThat(metricRegistry.getNames()).contains(
+                prefix + ".queue-depth", prefix + ".dropped", prefix + ".drain",
+                prefix + "-2.queue-depth", prefix + "-2.dropped", prefix + "-2.drain");
+        assertThat(metricRegistry.timer(prefix + ".drain").getCount())
+                .isPositive();
+    }
+
+    @Test
+    public void testConfigureBatchedFileAppender() throws Exception {
+        final File log = folder.newFile("example-batched.log");
+        final FileAppenderFactory<ILoggingEvent> appenderFactory = new FileAppenderFactory<>();
+        appenderFactory.setCurrentLogFilename(log.getAbsolutePath());
+        appenderFactory.setArchive(false);
+        appenderFactory.setLogFormat("%-5level %logger: %msg%n");
+        appenderFactory.setBatched(true);
+
+        final DefaultLoggingFactory config = new DefaultLoggingFactory();
+        config.setAppenders(ImmutableList.of(appenderFactory));
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        config.configure(metricRegistry, "test-logger");
+
+        LoggerFactory.getLogger("com.example.app").info("Application log");
+
+        // stops the appenders, once they have written the buffered events
+        config.reset();
+
+        assertThat(Files.readLines(log, StandardCharsets.UTF_8)).containsExactly(
+                "INFO  com.example.app: Application log");
+        final String prefix = "io.dropwizard.logging.batch.BatchingFileAppender.ROOT.file-appender";
+        assertThat(metricRegistry.meter(prefix + ".bytes-written").getCount())
+                .isEqualTo(log.length());
+        assertThat(metricRegistry.getNames())
+                .contains(prefix + ".flush");
+    }
+
+    @Test
+    public void testConfigureArchiveCompressor() throws Exception {
+        final FileAppenderFactory<ILoggingEvent> appenderFactory = new FileAppenderFactory<>();
+        appenderFactory.setCurrentLogFilename(folder.newFile("example-compressed.log").getAbsolutePath());
+        appenderFactory.setArchivedLogFilenamePattern(
+                new File(folder.getRoot(), "example-compressed-%d.log.gz").getAbsolutePath());
+
+        final DefaultLoggingFactory config = new DefaultLoggingFactory();
+        config.setArchiveCompressionThreads(2);
+        config.setAppenders(ImmutableList.of(appenderFactory));
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        config.configure(metricRegistry, "test-logger");
+
+        final ArchiveCompressor compressor = requireNonNull(ArchiveCompressor.get(config.getLoggerContext()));
+        assertThat(compressor.isStarted())
+                .isTrue();
+        assertThat(metricRegistry.getNames())
+                .contains("io.dropwizard.logging.archive.ArchiveCompressor.compression",
+                        "io.dropwizard.logging.archive.ArchiveCompressor.backlog");
+
+        config.stop();
+        assertThat(compressor.isStarted())
+                .isFalse();
+        config.reset();
+    }
+
+    @Test
+    public void testConfigureRateLimitingFilter() throws Exception {
+        final File log = folder.newFile("example-rate-limit.log");
+        final StrSubstitutor substitutor = new StrSubstitutor(ImmutableMap.of("log", log.getAbsolutePath()));
+
+        final String configPath = Resources.getResource("yaml/logging_rate_limit.yml").getFile();
+        final DefaultLoggingFactory config = factory.build(
+                new SubstitutingSourceProvider(new FileConfigurationSourceProvider(), substitutor),
+                configPath);
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        config.configure(metricRegistry, "test-logger");
+
+        for (int i = 1; i <= 5; i++) {
+            LoggerFactory.getLogger("com.example.app").error("Failure {}", i);
+        }
+        LoggerFactory.getLogger("com.example.other").error("Failure");
+
+        // stops the appenders, once they have appended the queued events
+        config.reset();
+
+        assertThat(Files.readLines(log, StandardCharsets.UTF_8)).containsExactly(
+                "ERROR com.example.app: Failure 1",
+                "ERROR com.example.app: Failure 2",
+                "ERROR com.example.other: Failure");
+        assertThat(metricRegistry.counter(
+                "io.dropwizard.logging.filter.RateLimitingFilter.ROOT.async-file-appender.suppressed").getCount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void testConfigureJsonLayout() throws Exception {
+        final File log = folder.newFile("example-json.log");
+        final StrSubstitutor substitutor = new StrSubstitutor(ImmutableMap.of(
+                "json", StringUtils.removeEnd(log.getAbsolutePath(), ".log")));
+
+        final String configPath = Resources.getResource("yaml/logging_json.yml").getFile();
+        final DefaultLoggingFactory config = factory.build(
+                new SubstitutingSourceProvider(new FileConfigurationSourceProvider(), substitutor),
+                configPath);
+        config.configure(new MetricRegistry(), "test-logger");
+
+        LoggerFactory.getLogger("com.example.app").info("Application \"log\"");
+
+        // stops the appenders, once they have appended the queued events
+        config.reset();
+
+        assertThat(Files.readLines(log, StandardCharsets.UTF_8))
+                .hasSize(1)
+                .allSatisfy(line -> assertThat(line)
+                        .startsWith("{\"timestamp\":\"")
+                        .endsWith(",\"level\":\"INFO\",\"logger\":\"com.example.app\"," +
+                                "\"message\":\"Application \\\"log\\\"\",\"service\":\"example\"}"));
+    }
+
     @Test
     public void testResetAppenders() throws Exception {
         final String configPath = Resources.getResource("yaml/logging.yml").getFile();
@@ -15,9 +15,16 @@ import ch.qos.logback.core.util.FileSize;
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.Files;
 import io.dropwizard.jackson.DiscoverableSubtypeResolver;
+import io.dropwizard.logging.archive.ArchiveCompressor;
+import io.dropwizard.logging.archive.CompressingFixedWindowRollingPolicy;
+import io.dropwizard.logging.archive.CompressingSizeAndTimeBasedRollingPolicy;
+import io.dropwizard.logging.archive.CompressingTimeBasedRollingPolicy;
 import io.dropwizard.logging.async.AsyncLoggingEventAppenderFactory;
+import io.dropwizard.logging.batch.BatchingFileAppender;
+import io.dropwizard.logging.batch.BatchingRollingFileAppender;
 import io.dropwizard.logging.filter.NullLevelFilterFactory;
 import io.dropwizard.logging.layout.DropwizardLayoutFactory;
+import io.dropwizard.util.Duration;
 import io.dropwizard.util.Size;
 import io.dropwizard.validation.BaseValidator;
 import io.dropwizard.validation.ConstraintViolations;
@@ -80,6 +87,26 @@ public class FileAppenderFactoryTest {
         assertThat(fileAppenderFactory.buildAppender(new LoggerContext())).isInstanceOf(RollingFileAppender.class);
     }
 
+    @Test
+    public void isBatched() throws Exception {
+        final FileAppenderFactory<ILoggingEvent> fileAppenderFactory = new FileAppenderFactory<ILoggingEvent>() {
+            @Override
+            public FileAppender<ILoggingEvent> buildAppender(LoggerContext context) {
+                return super.buildAppender(context);
+            }
+        };
+        fileAppenderFactory.setCurrentLogFilename(folder.newFile("logfile.log").toString());
+        fileAppenderFactory.setArchivedLogFilenamePattern(folder.newFile("example-%d.log.gz").toString());
+        fileAppenderFactory.setBatched(true);
+
+        assertThat(fileAppenderFactory.buildAppender(new LoggerContext()))
+                .isInstanceOf(BatchingRollingFileAppender.class);
+
+        fileAppenderFactory.setArchive(false);
+        assertThat(fileAppenderFactory.buildAppender(new LoggerContext()))
+                .isInstanceOf(BatchingFileAppender.class);
+    }
+
     @Test
     public void hasArchivedLogFilenamePattern() throws Exception {
         FileAppenderFactory fileAppenderFactory = new FileAppenderFactory();
@@ -207,6 +234,29 @@ public class FileAppenderFactoryTest {
         assertThat(maxFileSize.getSize()).isEqualTo(1024L);
     }
 
+    @Test
+    public void compressesWithTheArchiveCompressorOfTheContext() throws Exception {
+        final LoggerContext context = new LoggerContext();
+        new ArchiveCompressor(1, Duration.seconds(1)).register(context);
+
+        final FileAppenderFactory<ILoggingEvent> fileAppenderFactory = new FileAppenderFactory<>();
+        fileAppenderFactory.setCurrentLogFilename(folder.newFile("logfile.log").toString());
+        fileAppenderFactory.setMaxFileSize(Size.kilobytes(1));
+        fileAppenderFactory.setArchivedLogFilenamePattern(folder.newFile("example-%i.log.gz").toString());
+        assertThat(((RollingFileAppender<ILoggingEvent>) fileAppenderFactory.buildAppender(context)).getRollingPolicy())
+            .isInstanceOf(CompressingFixedWindowRollingPolicy.class);
+
+        fileAppenderFactory.setArchivedLogFilenamePattern(folder.newFile("example-%d-%i.log.gz").toString());
+        assertThat(((RollingFileAppender<ILoggingEvent>) fileAppenderFactory.buildAppender(context)).getRollingPolicy())
+            .isInstanceOf(CompressingSizeAndTimeBasedRollingPolicy.class);
+
+        final FileAppenderFactory<ILoggingEvent> timeBasedAppenderFactory = new FileAppenderFactory<>();
+        timeBasedAppenderFactory.setCurrentLogFilename(folder.newFile("time-based.log").toString());
+        timeBasedAppenderFactory.setArchivedLogFilenamePattern(folder.newFile("example-%d.log.gz").toString());
+        assertThat(((RollingFileAppender<ILoggingEvent>) timeBasedAppenderFactory.buildAppender(context)).getRollingPolicy())
+            .isInstanceOf(CompressingTimeBasedRollingPolicy.class);
+    }
+
     @Test
     public void appenderContextIsSet() throws Exception {
         final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
@@ -0,0 +1,191 @@
+package io.dropwizard.logging.archive;
+
+import ch.qos.logback.core.Context;
+import ch.qos.logback.core.ContextBase;
+import ch.qos.logback.core.encoder.EchoEncoder;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeBasedTriggeringPolicy;
+import ch.qos.logback.core.rolling.helper.CompressionMode;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import ch.qos.logback.core.status.Status;
+import ch.qos.logback.core.util.FileSize;
+import com.codahale.metrics.Timer;
+import com.google.common.io.CharStreams;
+import io.dropwizard.util.Duration;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class ArchiveCompressorTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final Context context = new ContextBase();
+    private final ArchiveCompressor compressor = new ArchiveCompressor(2, Duration.seconds(10));
+    private final RollingFileAppender<String> appender = new RollingFileAppender<>();
+
+    @After
+    public void tearDown() {
+        appender.stop();
+        compressor.stop();
+    }
+
+    @Test
+    public void compressesTheArchivesOfAFixedWindowInTheBackground() throws Exception {
+        compressor.register(context);
+        compressor.start();
+
+        final File file = new File(folder.getRoot(), "app.log");
+        appender.setContext(context);
+        appender.setFile(file.getAbsolutePath());
+        appender.setEncoder(new EchoEncoder<>());
+
+        final CompressingFixedWindowRollingPolicy rollingPolicy = new CompressingFixedWindowRollingPolicy(compressor);
+        rollingPolicy.setContext(context);
+        rollingPolicy.setFileNamePattern(new File(folder.getRoot(), "app-%i.log.gz").getAbsolutePath());
+        rollingPolicy.setMaxIndex(3);
+        rollingPolicy.setParent(appender);
+        rollingPolicy.start();
+        appender.setRollingPolicy(rollingPolicy);
+
+        final SizeBasedTriggeringPolicy<String> triggeringPolicy = new SizeBasedTriggeringPolicy<>();
+        triggeringPolicy.setMaxFileSize(FileSize.valueOf("1GB"));
+        triggeringPolicy.setContext(context);
+        triggeringPolicy.start();
+        appender.setTriggeringPolicy(triggeringPolicy);
+        appender.start();
+
+        appender.doAppend("first");
+        appender.rollover();
+        appender.doAppend("second");
+        appender.rollover();
+        appender.doAppend("third");
+
+        // waits for the queued archives
+        compressor.stop();
+
+        assertThat(gunzip(new File(folder.getRoot(), "app-1.log.gz")))
+                .isEqualTo("second" + System.lineSeparator());
+        assertThat(gunzip(new File(folder.getRoot(), "app-2.log.gz")))
+                .isEqualTo("first" + System.lineSeparator());
+        assertThat(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8))
+                .isEqualTo("third" + System.lineSeparator());
+        assertThat(folder.getRoot().list())
+                .containsOnly("app.log", "app-1.log.gz", "app-2.log.gz");
+        assertThat(((Timer) requireNonNull(compressor.getMetrics().get("compression"))).getCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void recoversTheTemporaryFilesOfAPreviousRollover() throws Exception {
+        compressor.register(context);
+        compressor.start();
+
+        final File interrupted = new File(folder.getRoot(), "app-1.log123.tmp");
+        Files.write(interrupted.toPath(), "interrupted".getBytes(StandardCharsets.UTF_8));
+        final File older = new File(folder.getRoot(), "app-1.log-456.tmp");
+        Files.write(older.toPath(), "older".getBytes(StandardCharsets.UTF_8));
+        assertThat(older.setLastModified(interrupted.lastModified() - 60_000))
+                .isTrue();
+
+        final File file = new File(folder.getRoot(), "app.log");
+        appender.setContext(context);
+        appender.setFile(file.getAbsolutePath());
+        appender.setEncoder(new EchoEncoder<>());
+
+        final CompressingFixedWindowRollingPolicy rollingPolicy = new CompressingFixedWindowRollingPolicy(compressor);
+        rollingPolicy.setContext(context);
+        rollingPolicy.setFileNamePattern(new File(folder.getRoot(), "app-%i.log.gz").getAbsolutePath());
+        rollingPolicy.setMaxIndex(3);
+        rollingPolicy.setParent(appender);
+        rollingPolicy.start();
+        appender.setRollingPolicy(rollingPolicy);
+
+        final SizeBasedTriggeringPolicy<String> triggeringPolicy = new SizeBasedTriggeringPolicy<>();
+        triggeringPolicy.setMaxFileSize(FileSize.valueOf("1GB"));
+        triggeringPolicy.setContext(context);
+        triggeringPolicy.start();
+        appender.setTriggeringPolicy(triggeringPolicy);
+        appender.start();
+
+        appender.doAppend("first");
+        appender.rollover();
+        compressor.stop();
+
+        assertThat(gunzip(new File(folder.getRoot(), "app-1.log.gz")))
+                .isEqualTo("first" + System.lineSeparator());
+        assertThat(gunzip(new File(folder.getRoot(), "app-2.log.gz")))
+                .isEqualTo("interrupted");
+        assertThat(folder.getRoot().list())
+                .containsOnly("app.log", "app-1.log.gz", "app-2.log.gz");
+    }
+
+    @Test
+    public void compressesInTheCallingThreadOnceStopped() throws Exception {
+        compressor.setContext(context);
+        final File file = folder.newFile("app-2018-01-01.log");
+        Files.write(file.toPath(), "archived".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(compressor.compress(file.getAbsolutePath(), file.getAbsolutePath(), file.getName(),
+                CompressionMode.GZ).isDone())
+                .isTrue();
+
+        assertThat(file)
+                .doesNotExist();
+        assertThat(gunzip(new File(folder.getRoot(), "app-2018-01-01.log.gz")))
+                .isEqualTo("archived");
+        assertThat(compressor.getBacklog())
+                .isZero();
+    }
+
+    @Test
+    public void reportsTheFailedCompressionsToTheRollingPolicy() {
+        final ContextAwareBase rollingPolicy = new ContextAwareBase();
+        rollingPolicy.setContext(context);
+        final CompletableFuture<Void> compression = new CompletableFuture<>();
+        compression.completeExceptionally(new IllegalStateException("disk full"));
+
+        assertThat(ArchiveCompressor.await(compression, rollingPolicy))
+                .isTrue();
+        assertThat(context.getStatusManager().getCopyOfStatusList())
+                .extracting(Status::getLevel, Status::getMessage)
+                .contains(tuple(Status.ERROR,
+                        "Failed to compress the previous archive, which is left uncompressed"));
+    }
+
+    @Test
+    public void isSharedThroughTheContext() {
+        assertThat(ArchiveCompressor.get(context))
+                .isNull();
+
+        compressor.register(context);
+        compressor.start();
+
+        assertThat(ArchiveCompressor.get(context))
+                .isSameAs(compressor);
+        assertThat(compressor.isStarted())
+                .isTrue();
+    }
+
+    private static String gunzip(File file) throws IOException {
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(new FileInputStream(file)),
+                StandardCharsets.UTF_8)) {
+            return CharStreams.toString(reader);
+        }
+    }
+}
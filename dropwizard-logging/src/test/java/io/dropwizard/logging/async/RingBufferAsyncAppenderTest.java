@@ -0,0 +1,152 @@
+package io.dropwizard.logging.async;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.Timer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RingBufferAsyncAppenderTest {
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger(RingBufferAsyncAppenderTest.class);
+    private final RingBufferAsyncAppender<ILoggingEvent> appender = new RingBufferAsyncAppender<>();
+
+    @After
+    public void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    public void appendsTheEventsOfConcurrentThreads() throws Exception {
+        final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+        start(listAppender, 16);
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final String threadName = "thread-" + i;
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    appender.doAppend(event(Level.WARN, threadName + ':' + j));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        appender.stop();
+
+        assertThat(listAppender.list)
+                .hasSize(8000);
+        assertThat(listAppender.list)
+                .filteredOn(event -> event.getMessage().startsWith("thread-3:"))
+                .extracting(ILoggingEvent::getMessage)
+                .startsWith("thread-3:0", "thread-3:1", "thread-3:2")
+                .endsWith("thread-3:998", "thread-3:999");
+        assertThat(metric("dropped", Meter.class).getCount())
+                .isZero();
+        assertThat(metric("drain", Timer.class).getCount())
+                .isPositive();
+    }
+
+    @Test
+    public void dropsTheEventsWhichDoNotFitIfItNeverBlocks() throws Exception {
+        final BlockingAppender blockingAppender = new BlockingAppender();
+        appender.setNeverBlock(true);
+        appender.setDiscardingThreshold(0);
+        start(blockingAppender, 2);
+
+        appender.doAppend(event(Level.WARN, "first"));
+        assertThat(blockingAppender.appending.await(5, TimeUnit.SECONDS))
+                .isTrue();
+        for (int i = 0; i < 5; i++) {
+            appender.doAppend(event(Level.WARN, "next"));
+        }
+
+        assertThat(metric("dropped", Meter.class).getCount())
+                .isEqualTo(3);
+        assertThat(metric("queue-depth", Gauge.class).getValue())
+                .isEqualTo(2);
+
+        blockingAppender.released.countDown();
+        appender.stop();
+        assertThat(blockingAppender.count.get())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void discardsInfoEventsBelowTheDiscardingThreshold() throws Exception {
+        final BlockingAppender blockingAppender = new BlockingAppender();
+        appender.setDiscardingThreshold(2);
+        start(blockingAppender, 4);
+
+        appender.doAppend(event(Level.WARN, "first"));
+        assertThat(blockingAppender.appending.await(5, TimeUnit.SECONDS))
+                .isTrue();
+        appender.doAppend(event(Level.INFO, "queued"));
+        appender.doAppend(event(Level.INFO, "queued"));
+        appender.doAppend(event(Level.INFO, "queued"));
+        appender.doAppend(event(Level.INFO, "discarded"));
+        appender.doAppend(event(Level.ERROR, "queued"));
+
+        assertThat(metric("dropped", Meter.class).getCount())
+                .isEqualTo(1);
+
+        blockingAppender.released.countDown();
+        appender.stop();
+        assertThat(blockingAppender.count.get())
+                .isEqualTo(5);
+    }
+
+    private void start(AppenderBase<ILoggingEvent> delegate, int queueSize) {
+        delegate.setContext(context);
+        delegate.start();
+        appender.setContext(context);
+        appender.setName("async-test");
+        appender.setQueueSize(queueSize);
+        appender.addAppender(delegate);
+        appender.start();
+    }
+
+    private <T extends Metric> T metric(String name, Class<T> type) {
+        return type.cast(requireNonNull(appender.getMetrics().get(name)));
+    }
+
+    private ILoggingEvent event(Level level, String message) {
+        return new LoggingEvent(RingBufferAsyncAppenderTest.class.getName(), logger, level, message, null, null);
+    }
+
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch appending = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            appending.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            count.incrementAndGet();
+        }
+    }
+}
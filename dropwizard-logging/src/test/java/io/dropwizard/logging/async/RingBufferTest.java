@@ -0,0 +1,56 @@
+package io.dropwizard.logging.async;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RingBufferTest {
+    private final RingBuffer<String> buffer = new RingBuffer<>(3);
+
+    @Test
+    public void roundsTheCapacityUpToAPowerOfTwo() {
+        assertThat(buffer.capacity())
+                .isEqualTo(4);
+        assertThat(new RingBuffer<String>(256).capacity())
+                .isEqualTo(256);
+        assertThat(new RingBuffer<String>(1).capacity())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void rejectsElementsWhenFull() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer("element-" + i))
+                    .isTrue();
+        }
+
+        assertThat(buffer.offer("element-4"))
+                .isFalse();
+        assertThat(buffer.size())
+                .isEqualTo(4);
+    }
+
+    @Test
+    public void drainsElementsInOrder() {
+        final RingBuffer<String> buffer = new RingBuffer<>(8);
+        final List<String> drained = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            buffer.offer("element-" + i);
+            if (i % 3 == 2) {
+                buffer.drain(drained::add, 2);
+            }
+        }
+        buffer.drain(drained::add, Integer.MAX_VALUE);
+
+        assertThat(drained)
+                .containsExactly("element-0", "element-1", "element-2", "element-3", "element-4",
+                        "element-5", "element-6", "element-7", "element-8", "element-9");
+        assertThat(buffer.size())
+                .isZero();
+        assertThat(buffer.poll())
+                .isNull();
+    }
+}
@@ -0,0 +1,143 @@
+package io.dropwizard.logging.batch;
+
+import ch.qos.logback.core.Context;
+import ch.qos.logback.core.ContextBase;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.EchoEncoder;
+import ch.qos.logback.core.rolling.FixedWindowRollingPolicy;
+import ch.qos.logback.core.rolling.SizeBasedTriggeringPolicy;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import io.dropwizard.util.Duration;
+import io.dropwizard.util.Size;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchingFileAppenderTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final Context context = new ContextBase();
+    private FileAppender<String> appender = new FileAppender<>();
+
+    @After
+    public void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    public void writesTheEventsOnceTheBufferIsFull() throws Exception {
+        final File file = new File(folder.getRoot(), "logs/batched.log");
+        final BatchingFileAppender<String> batchingAppender =
+                new BatchingFileAppender<>(Size.bytes(32), Duration.hours(1));
+        start(batchingAppender, file);
+
+        append("event-01", "event-02");
+        assertThat(lines(file))
+                .isEmpty();
+
+        append("event-03", "event-04");
+        assertThat(lines(file))
+                .containsExactly("event-01", "event-02", "event-03");
+
+        appender.stop();
+        assertThat(lines(file))
+                .containsExactly("event-01", "event-02", "event-03", "event-04");
+        assertThat(((Meter) requireNonNull(batchingAppender.getMetrics().get("bytes-written"))).getCount())
+                .isEqualTo(file.length());
+        assertThat(((Timer) requireNonNull(batchingAppender.getMetrics().get("flush"))).getCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void writesTheEventsLargerThanTheBufferDirectly() throws Exception {
+        final File file = folder.newFile("batched.log");
+        start(new BatchingFileAppender<>(Size.bytes(16), Duration.hours(1)), file);
+
+        append("short", "an event which does not fit in the buffer");
+
+        assertThat(lines(file))
+                .containsExactly("short", "an event which does not fit in the buffer");
+    }
+
+    @Test
+    public void flushesTheBufferPeriodically() throws Exception {
+        final File file = folder.newFile("batched.log");
+        start(new BatchingFileAppender<>(Size.kilobytes(64), Duration.milliseconds(10)), file);
+
+        append("event");
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (lines(file).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(lines(file))
+                .containsExactly("event");
+    }
+
+    @Test
+    public void flushesTheBufferBeforeRollingOver() throws Exception {
+        final File file = folder.newFile("batched.log");
+        final BatchingRollingFileAppender<String> rollingAppender =
+                new BatchingRollingFileAppender<>(Size.kilobytes(64), Duration.hours(1));
+        rollingAppender.setContext(context);
+        rollingAppender.setFile(file.getAbsolutePath());
+        final FixedWindowRollingPolicy rollingPolicy = new FixedWindowRollingPolicy();
+        rollingPolicy.setContext(context);
+        rollingPolicy.setFileNamePattern(new File(folder.getRoot(), "batched-%i.log").getAbsolutePath());
+        rollingPolicy.setParent(rollingAppender);
+        rollingPolicy.start();
+        rollingAppender.setRollingPolicy(rollingPolicy);
+        final SizeBasedTriggeringPolicy<String> triggeringPolicy = new SizeBasedTriggeringPolicy<>();
+        triggeringPolicy.setContext(context);
+        triggeringPolicy.start();
+        rollingAppender.setTriggeringPolicy(triggeringPolicy);
+        start(rollingAppender, file);
+
+        append("event-1", "event-2");
+        rollingAppender.rollover();
+        append("event-3");
+        appender.stop();
+
+        assertThat(lines(new File(folder.getRoot(), "batched-1.log")))
+                .containsExactly("event-1", "event-2");
+        assertThat(lines(file))
+                .containsExactly("event-3");
+    }
+
+    private void start(FileAppender<String> fileAppender, File file) {
+        appender = fileAppender;
+        final EchoEncoder<String> encoder = new EchoEncoder<>();
+        encoder.setContext(context);
+        encoder.start();
+        appender.setContext(context);
+        appender.setName("file-appender");
+        appender.setEncoder(encoder);
+        appender.setFile(file.getAbsolutePath());
+        appender.start();
+        assertThat(appender.isStarted())
+                .isTrue();
+    }
+
+    private void append(String... events) {
+        for (String event : events) {
+            appender.doAppend(event);
+        }
+    }
+
+    private static List<String> lines(File file) throws IOException {
+        return Files.readAllLines(requireNonNull(file).toPath(), StandardCharsets.UTF_8);
+    }
+}
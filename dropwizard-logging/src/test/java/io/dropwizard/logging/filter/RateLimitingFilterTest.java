@@ -0,0 +1,120 @@
+package io.dropwizard.logging.filter;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Counter;
+import io.dropwizard.util.Duration;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitingFilterTest {
+    private final ManualClock clock = new ManualClock();
+    private final RateLimitingFilter filter = new RateLimitingFilter(2, Duration.seconds(1), 3, clock);
+
+    @Before
+    public void setUp() {
+        filter.start();
+    }
+
+    @Test
+    public void permitsABurstThenTheRate() {
+        assertThat(decide("com.example.App", 4))
+                .containsExactly(FilterReply.NEUTRAL, FilterReply.NEUTRAL, FilterReply.NEUTRAL, FilterReply.DENY);
+
+        clock.advance(500, TimeUnit.MILLISECONDS);
+        assertThat(decide("com.example.App", 2))
+                .containsExactly(FilterReply.NEUTRAL, FilterReply.DENY);
+
+        // the bucket never holds more than a burst
+        clock.advance(1, TimeUnit.HOURS);
+        assertThat(decide("com.example.App", 4))
+                .containsExactly(FilterReply.NEUTRAL, FilterReply.NEUTRAL, FilterReply.NEUTRAL, FilterReply.DENY);
+
+        assertThat(((Counter) requireNonNull(filter.getMetrics().get("suppressed"))).getCount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void limitsEachLoggerSeparately() {
+        assertThat(decide("com.example.App", 4))
+                .containsExactly(FilterReply.NEUTRAL, FilterReply.NEUTRAL, FilterReply.NEUTRAL, FilterReply.DENY);
+        assertThat(decide("com.example.Other", 1))
+                .containsExactly(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    public void permitsNoMoreThanABurstToConcurrentThreads() throws Exception {
+        final TokenBucket bucket = new TokenBucket(100, TimeUnit.SECONDS.toNanos(1), clock);
+        final AtomicInteger taken = new AtomicInteger();
+        final CountDownLatch ready = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    for (int j = 0; j < 100; j++) {
+                        if (bucket.tryTake()) {
+                            taken.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            ready.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(taken.get())
+                .isEqualTo(100);
+    }
+
+    @Test
+    public void isNeutralWhenStopped() {
+        filter.stop();
+
+        assertThat(decide("com.example.App", 4))
+                .containsOnly(FilterReply.NEUTRAL);
+    }
+
+    private FilterReply[] decide(String loggerName, int count) {
+        final LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(loggerName);
+        final FilterReply[] replies = new FilterReply[count];
+        for (int i = 0; i < count; i++) {
+            replies[i] = filter.decide((ILoggingEvent) event);
+        }
+        return replies;
+    }
+
+    private static class ManualClock extends Clock {
+        private long tick;
+
+        void advance(long duration, TimeUnit unit) {
+            tick += unit.toNanos(duration);
+        }
+
+        @Override
+        public long getTick() {
+            return tick;
+        }
+    }
+}
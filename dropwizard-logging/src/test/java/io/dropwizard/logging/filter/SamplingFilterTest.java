@@ -0,0 +1,58 @@
+package io.dropwizard.logging.filter;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import com.codahale.metrics.Counter;
+import org.junit.Test;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SamplingFilterTest {
+    private final ILoggingEvent event = new LoggingEvent();
+
+    @Test
+    public void keepsEveryEventAtARateOfOne() {
+        final SamplingFilter<ILoggingEvent> filter = start(new SamplingFilter<>(1));
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.decide(event))
+                    .isEqualTo(FilterReply.NEUTRAL);
+        }
+        assertThat(suppressed(filter))
+                .isZero();
+    }
+
+    @Test
+    public void deniesEveryEventAtARateOfZero() {
+        final SamplingFilter<ILoggingEvent> filter = start(new SamplingFilter<>(0));
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.decide(event))
+                    .isEqualTo(FilterReply.DENY);
+        }
+        assertThat(suppressed(filter))
+                .isEqualTo(1000);
+    }
+
+    @Test
+    public void keepsASampleOfTheEvents() {
+        final SamplingFilter<ILoggingEvent> filter = start(new SamplingFilter<>(0.5));
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.decide(event);
+        }
+        assertThat(suppressed(filter))
+                .isBetween(4_000L, 6_000L);
+    }
+
+    private static SamplingFilter<ILoggingEvent> start(SamplingFilter<ILoggingEvent> filter) {
+        filter.start();
+        return filter;
+    }
+
+    private static long suppressed(SamplingFilter<ILoggingEvent> filter) {
+        return ((Counter) requireNonNull(filter.getMetrics().get("suppressed"))).getCount();
+    }
+}
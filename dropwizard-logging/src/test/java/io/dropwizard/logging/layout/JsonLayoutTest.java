@@ -0,0 +1,108 @@
+package io.dropwizard.logging.layout;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.CoreConstants;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import io.dropwizard.jackson.DiscoverableSubtypeResolver;
+import io.dropwizard.jackson.Jackson;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonLayoutTest {
+    private final ObjectMapper objectMapper = Jackson.newObjectMapper();
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("com.example.App");
+    private final JsonLayout layout = new JsonLayout(TimeZone.getTimeZone("UTC"), true, true,
+            ImmutableMap.of("service", "example"));
+
+    @Test
+    public void isDiscoverable() throws Exception {
+        assertThat(new DiscoverableSubtypeResolver().getDiscoveredSubtypes())
+                .contains(JsonLayoutFactory.class);
+    }
+
+    @Test
+    public void formatsAnEventAsALineOfJson() {
+        final LoggingEvent event = event(Level.INFO, "Hello, {}!", "world");
+        event.setThreadName("main");
+
+        assertThat(new String(layout.toByteArray(event), StandardCharsets.UTF_8))
+                .isEqualTo("{\"timestamp\":\"2018-01-01T12:34:56.789Z\",\"level\":\"INFO\",\"thread\":\"main\"," +
+                        "\"logger\":\"com.example.App\",\"message\":\"Hello, world!\",\"service\":\"example\"}" +
+                        CoreConstants.LINE_SEPARATOR);
+        assertThat(layout.doLayout(event))
+                .isEqualTo(new String(layout.toByteArray(event), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void escapesAndEncodesTheStrings() throws Exception {
+        final String message = "\"quoted\" \\ line\nbreak\ttab \u0001 café € 😀";
+        final JsonNode json = objectMapper.readTree(layout.toByteArray(event(Level.WARN, message)));
+
+        assertThat(json.get("message").asText())
+                .isEqualTo(message);
+        assertThat(json.get("level").asText())
+                .isEqualTo("WARN");
+    }
+
+    @Test
+    public void includesTheMdcAndTheException() throws Exception {
+        final LoggingEvent event = new LoggingEvent(JsonLayoutTest.class.getName(), logger, Level.ERROR,
+                "Failed", new IllegalStateException("boom"), null);
+        event.setMDCPropertyMap(ImmutableMap.of("requestId", "42"));
+
+        final JsonNode json = objectMapper.readTree(layout.toByteArray(event));
+
+        assertThat(json.get("mdc").get("requestId").asText())
+                .isEqualTo("42");
+        assertThat(json.get("exception").asText())
+                .startsWith("java.lang.IllegalStateException: boom")
+                .contains("at io.dropwizard.logging.layout.JsonLayoutTest");
+    }
+
+    @Test
+    public void formatsTheTimestampInTheTimeZone() throws Exception {
+        final JsonLayout layout = new JsonLayout(TimeZone.getTimeZone("America/Los_Angeles"), false, false,
+                ImmutableMap.of());
+
+        final JsonNode json = objectMapper.readTree(layout.toByteArray(event(Level.INFO, "message")));
+
+        assertThat(json.get("timestamp").asText())
+                .isEqualTo("2018-01-01T04:34:56.789-08:00");
+        assertThat(json.has("thread"))
+                .isFalse();
+    }
+
+    @Test
+    public void formatsDatesLikeTheJdk() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXX");
+        final TimeZone utc = TimeZone.getTimeZone("UTC");
+        for (long timestamp = -86_400_000L * 365; timestamp < 86_400_000L * 365 * 100; timestamp += 86_399_999L * 17) {
+            final JsonWriter writer = new JsonWriter();
+            writer.writeTimestamp(timestamp, utc);
+
+            assertThat(new String(writer.toByteArray(), StandardCharsets.US_ASCII))
+                    .isEqualTo('"' + formatter.format(Instant.ofEpochMilli(timestamp)
+                            .atOffset(ZoneOffset.UTC)) + '"');
+        }
+    }
+
+    private LoggingEvent event(Level level, String message, Object... arguments) {
+        final LoggingEvent event = new LoggingEvent(JsonLayoutTest.class.getName(), logger, level, message,
+                null, arguments);
+        event.setTimeStamp(1514810096789L);
+        return event;
+    }
+}
@@ -15,4 +15,9 @@ public class LogbackAccessRequestLayoutFactory implements LayoutFactory<IAccessE
     public PatternLayoutBase<IAccessEvent> build(LoggerContext context, TimeZone timeZone) {
         return new LogbackAccessRequestLayout(context, timeZone);
     }
+
+    @Override
+    public Class<IAccessEvent> getEventType() {
+        return IAccessEvent.class;
+    }
 }
@@ -15,20 +15,25 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class RequestLogFactoryTest {
     private LogbackAccessRequestLogFactory logbackAccessRequestLogFactory;
 
     @Before
     public void setUp() throws Exception {
+        this.logbackAccessRequestLogFactory = parse("yaml/requestLog.yml");
+    }
+
+    private static LogbackAccessRequestLogFactory parse(String resource) throws Exception {
         final ObjectMapper objectMapper = Jackson.newObjectMapper();
         objectMapper.getSubtypeResolver().registerSubtypes(ConsoleAppenderFactory.class,
                                                            FileAppenderFactory.class,
                                                            SyslogAppenderFactory.class);
-        this.logbackAccessRequestLogFactory = new YamlConfigurationFactory<>(LogbackAccessRequestLogFactory.class,
-                                                     BaseValidator.newValidator(),
-                                                     objectMapper, "dw")
-                .build(new File(Resources.getResource("yaml/requestLog.yml").toURI()));
+        return new YamlConfigurationFactory<>(LogbackAccessRequestLogFactory.class,
+                                              BaseValidator.newValidator(),
+                                              objectMapper, "dw")
+                .build(new File(Resources.getResource(resource).toURI()));
     }
 
     @Test
@@ -45,4 +50,24 @@ public class RequestLogFactoryTest {
         assertThat(new DiscoverableSubtypeResolver().getDiscoveredSubtypes())
             .contains(LogbackAccessRequestLogFactory.class);
     }
+
+    @Test
+    public void rejectsLayoutsOfApplicationLogs() throws Exception {
+        final LogbackAccessRequestLogFactory factory = parse("yaml/requestLogJson.yml");
+
+        assertThatThrownBy(() -> factory.build("test"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The layout io.dropwizard.logging.layout.JsonLayoutFactory only supports ILoggingEvent " +
+                "events, not IAccessEvent events");
+    }
+
+    @Test
+    public void rejectsFiltersOfApplicationLogs() throws Exception {
+        final LogbackAccessRequestLogFactory factory = parse("yaml/requestLogRateLimit.yml");
+
+        assertThatThrownBy(() -> factory.build("test"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The filter io.dropwizard.logging.filter.RateLimitingFilterFactory only supports " +
+                "ILoggingEvent events, not IAccessEvent events");
+    }
 }
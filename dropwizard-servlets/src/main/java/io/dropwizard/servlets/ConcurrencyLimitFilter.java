@@ -0,0 +1,233 @@
+package io.dropwizard.servlets;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import io.dropwizard.util.Duration;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A servlet filter which limits the number of concurrent requests, and rejects the requests over
+ * the limit with a {@code 503 Service Unavailable} instead of queueing them.
+ * <p>
+ * The limit adapts to the latency of the requests (additive increase, multiplicative decrease): it
+ * grows by one after a request completing within the latency threshold while at least half of the
+ * limit was in use, and shrinks by the backoff ratio after a request exceeding the threshold. Only
+ * the requests admitted since the limit last shrank adjust it, so that a burst of slow requests
+ * shrinks the limit once, as the requests admitted under the previous limit complete.
+ * <p>
+ * Requests which are slow by design, such as long polls or large downloads, would keep the limit
+ * at its minimum: their paths, relative to the context path, should be excluded from the filter.
+ * <p>
+ * The current limit, the number of requests in flight and the rate of rejected requests are reported
+ * as {@code io.dropwizard.servlets.ConcurrencyLimitFilter.<name>.limit}, {@code inflight} and
+ * {@code rejected}.
+ */
+public class ConcurrencyLimitFilter implements Filter {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThreshold;
+    private final Set<String> excludedPaths;
+    private final AtomicInteger limit;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Meter rejected;
+
+    private Supplier<Long> currentTimeProvider = System::nanoTime;
+
+    /**
+     * Creates a new {@link ConcurrencyLimitFilter}.
+     *
+     * @param metricRegistry   the registry of the filter's metrics
+     * @param name             the name of the filter, used as prefix of its metrics
+     * @param initialLimit     the initial number of concurrent requests
+     * @param minLimit         the minimum number of concurrent requests
+     * @param maxLimit         the maximum number of concurrent requests
+     * @param backoffRatio     the ratio the limit is multiplied by after a slow request
+     * @param latencyThreshold the latency above which a request is considered slow
+     */
+    public ConcurrencyLimitFilter(MetricRegistry metricRegistry,
+                                  String name,
+                                  int initialLimit,
+                                  int minLimit,
+                                  int maxLimit,
+                                  double backoffRatio,
+                                  Duration latencyThreshold) {
+        this(metricRegistry, name, initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold,
+                ImmutableSet.of());
+    }
+
+    /**
+     * Creates a new {@link ConcurrencyLimitFilter}.
+     *
+     * @param metricRegistry   the registry of the filter's metrics
+     * @param name             the name of the filter, used as prefix of its metrics
+     * @param initialLimit     the initial number of concurrent requests
+     * @param minLimit         the minimum number of concurrent requests
+     * @param maxLimit         the maximum number of concurrent requests
+     * @param backoffRatio     the ratio the limit is multiplied by after a slow request
+     * @param latencyThreshold the latency above which a request is considered slow
+     * @param excludedPaths    the path prefixes, relative to the context path, of the requests which
+     *                         are neither limited nor measured
+     */
+    public ConcurrencyLimitFilter(MetricRegistry metricRegistry,
+                                  String name,
+                                  int initialLimit,
+                                  int minLimit,
+                                  int maxLimit,
+                                  double backoffRatio,
+                                  Duration latencyThreshold,
+                                  Set<String> excludedPaths) {
+        checkArgument(minLimit >= 1, "minLimit must be at least 1");
+        checkArgument(minLimit <= initialLimit && initialLimit <= maxLimit,
+                "initialLimit must be between minLimit and maxLimit");
+        checkArgument(backoffRatio > 0 && backoffRatio < 1, "backoffRatio must be between 0 and 1");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThreshold = latencyThreshold.toNanoseconds();
+        this.excludedPaths = ImmutableSet.copyOf(excludedPaths);
+        this.limit = new AtomicInteger(initialLimit);
+        this.rejected = metricRegistry.meter(name(ConcurrencyLimitFilter.class, name, "rejected"));
+        metricRegistry.register(name(ConcurrencyLimitFilter.class, name, "limit"), (Gauge<Integer>) limit::get);
+        metricRegistry.register(name(ConcurrencyLimitFilter.class, name, "inflight"), (Gauge<Integer>) inflight::get);
+    }
+
+    @VisibleForTesting
+    void setCurrentTimeProvider(Supplier<Long> currentTimeProvider) {
+        this.currentTimeProvider = currentTimeProvider;
+    }
+
+    /**
+     * Returns the current number of concurrent requests allowed.
+     *
+     * @return the current limit
+     */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * Returns the number of requests being processed.
+     *
+     * @return the number of requests in flight
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException { /* unused */ }
+
+    @Override
+    public void destroy() { /* unused */ }
+
+    @Override
+    public void doFilter(ServletRequest request,
+                         ServletResponse response,
+                         FilterChain chain) throws IOException, ServletException {
+        if (isExcluded((HttpServletRequest) request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        final int current = inflight.incrementAndGet();
+        if (current > limit.get()) {
+            inflight.decrementAndGet();
+            rejected.mark();
+            ((HttpServletResponse) response).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        final long admittedGeneration = generation.get();
+        final long startTime = currentTimeProvider.get();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(
+                        new ReleasingListener(current, admittedGeneration, startTime));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                release(current, admittedGeneration, startTime);
+            }
+        }
+    }
+
+    private boolean isExcluded(HttpServletRequest request) {
+        if (excludedPaths.isEmpty()) {
+            return false;
+        }
+        final String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String excludedPath : excludedPaths) {
+            if (path.startsWith(excludedPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void release(int inflightAtStart, long admittedGeneration, long startTime) {
+        inflight.decrementAndGet();
+        final long latency = currentTimeProvider.get() - startTime;
+        if (latency > latencyThreshold) {
+            // only the first slow request admitted under the current limit shrinks it
+            if (generation.compareAndSet(admittedGeneration, admittedGeneration + 1)) {
+                limit.updateAndGet(value -> Math.max(minLimit, (int) (value * backoffRatio)));
+            }
+        } else if (admittedGeneration == generation.get() && inflightAtStart * 2 >= limit.get()) {
+            limit.updateAndGet(value -> Math.min(maxLimit, value + 1));
+        }
+    }
+
+    private class ReleasingListener implements AsyncListener {
+        private final int inflightAtStart;
+        private final long admittedGeneration;
+        private final long startTime;
+
+        ReleasingListener(int inflightAtStart, long admittedGeneration, long startTime) {
+            this.inflightAtStart = inflightAtStart;
+            this.admittedGeneration = admittedGeneration;
+            this.startTime = startTime;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) throws IOException {
+            release(inflightAtStart, admittedGeneration, startTime);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) throws IOException { /* onComplete is called afterwards */ }
+
+        @Override
+        public void onError(AsyncEvent event) throws IOException { /* onComplete is called afterwards */ }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) throws IOException {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
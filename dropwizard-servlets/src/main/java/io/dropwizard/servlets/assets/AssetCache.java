@@ -0,0 +1,122 @@
+package io.dropwizard.servlets.assets;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.primitives.Ints;
+
+import javax.annotation.Nullable;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A bounded, size-aware in-memory cache of the assets served by an {@link AssetServlet}. Cached
+ * assets keep their contents, precomputed ETag and precompressed variants, so a cache hit is served
+ * without looking up, reading or hashing the resource again.
+ */
+public class AssetCache {
+    private final Cache<String, AssetServlet.CachedAsset> cache;
+    private final boolean revalidate;
+    private final Meter hits;
+    private final Meter misses;
+    private final Meter evictions;
+
+    /**
+     * Creates a new asset cache which doesn't report any metrics.
+     *
+     * @param maximumSizeInBytes the maximum total size of the cached assets
+     * @param revalidate         whether cached assets should be checked against the last modified
+     *                           time of their resource on every request
+     */
+    public AssetCache(long maximumSizeInBytes, boolean revalidate) {
+        this(new MetricRegistry(), "assets", maximumSizeInBytes, revalidate);
+    }
+
+    /**
+     * Creates a new asset cache.
+     *
+     * @param metricRegistry     the application's registry of metrics
+     * @param name               the name of the cache, used as prefix of its metrics
+     * @param maximumSizeInBytes the maximum total size of the cached assets
+     * @param revalidate         whether cached assets should be checked against the last modified
+     *                           time of their resource on every request
+     */
+    public AssetCache(MetricRegistry metricRegistry, String name, long maximumSizeInBytes, boolean revalidate) {
+        checkArgument(maximumSizeInBytes > 0, "maximumSizeInBytes must be positive");
+        this.revalidate = revalidate;
+        this.hits = metricRegistry.meter(name(AssetServlet.class, name, "cache-hits"));
+        this.misses = metricRegistry.meter(name(AssetServlet.class, name, "cache-misses"));
+        this.evictions = metricRegistry.meter(name(AssetServlet.class, name, "cache-evictions"));
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maximumSizeInBytes)
+                .<String, AssetServlet.CachedAsset>weigher((key, asset) ->
+                        Ints.saturatedCast(asset.getSize() + key.length()))
+                .removalListener(notification -> {
+                    if (notification.getCause() == RemovalCause.SIZE) {
+                        evictions.mark();
+                    }
+                })
+                .recordStats()
+                .build();
+        metricRegistry.register(name(AssetServlet.class, name, "cache-size"), (Gauge<Long>) cache::size);
+    }
+
+    @Nullable
+    AssetServlet.CachedAsset getIfPresent(String key) {
+        final AssetServlet.CachedAsset asset = cache.getIfPresent(key);
+        if (asset == null) {
+            misses.mark();
+            return null;
+        }
+        if (revalidate && asset.isStale()) {
+            cache.invalidate(key);
+            misses.mark();
+            return null;
+        }
+        hits.mark();
+        return asset;
+    }
+
+    void put(String key, AssetServlet.CachedAsset asset) {
+        cache.put(key, asset);
+    }
+
+    /**
+     * Returns whether cached assets are checked against the last modified time of their resource.
+     *
+     * @return whether cached assets are revalidated
+     */
+    public boolean isRevalidating() {
+        return revalidate;
+    }
+
+    /**
+     * Discards all cached assets.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the number of cached assets.
+     *
+     * @return the number of cached assets
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns a set of statistics about the cache contents and usage.
+     *
+     * @return a set of statistics about the cache contents and usage
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -2,8 +2,10 @@ package io.dropwizard.servlets.assets;
 
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Joiner;
+import com.google.common.base.MoreObjects;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.hash.Hashing;
 import com.google.common.io.Resources;
 import com.google.common.net.HttpHeaders;
@@ -20,6 +22,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.List;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
@@ -27,15 +30,57 @@ public class AssetServlet extends HttpServlet {
     private static final long serialVersionUID = 6393345594784987908L;
     private static final CharMatcher SLASHES = CharMatcher.is('/');
 
-    private static class CachedAsset {
+    static class CachedAsset {
+        private final URL resourceURL;
         private final byte[] resource;
         private final String eTag;
         private final long lastModifiedTime;
+        private final ImmutableMap<String, CachedAsset> variants;
 
-        private CachedAsset(byte[] resource, long lastModifiedTime) {
+        private CachedAsset(URL resourceURL, byte[] resource, long lastModifiedTime,
+                            ImmutableMap<String, CachedAsset> variants) {
+            this.resourceURL = resourceURL;
             this.resource = resource;
             this.eTag = '"' + Hashing.murmur3_128().hashBytes(resource).toString() + '"';
             this.lastModifiedTime = lastModifiedTime;
+            this.variants = variants;
+        }
+
+        /**
+         * Returns whether the underlying resource, or one of its precompressed variants, has been modified
+         * since this asset has been loaded.
+         */
+        boolean isStale() {
+            final long lastModified = ResourceURL.getLastModified(resourceURL);
+            if (lastModified > 0 && truncateToSeconds(lastModified) != lastModifiedTime) {
+                return true;
+            }
+            for (CachedAsset variant : variants.values()) {
+                if (variant.isStale()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the number of bytes held by this asset and its precompressed variants.
+         */
+        long getSize() {
+            long size = resource.length;
+            for (CachedAsset variant : variants.values()) {
+                size += variant.getSize();
+            }
+            return size;
+        }
+
+        /**
+         * Returns the precompressed variant of this asset with the given content coding, which has been
+         * looked up when this asset was loaded.
+         */
+        @Nullable
+        CachedAsset getVariant(String contentCoding) {
+            return variants.get(contentCoding);
         }
 
         public byte[] getResource() {
@@ -53,6 +98,13 @@ public class AssetServlet extends HttpServlet {
 
     private static final MediaType DEFAULT_MEDIA_TYPE = MediaType.HTML_UTF_8;
 
+    /**
+     * The content codings of precompressed assets mapped to the extension of their resource, in order of preference.
+     */
+    private static final ImmutableMap<String, String> PRECOMPRESSED_EXTENSIONS = ImmutableMap.of(
+            "br", ".br",
+            "gzip", ".gz");
+
     private final String resourcePath;
     private final String uriPath;
 
@@ -62,6 +114,11 @@ public class AssetServlet extends HttpServlet {
     @Nullable
     private final Charset defaultCharset;
 
+    @Nullable
+    private final transient AssetCache cache;
+
+    private final boolean precompressed;
+
     /**
      * Creates a new {@code AssetServlet} that serves static assets loaded from {@code resourceURL}
      * (typically a file: or jar: URL). The assets are served at URIs rooted at {@code uriPath}. For
@@ -82,12 +139,59 @@ public class AssetServlet extends HttpServlet {
                         String uriPath,
                         @Nullable String indexFile,
                         @Nullable Charset defaultCharset) {
+        this(resourcePath, uriPath, indexFile, defaultCharset, null);
+    }
+
+    /**
+     * Creates a new {@code AssetServlet} which keeps the assets it serves in {@code cache}, so
+     * that subsequent requests for the same asset neither read nor hash the resource again.
+     *
+     * @param resourcePath   the base URL from which assets are loaded
+     * @param uriPath        the URI path fragment in which all requests are rooted
+     * @param indexFile      the filename to use when directories are requested, or null to serve no
+     *                       indexes
+     * @param defaultCharset the default character set
+     * @param cache          the cache of loaded assets, or null to load assets on every request
+     * @see #AssetServlet(String, String, String, Charset)
+     */
+    public AssetServlet(String resourcePath,
+                        String uriPath,
+                        @Nullable String indexFile,
+                        @Nullable Charset defaultCharset,
+                        @Nullable AssetCache cache) {
+        this(resourcePath, uriPath, indexFile, defaultCharset, cache, false);
+    }
+
+    /**
+     * Creates a new {@code AssetServlet} which, if {@code precompressed} is set, serves the {@code .br} or
+     * {@code .gz} sibling of a requested asset to clients which accept that content coding. For example,
+     * a request for {@code /js/example.js} with an {@code Accept-Encoding: gzip} header would be served
+     * the contents of {@code /data/assets/example.js.gz} with a {@code Content-Encoding: gzip} header,
+     * if such a file exists.
+     *
+     * @param resourcePath   the base URL from which assets are loaded
+     * @param uriPath        the URI path fragment in which all requests are rooted
+     * @param indexFile      the filename to use when directories are requested, or null to serve no
+     *                       indexes
+     * @param defaultCharset the default character set
+     * @param cache          the cache of loaded assets, or null to load assets on every request
+     * @param precompressed  whether precompressed siblings of assets should be served
+     * @see #AssetServlet(String, String, String, Charset, AssetCache)
+     */
+    public AssetServlet(String resourcePath,
+                        String uriPath,
+                        @Nullable String indexFile,
+                        @Nullable Charset defaultCharset,
+                        @Nullable AssetCache cache,
+                        boolean precompressed) {
         final String trimmedPath = SLASHES.trimFrom(resourcePath);
         this.resourcePath = trimmedPath.isEmpty() ? trimmedPath : trimmedPath + '/';
         final String trimmedUri = SLASHES.trimTrailingFrom(uriPath);
         this.uriPath = trimmedUri.isEmpty() ? "/" : trimmedUri;
         this.indexFile = indexFile;
         this.defaultCharset = defaultCharset;
+        this.cache = cache;
+        this.precompressed = precompressed;
     }
 
     public URL getResourceURL() {
@@ -103,6 +207,15 @@ public class AssetServlet extends HttpServlet {
         return indexFile;
     }
 
+    @Nullable
+    public AssetCache getCache() {
+        return cache;
+    }
+
+    public boolean isPrecompressed() {
+        return precompressed;
+    }
+
     @Override
     protected void doGet(HttpServletRequest req,
                          HttpServletResponse resp) throws ServletException, IOException {
@@ -111,12 +224,29 @@ public class AssetServlet extends HttpServlet {
             if (req.getPathInfo() != null) {
                 builder.append(req.getPathInfo());
             }
-            final CachedAsset cachedAsset = loadAsset(builder.toString());
+            final String key = builder.toString();
+            CachedAsset cachedAsset = getAsset(key);
             if (cachedAsset == null) {
                 resp.sendError(HttpServletResponse.SC_NOT_FOUND);
                 return;
             }
 
+            String contentEncoding = null;
+            if (precompressed) {
+                resp.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                final String acceptEncoding = req.getHeader(HttpHeaders.ACCEPT_ENCODING);
+                if (acceptEncoding != null) {
+                    for (String encoding : PRECOMPRESSED_EXTENSIONS.keySet()) {
+                        final CachedAsset variant = cachedAsset.getVariant(encoding);
+                        if (variant != null && acceptsEncoding(acceptEncoding, encoding)) {
+                            cachedAsset = variant;
+                            contentEncoding = encoding;
+                            break;
+                        }
+                    }
+                }
+            }
+
             if (isCachedClientSide(req, cachedAsset)) {
                 resp.sendError(HttpServletResponse.SC_NOT_MODIFIED);
                 return;
@@ -185,6 +315,15 @@ public class AssetServlet extends HttpServlet {
                 resp.setCharacterEncoding(mediaType.charset().get().toString());
             }
 
+            if (contentEncoding != null) {
+                resp.setHeader(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+            }
+
+            if (!usingRanges) {
+                // lets the container send the asset in one go instead of buffering or chunking it
+                resp.setContentLength(resourceLength);
+            }
+
             try (ServletOutputStream output = resp.getOutputStream()) {
                 if (usingRanges) {
                     for (ByteRange range : ranges) {
@@ -200,41 +339,117 @@ public class AssetServlet extends HttpServlet {
         }
     }
 
+    @Nullable
+    private CachedAsset getAsset(String key) throws URISyntaxException, IOException {
+        if (cache == null) {
+            return loadAsset(key);
+        }
+
+        final CachedAsset cachedAsset = cache.getIfPresent(key);
+        if (cachedAsset != null) {
+            return cachedAsset;
+        }
+
+        final CachedAsset loadedAsset = loadAsset(key);
+        if (loadedAsset != null) {
+            cache.put(key, loadedAsset);
+        }
+        return loadedAsset;
+    }
+
     @Nullable
     private CachedAsset loadAsset(String key) throws URISyntaxException, IOException {
         checkArgument(key.startsWith(uriPath));
         final String requestedResourcePath = SLASHES.trimFrom(key.substring(uriPath.length()));
         final String absoluteRequestedResourcePath = SLASHES.trimFrom(this.resourcePath + requestedResourcePath);
 
-        URL requestedResourceURL = getResourceUrl(absoluteRequestedResourcePath);
+        String resolvedResourcePath = absoluteRequestedResourcePath;
+        URL requestedResourceURL = getResourceUrl(resolvedResourcePath);
         if (ResourceURL.isDirectory(requestedResourceURL)) {
             if (indexFile != null) {
-                requestedResourceURL = getResourceUrl(absoluteRequestedResourcePath + '/' + indexFile);
+                resolvedResourcePath = absoluteRequestedResourcePath + '/' + indexFile;
+                requestedResourceURL = getResourceUrl(resolvedResourcePath);
             } else {
                 // directory requested but no index file defined
                 return null;
             }
         }
 
-        long lastModified = ResourceURL.getLastModified(requestedResourceURL);
+        // the variants are looked up once, so that an asset without any is cached as such
+        final ImmutableMap.Builder<String, CachedAsset> variants = ImmutableMap.builder();
+        if (precompressed) {
+            for (Map.Entry<String, String> encoding : PRECOMPRESSED_EXTENSIONS.entrySet()) {
+                final URL variantURL = findResourceUrl(resolvedResourcePath + encoding.getValue());
+                if (variantURL != null) {
+                    variants.put(encoding.getKey(), loadAsset(variantURL, ImmutableMap.of()));
+                }
+            }
+        }
+        return loadAsset(requestedResourceURL, variants.build());
+    }
+
+    private CachedAsset loadAsset(URL resourceURL, ImmutableMap<String, CachedAsset> variants) throws IOException {
+        long lastModified = ResourceURL.getLastModified(resourceURL);
         if (lastModified < 1) {
             // Something went wrong trying to get the last modified time: just use the current time
             lastModified = System.currentTimeMillis();
         }
 
+        return new CachedAsset(resourceURL, readResource(resourceURL), truncateToSeconds(lastModified), variants);
+    }
+
+    private static long truncateToSeconds(long lastModified) {
         // zero out the millis since the date we get back from If-Modified-Since will not have them
-        lastModified = (lastModified / 1000) * 1000;
-        return new CachedAsset(readResource(requestedResourceURL), lastModified);
+        return (lastModified / 1000) * 1000;
     }
 
     protected URL getResourceUrl(String absoluteRequestedResourcePath) {
         return Resources.getResource(absoluteRequestedResourcePath);
     }
 
+    /**
+     * Looks up an optional resource, such as a precompressed variant of an asset.
+     *
+     * @param absoluteRequestedResourcePath the path of the resource
+     * @return the URL of the resource, or null if it doesn't exist
+     */
+    @Nullable
+    protected URL findResourceUrl(String absoluteRequestedResourcePath) {
+        final ClassLoader classLoader = MoreObjects.firstNonNull(Thread.currentThread().getContextClassLoader(),
+                AssetServlet.class.getClassLoader());
+        return classLoader.getResource(absoluteRequestedResourcePath);
+    }
+
     protected byte[] readResource(URL requestedResourceURL) throws IOException {
         return Resources.toByteArray(requestedResourceURL);
     }
 
+    /**
+     * Checks whether a given Accept-Encoding header accepts the given content coding.
+     *
+     * @param acceptEncoding Accept-Encoding header to check
+     * @param encoding the content coding, e.g. {@code gzip}
+     * @return whether the content coding is acceptable
+     */
+    private static boolean acceptsEncoding(String acceptEncoding, String encoding) {
+        for (String coding : Splitter.on(',').trimResults().omitEmptyStrings().split(acceptEncoding)) {
+            final List<String> parts = Splitter.on(';').trimResults().splitToList(coding);
+            if (encoding.equalsIgnoreCase(parts.get(0))) {
+                for (String parameter : parts.subList(1, parts.size())) {
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            return Double.parseDouble(parameter.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean isCachedClientSide(HttpServletRequest req, CachedAsset cachedAsset) {
         return cachedAsset.getETag().equals(req.getHeader(HttpHeaders.IF_NONE_MATCH)) ||
                 (req.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE) >= cachedAsset.getLastModifiedTime());
@@ -0,0 +1,185 @@
+package io.dropwizard.servlets;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableSet;
+import io.dropwizard.util.Duration;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConcurrencyLimitFilterTest {
+    private static final String PREFIX = "io.dropwizard.servlets.ConcurrencyLimitFilter.test.";
+
+    private final HttpServletRequest request = mock(HttpServletRequest.class);
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+    private final FilterChain chain = mock(FilterChain.class);
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+
+    private final ConcurrencyLimitFilter filter =
+            new ConcurrencyLimitFilter(metricRegistry, "test", 2, 1, 4, 0.5, Duration.milliseconds(100));
+
+    @Test
+    public void rejectsRequestsOverTheLimit() throws Exception {
+        final HttpServletResponse secondResponse = mock(HttpServletResponse.class);
+        final HttpServletResponse rejectedResponse = mock(HttpServletResponse.class);
+        final FilterChain secondChain = mock(FilterChain.class);
+        doAnswer(invocation -> {
+            filter.doFilter(request, secondResponse, secondChain);
+            return null;
+        }).when(chain).doFilter(request, response);
+        doAnswer(invocation -> {
+            filter.doFilter(request, rejectedResponse, mock(FilterChain.class));
+            return null;
+        }).when(secondChain).doFilter(request, secondResponse);
+
+        filter.doFilter(request, response, chain);
+
+        verify(response, never()).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(secondResponse, never()).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(rejectedResponse).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(metricRegistry.meter(PREFIX + "rejected").getCount())
+                .isEqualTo(1);
+        assertThat(filter.getInflight())
+                .isZero();
+    }
+
+    @Test
+    public void increasesTheLimitAfterFastRequests() throws Exception {
+        filter.setCurrentTimeProvider(() -> 0L);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(filter.getLimit())
+                .isEqualTo(3);
+        assertThat(metricRegistry.getGauges())
+                .hasEntrySatisfying(PREFIX + "limit", gauge -> assertThat(gauge.getValue()).isEqualTo(3));
+    }
+
+    @Test
+    public void onlyIncreasesTheLimitWhenHalfOfItIsUsed() throws Exception {
+        filter.setCurrentTimeProvider(() -> 0L);
+
+        for (int i = 0; i < 10; i++) {
+            filter.doFilter(request, response, chain);
+        }
+
+        assertThat(filter.getLimit())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void neverExceedsTheMaximumLimit() throws Exception {
+        final ConcurrencyLimitFilter saturated =
+                new ConcurrencyLimitFilter(new MetricRegistry(), "saturated", 1, 1, 1, 0.5, Duration.seconds(1));
+        saturated.setCurrentTimeProvider(() -> 0L);
+
+        saturated.doFilter(request, response, chain);
+
+        assertThat(saturated.getLimit())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void decreasesTheLimitAfterSlowRequests() throws Exception {
+        filter.setCurrentTimeProvider(() -> 0L);
+        doAnswer(invocation -> {
+            filter.setCurrentTimeProvider(() -> Duration.milliseconds(101).toNanoseconds());
+            return null;
+        }).when(chain).doFilter(request, response);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(filter.getLimit())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void decreasesTheLimitOnceForABurstOfSlowRequests() throws Exception {
+        final ConcurrencyLimitFilter burst =
+                new ConcurrencyLimitFilter(new MetricRegistry(), "burst", 20, 1, 100, 0.5, Duration.milliseconds(100));
+        final AtomicLong time = new AtomicLong();
+        burst.setCurrentTimeProvider(time::get);
+        final AtomicInteger admitted = new AtomicInteger();
+        doAnswer(invocation -> {
+            // nests the requests, so that they are all in flight before the first one completes
+            if (admitted.incrementAndGet() < 10) {
+                burst.doFilter(request, response, chain);
+            } else {
+                time.set(Duration.milliseconds(101).toNanoseconds());
+            }
+            return null;
+        }).when(chain).doFilter(request, response);
+
+        burst.doFilter(request, response, chain);
+
+        assertThat(burst.getLimit())
+                .isEqualTo(10);
+    }
+
+    @Test
+    public void decreasesTheLimitAgainAfterASlowRequestAdmittedUnderTheNewLimit() throws Exception {
+        final AtomicLong time = new AtomicLong();
+        final ConcurrencyLimitFilter slow =
+                new ConcurrencyLimitFilter(new MetricRegistry(), "slow", 4, 1, 4, 0.5, Duration.milliseconds(100));
+        slow.setCurrentTimeProvider(time::get);
+        doAnswer(invocation -> time.addAndGet(Duration.milliseconds(101).toNanoseconds()))
+                .when(chain).doFilter(request, response);
+
+        slow.doFilter(request, response, chain);
+        slow.doFilter(request, response, chain);
+
+        assertThat(slow.getLimit())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void ignoresTheExcludedPaths() throws Exception {
+        final ConcurrencyLimitFilter excluding = new ConcurrencyLimitFilter(new MetricRegistry(), "excluding",
+                1, 1, 4, 0.5, Duration.milliseconds(100), ImmutableSet.of("/events/"));
+        when(request.getContextPath()).thenReturn("/app");
+        when(request.getRequestURI()).thenReturn("/app/events/stream");
+        doAnswer(invocation -> {
+            excluding.doFilter(request, response, mock(FilterChain.class));
+            return null;
+        }).when(chain).doFilter(request, response);
+
+        excluding.doFilter(request, response, chain);
+
+        verify(response, never()).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(excluding.getLimit())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void releasesAsyncRequestsOnceCompleted() throws Exception {
+        final AsyncContext asyncContext = mock(AsyncContext.class);
+        when(request.isAsyncStarted()).thenReturn(true);
+        when(request.getAsyncContext()).thenReturn(asyncContext);
+
+        filter.doFilter(request, response, chain);
+        assertThat(filter.getInflight())
+                .isEqualTo(1);
+
+        final ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(asyncContext).addListener(listener.capture());
+        listener.getValue().onComplete(new AsyncEvent(asyncContext));
+
+        assertThat(filter.getInflight())
+                .isZero();
+    }
+}
@@ -1,5 +1,6 @@
 package io.dropwizard.servlets.assets;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.net.HttpHeaders;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpTester;
@@ -12,7 +13,12 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -20,6 +26,9 @@ public class AssetServletTest {
     private static final String DUMMY_SERVLET = "/dummy_servlet/";
     private static final String NOINDEX_SERVLET = "/noindex_servlet/";
     private static final String NOCHARSET_SERVLET = "/nocharset_servlet/";
+    private static final String CACHING_SERVLET = "/caching_servlet/";
+    private static final String PRECOMPRESSED_SERVLET = "/precompressed_servlet/";
+    private static final String CACHING_PRECOMPRESSED_SERVLET = "/caching_precompressed_servlet/";
     private static final String ROOT_SERVLET = "/";
     private static final String RESOURCE_PATH = "/assets";
 
@@ -57,6 +66,47 @@ public class AssetServletTest {
         }
     }
 
+    public static class CachingAssetServlet extends AssetServlet {
+        private static final long serialVersionUID = 1L;
+        private static final AssetCache CACHE = new AssetCache(1024 * 1024, true);
+        private static final AtomicInteger READS = new AtomicInteger();
+
+        public CachingAssetServlet() {
+            super(RESOURCE_PATH, CACHING_SERVLET, "index.htm", StandardCharsets.UTF_8, CACHE);
+        }
+
+        @Override
+        protected byte[] readResource(URL requestedResourceURL) throws IOException {
+            READS.incrementAndGet();
+            return super.readResource(requestedResourceURL);
+        }
+    }
+
+    public static class PrecompressedAssetServlet extends AssetServlet {
+        private static final long serialVersionUID = 1L;
+
+        public PrecompressedAssetServlet() {
+            super(RESOURCE_PATH, PRECOMPRESSED_SERVLET, "index.htm", StandardCharsets.UTF_8, null, true);
+        }
+    }
+
+    public static class CachingPrecompressedAssetServlet extends AssetServlet {
+        private static final long serialVersionUID = 1L;
+        private static final AssetCache CACHE = new AssetCache(1024 * 1024, false);
+        private static final AtomicInteger LOOKUPS = new AtomicInteger();
+
+        public CachingPrecompressedAssetServlet() {
+            super(RESOURCE_PATH, CACHING_PRECOMPRESSED_SERVLET, "index.htm", StandardCharsets.UTF_8, CACHE, true);
+        }
+
+        @Override
+        @Nullable
+        protected URL findResourceUrl(String absoluteRequestedResourcePath) {
+            LOOKUPS.incrementAndGet();
+            return super.findResourceUrl(absoluteRequestedResourcePath);
+        }
+    }
+
     private static final ServletTester SERVLET_TESTER = new ServletTester();
     private final HttpTester.Request request = HttpTester.newRequest();
     @Nullable
@@ -67,6 +117,9 @@ public class AssetServletTest {
         SERVLET_TESTER.addServlet(DummyAssetServlet.class, DUMMY_SERVLET + '*');
         SERVLET_TESTER.addServlet(NoIndexAssetServlet.class, NOINDEX_SERVLET + '*');
         SERVLET_TESTER.addServlet(NoCharsetAssetServlet.class, NOCHARSET_SERVLET + '*');
+        SERVLET_TESTER.addServlet(CachingAssetServlet.class, CACHING_SERVLET + '*');
+        SERVLET_TESTER.addServlet(PrecompressedAssetServlet.class, PRECOMPRESSED_SERVLET + '*');
+        SERVLET_TESTER.addServlet(CachingPrecompressedAssetServlet.class, CACHING_PRECOMPRESSED_SERVLET + '*');
         SERVLET_TESTER.addServlet(RootAssetServlet.class, ROOT_SERVLET + '*');
         SERVLET_TESTER.start();
 
@@ -453,4 +506,120 @@ public class AssetServletTest {
         assertThat(response.getStatus())
                 .isEqualTo(200);
     }
+
+    @Test
+    public void servesCachedAssetsWithoutReadingThemAgain() throws Exception {
+        CachingAssetServlet.CACHE.invalidateAll();
+        final int reads = CachingAssetServlet.READS.get();
+
+        request.setURI(CACHING_SERVLET + "example.txt");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        final String firstEtag = response.get(HttpHeaders.ETAG);
+
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.getContent())
+                .isEqualTo("HELLO THERE");
+        assertThat(response.get(HttpHeaders.ETAG))
+                .isEqualTo(firstEtag);
+
+        assertThat(CachingAssetServlet.READS.get() - reads)
+                .isEqualTo(1);
+        assertThat(CachingAssetServlet.CACHE.size())
+                .isEqualTo(1);
+        assertThat(CachingAssetServlet.CACHE.stats().hitCount())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void doesNotCacheMissingAssets() throws Exception {
+        CachingAssetServlet.CACHE.invalidateAll();
+
+        request.setURI(CACHING_SERVLET + "doesnotexist.txt");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(404);
+        assertThat(CachingAssetServlet.CACHE.size())
+                .isEqualTo(0);
+    }
+
+    @Test
+    public void setsTheContentLength() throws Exception {
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.get(HttpHeaders.CONTENT_LENGTH))
+                .isEqualTo("11");
+    }
+
+    @Test
+    public void servesPrecompressedAssetsToAcceptingClients() throws Exception {
+        request.setURI(PRECOMPRESSED_SERVLET + "example.txt");
+        request.setHeader(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.get(HttpHeaders.CONTENT_ENCODING))
+                .isEqualTo("gzip");
+        assertThat(response.get(HttpHeaders.VARY))
+                .isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(MimeTypes.CACHE.get(response.get(HttpHeader.CONTENT_TYPE)))
+                .isEqualTo(MimeTypes.Type.TEXT_PLAIN_UTF_8);
+
+        final byte[] content = ByteStreams.toByteArray(
+                new GZIPInputStream(new ByteArrayInputStream(response.getContentBytes())));
+        assertThat(new String(content, StandardCharsets.UTF_8))
+                .isEqualTo("HELLO THERE");
+    }
+
+    @Test
+    public void doesNotServePrecompressedAssetsToRefusingClients() throws Exception {
+        request.setURI(PRECOMPRESSED_SERVLET + "example.txt");
+        request.setHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.get(HttpHeaders.CONTENT_ENCODING))
+                .isNull();
+        assertThat(response.getContent())
+                .isEqualTo("HELLO THERE");
+    }
+
+    @Test
+    public void servesUncompressedAssetsWithoutPrecompressedSibling() throws Exception {
+        request.setURI(PRECOMPRESSED_SERVLET + "foo.bar");
+        request.setHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.get(HttpHeaders.CONTENT_ENCODING))
+                .isNull();
+    }
+
+    @Test
+    public void looksUpPrecompressedVariantsOnceWhenCaching() throws Exception {
+        CachingPrecompressedAssetServlet.CACHE.invalidateAll();
+        final int lookups = CachingPrecompressedAssetServlet.LOOKUPS.get();
+
+        for (String uri : new String[]{"example.txt", "foo.bar"}) {
+            request.setURI(CACHING_PRECOMPRESSED_SERVLET + uri);
+            for (String acceptEncoding : new String[]{"gzip", "identity", "br, gzip"}) {
+                request.setHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+                response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+                assertThat(response.getStatus())
+                        .isEqualTo(200);
+                assertThat(response.get(HttpHeaders.CONTENT_ENCODING))
+                        .isEqualTo(uri.equals("example.txt") && acceptEncoding.contains("gzip") ? "gzip" : null);
+            }
+        }
+
+        // one lookup per content coding and asset, whether the variant exists or not
+        assertThat(CachingPrecompressedAssetServlet.LOOKUPS.get() - lookups)
+                .isEqualTo(4);
+        assertThat(CachingPrecompressedAssetServlet.CACHE.size())
+                .isEqualTo(2);
+    }
 }